@@ -0,0 +1,54 @@
+package sumcoda.boardbuddy.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.util.ReflectionUtils;
+import software.amazon.awssdk.services.cloudfront.CloudFrontUtilities;
+import sumcoda.boardbuddy.cache.CloudFrontSignedUrlCache;
+import sumcoda.boardbuddy.config.CloudFrontConfig;
+import sumcoda.boardbuddy.generator.CloudFrontSignedUrlGenerator;
+import sumcoda.boardbuddy.service.CloudFrontSignedUrlService;
+
+import java.lang.reflect.Field;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+
+/**
+ * 벤치마크용 CloudFront 서명 구성 요소 생성
+ * Secrets Manager 대신 로컬에서 생성한 RSA 키로 서명
+ */
+final class BenchmarkFixtures {
+
+    private static final String DOMAIN = "d111111abcdef8.cloudfront.net";
+
+    private static final String KEY_PAIR_ID = "K2JCJMDEHXQW5F";
+
+    private BenchmarkFixtures() {}
+
+    static CloudFrontSignedUrlService createCloudFrontSignedUrlService(int signedUrlCacheMaxSize) throws NoSuchAlgorithmException {
+        CloudFrontConfig cloudFrontConfig = new CloudFrontConfig();
+        setField(cloudFrontConfig, "domain", DOMAIN);
+        setField(cloudFrontConfig, "keyPairId", KEY_PAIR_ID);
+        setField(cloudFrontConfig, "urlExpirationMinutes", 60);
+        setField(cloudFrontConfig, "signedUrlCacheMaxSize", signedUrlCacheMaxSize);
+        setField(cloudFrontConfig, "signedUrlExpirationBucketSeconds", 300L);
+        setField(cloudFrontConfig, "signedUrlRefreshMarginSeconds", 60L);
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        RSAPrivateKey privateKey = (RSAPrivateKey) keyPairGenerator.generateKeyPair().getPrivate();
+
+        return new CloudFrontSignedUrlService(CloudFrontUtilities.create(), privateKey, cloudFrontConfig,
+                new CloudFrontSignedUrlCache(cloudFrontConfig), new SimpleMeterRegistry());
+    }
+
+    static CloudFrontSignedUrlGenerator createCloudFrontSignedUrlGenerator() throws NoSuchAlgorithmException {
+        return new CloudFrontSignedUrlGenerator(createCloudFrontSignedUrlService(10_000));
+    }
+
+    static void setField(Object target, String fieldName, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
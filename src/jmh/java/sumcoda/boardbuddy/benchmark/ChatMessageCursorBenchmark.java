@@ -0,0 +1,49 @@
+package sumcoda.boardbuddy.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.util.Pair;
+import sumcoda.boardbuddy.dto.fetch.ChatMessageItemInfoProjection;
+import sumcoda.boardbuddy.enumerate.ChatMessageCursorDirection;
+import sumcoda.boardbuddy.enumerate.MessageType;
+import sumcoda.boardbuddy.util.ChatMessageUtil;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static sumcoda.boardbuddy.util.ChatMessageUtil.CHAT_MESSAGE_PAGE_SIZE;
+
+/**
+ * 채팅 메세지 커서 생성/파싱 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatMessageCursorBenchmark {
+
+    private List<ChatMessageItemInfoProjection> page;
+
+    private String cursor;
+
+    @Setup
+    public void setUp() {
+        Instant base = Instant.parse("2025-01-01T00:00:00Z");
+        page = new ArrayList<>(CHAT_MESSAGE_PAGE_SIZE + 1);
+        for (int i = 0; i <= CHAT_MESSAGE_PAGE_SIZE; i++) {
+            page.add(new ChatMessageItemInfoProjection((long) 1_000_000 + i, "content", "nickname", null, null,
+                    MessageType.TALK, base.plusMillis(i)));
+        }
+        cursor = ChatMessageUtil.getNextCursor(page, true, ChatMessageCursorDirection.OLDER);
+    }
+
+    @Benchmark
+    public String getNextCursor() {
+        return ChatMessageUtil.getNextCursor(page, true, ChatMessageCursorDirection.OLDER);
+    }
+
+    @Benchmark
+    public Pair<Instant, Long> parseCursor() {
+        return ChatMessageUtil.parseCursor(cursor, ChatMessageCursorDirection.OLDER);
+    }
+}
@@ -0,0 +1,56 @@
+package sumcoda.boardbuddy.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import sumcoda.boardbuddy.dto.client.ChatMessageItemInfoDTO;
+import sumcoda.boardbuddy.dto.client.PageResponseDTO;
+import sumcoda.boardbuddy.dto.fetch.ChatMessageItemInfoProjection;
+import sumcoda.boardbuddy.enumerate.MessageType;
+import sumcoda.boardbuddy.mapper.ChatMessageMapper;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static sumcoda.boardbuddy.util.ChatMessageUtil.CHAT_MESSAGE_PAGE_SIZE;
+
+/**
+ * 채팅 메세지 한 페이지를 클라이언트 DTO로 변환하는 비용
+ * 페이지 안의 작성자 수에 따라 서명할 프로필 이미지 수가 달라짐
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChatMessageMapperBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int distinctAuthors;
+
+    private ChatMessageMapper chatMessageMapper;
+
+    private List<ChatMessageItemInfoProjection> projections;
+
+    @Setup
+    public void setUp() throws Exception {
+        chatMessageMapper = new ChatMessageMapper(BenchmarkFixtures.createCloudFrontSignedUrlGenerator());
+
+        Instant base = Instant.parse("2025-01-01T00:00:00Z");
+        projections = new ArrayList<>(CHAT_MESSAGE_PAGE_SIZE);
+        for (int i = 0; i < CHAT_MESSAGE_PAGE_SIZE; i++) {
+            int author = i % distinctAuthors;
+            projections.add(new ChatMessageItemInfoProjection(
+                    (long) i + 1,
+                    "메세지 내용 " + i,
+                    "nickname" + author,
+                    "profile-" + author + ".png",
+                    author % 4 == 0 ? null : author % 3 + 1,
+                    MessageType.TALK,
+                    base.plusMillis(i * 1_000L)));
+        }
+    }
+
+    @Benchmark
+    public PageResponseDTO<ChatMessageItemInfoDTO> toChatMessagePageResponseDTO() {
+        return chatMessageMapper.toChatMessagePageResponseDTO(projections, true, null);
+    }
+}
@@ -0,0 +1,43 @@
+package sumcoda.boardbuddy.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import sumcoda.boardbuddy.service.CloudFrontSignedUrlService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CloudFront Signed URL 생성 비용
+ * cacheMaxSize=1 이면 매번 RSA 서명(캐시 미스), 10000 이면 캐시 적중 경로를 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CloudFrontSignedUrlBenchmark {
+
+    private static final int REQUEST_KEY_COUNT = 64;
+
+    @Param({"1", "10000"})
+    private int cacheMaxSize;
+
+    private CloudFrontSignedUrlService cloudFrontSignedUrlService;
+
+    private String[] requestKeys;
+
+    private int index;
+
+    @Setup
+    public void setUp() throws Exception {
+        cloudFrontSignedUrlService = BenchmarkFixtures.createCloudFrontSignedUrlService(cacheMaxSize);
+
+        requestKeys = new String[REQUEST_KEY_COUNT];
+        for (int i = 0; i < REQUEST_KEY_COUNT; i++) {
+            requestKeys[i] = "prod/images/profiles/profile-" + i + ".png";
+        }
+    }
+
+    @Benchmark
+    public String generateSignedUrl() {
+        index = (index + 1) % REQUEST_KEY_COUNT;
+        return cloudFrontSignedUrlService.generateSignedUrl(requestKeys[index]);
+    }
+}
@@ -0,0 +1,80 @@
+package sumcoda.boardbuddy.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import sumcoda.boardbuddy.dto.client.CommentInfoDTO;
+import sumcoda.boardbuddy.dto.fetch.CommentInfoProjection;
+import sumcoda.boardbuddy.mapper.CommentMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 프로젝션 목록을 계층 구조 DTO로 변환하는 비용
+ * deep: 하나의 댓글에 답글이 200단계로 이어진 트리, wide: 최상위 댓글 20개에 각각 답글 20개
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CommentMapperBenchmark {
+
+    private static final int DEEP_DEPTH = 200;
+
+    private static final int WIDE_ROOTS = 20;
+
+    private static final int WIDE_CHILDREN = 20;
+
+    private static final int DISTINCT_AUTHORS = 30;
+
+    @Param({"deep", "wide"})
+    private String shape;
+
+    private CommentMapper commentMapper;
+
+    private List<CommentInfoProjection> projections;
+
+    @Setup
+    public void setUp() throws Exception {
+        commentMapper = new CommentMapper(BenchmarkFixtures.createCloudFrontSignedUrlGenerator());
+        projections = "deep".equals(shape) ? buildDeepTree() : buildWideTree();
+    }
+
+    @Benchmark
+    public List<CommentInfoDTO> toCommentInfoDTOList() {
+        return commentMapper.toCommentInfoDTOList(projections);
+    }
+
+    private static List<CommentInfoProjection> buildDeepTree() {
+        List<CommentInfoProjection> result = new ArrayList<>(DEEP_DEPTH);
+        for (long id = 1; id <= DEEP_DEPTH; id++) {
+            result.add(comment(id, id == 1 ? null : id - 1));
+        }
+        return result;
+    }
+
+    private static List<CommentInfoProjection> buildWideTree() {
+        List<CommentInfoProjection> result = new ArrayList<>(WIDE_ROOTS * (WIDE_CHILDREN + 1));
+        long id = 1;
+        for (int root = 0; root < WIDE_ROOTS; root++) {
+            long rootId = id++;
+            result.add(comment(rootId, null));
+            for (int child = 0; child < WIDE_CHILDREN; child++) {
+                result.add(comment(id++, rootId));
+            }
+        }
+        return result;
+    }
+
+    private static CommentInfoProjection comment(long id, Long parentId) {
+        int author = (int) (id % DISTINCT_AUTHORS);
+        return new CommentInfoProjection(
+                id,
+                parentId,
+                "댓글 내용 " + id,
+                LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(id),
+                "nickname" + author,
+                author % 4 == 0 ? null : author % 3 + 1,
+                "profile-" + author + ".png");
+    }
+}
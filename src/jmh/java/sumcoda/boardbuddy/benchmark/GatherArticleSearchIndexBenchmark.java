@@ -0,0 +1,70 @@
+package sumcoda.boardbuddy.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import sumcoda.boardbuddy.cache.GatherArticleSearchIndex;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인메모리 모집글 검색 색인의 검색 지연 시간
+ * 설정 단계에서 합성 모집글로 색인을 만들고, 색인 크기와 힙 사용량을 출력하여 메모리 사용량을 함께 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GatherArticleSearchIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "보드게임", "모임", "카탄", "스플렌더", "초보", "환영", "강남", "홍대", "주말", "저녁",
+            "테라포밍", "마르스", "방탈출", "루미큐브", "할리갈리", "전략", "파티", "게임", "카페", "함께",
+            "아컴호러", "윙스팬", "아그리콜라", "디셉션", "뱅", "다빈치코드", "티켓투라이드", "코드네임", "시타델", "도미니언"
+    };
+
+    @Param({"100000", "1000000"})
+    private int articleCount;
+
+    @Param({"보드게임", "카탄", "스플렌더 초보", "존재하지않는키워드"})
+    private String keyword;
+
+    private GatherArticleSearchIndex gatherArticleSearchIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gatherArticleSearchIndex = new GatherArticleSearchIndex(null);
+        BenchmarkFixtures.setField(gatherArticleSearchIndex, "enabled", true);
+        BenchmarkFixtures.setField(gatherArticleSearchIndex, "maxCandidates", Integer.MAX_VALUE);
+
+        Random random = new Random(42);
+        for (long id = 1; id <= articleCount; id++) {
+            gatherArticleSearchIndex.add(id, sentence(random, 3), sentence(random, 12));
+        }
+        BenchmarkFixtures.setField(gatherArticleSearchIndex, "ready", true);
+
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        System.out.printf("%n[search index] articles=%d bigrams=%d postings=%d heapUsedMB=%d%n",
+                articleCount,
+                gatherArticleSearchIndex.getBigramCount(),
+                gatherArticleSearchIndex.getPostingCount(),
+                (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+    }
+
+    @Benchmark
+    public Optional<List<Long>> search() {
+        return gatherArticleSearchIndex.search(keyword);
+    }
+
+    private static String sentence(Random random, int wordCount) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+}
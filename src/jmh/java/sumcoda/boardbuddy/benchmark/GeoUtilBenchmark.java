@@ -0,0 +1,29 @@
+package sumcoda.boardbuddy.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import sumcoda.boardbuddy.util.GeoUtil;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하버사인 거리 계산 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeoUtilBenchmark {
+
+    // 서울 시청, 강남역 좌표
+    private double lon1 = 126.9780;
+
+    private double lat1 = 37.5665;
+
+    private double lon2 = 127.0276;
+
+    private double lat2 = 37.4979;
+
+    @Benchmark
+    public double calculateDistance() {
+        return GeoUtil.calculateDistance(lon1, lat1, lon2, lat2);
+    }
+}
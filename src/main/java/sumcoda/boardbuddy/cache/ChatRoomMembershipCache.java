@@ -0,0 +1,270 @@
+package sumcoda.boardbuddy.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sumcoda.boardbuddy.dto.fetch.ChatRoomMemberInfoProjection;
+import sumcoda.boardbuddy.repository.memberChatRoom.MemberChatRoomRepository;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static sumcoda.boardbuddy.util.TransactionUtil.runAfterCommit;
+
+/**
+ * 채팅방별 참여자 목록 캐시
+ * 참여자 변경은 커밋 이후 현재 인스턴스에 반영하고, 다른 인스턴스에는 해당 채팅방의 무효화로 중계
+ * 중계가 유실되어도 TTL 이 지나면 DB에서 다시 읽어옴
+ * 참여자 추가는 현재 인스턴스에 바로 반영되고 다른 인스턴스에는 채팅방 무효화로 전달되므로, 참여자가 아니라는 조회 결과도 채팅방 목록과 함께 캐시됨
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomMembershipCache implements LocalCacheEvictionHandler {
+
+    private static final String CACHE_NAME = "chat-room-membership";
+
+    private static final String EVICT = "evict";
+
+    private static final String EVICT_BY_USERNAME = "evictByUsername";
+
+    private static final String EVICT_ALL = "evictAll";
+
+    private final MemberChatRoomRepository memberChatRoomRepository;
+
+    private final LocalCacheEvictionRelay localCacheEvictionRelay;
+
+    // 최대 캐시 채팅방 수, 초과하면 가장 오래 사용되지 않은 채팅방부터 제거
+    @Value("${spring.chat.membership-cache.max-rooms:1000}")
+    private int maxRooms;
+
+    // 채팅방 참여자 목록 유지 시간(초), 놓친 무효화에 대비한 안전장치
+    @Value("${spring.chat.membership-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    // 채팅방 Id → 채팅방 참여자 목록 (접근 순서 LRU)
+    private final Map<Long, ChatRoomMembers> membersByChatRoomId = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, ChatRoomMembers> eldest) {
+            return size() > maxRooms;
+        }
+    };
+
+    // 무효화가 일어날 때마다 증가, 조회 도중 무효화된 결과를 저장하지 않기 위해 사용
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 채팅방 참여자 정보를 닉네임으로 조회
+     * 채팅방이 캐시에 없거나 만료되었을 때만 DB에서 해당 채팅방의 참여자 목록을 다시 읽어옴
+     * 캐시된 채팅방에 없는 사용자는 참여자가 아닌 것으로 보고 채팅방이 무효화되거나 만료될 때까지 DB를 다시 조회하지 않음
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param nickname 사용자 닉네임
+     * @return 채팅방 참여자 정보, 참여자가 아니면 Optional.empty()
+     */
+    public Optional<ChatRoomMemberInfoProjection> findByNickname(Long chatRoomId, String nickname) {
+        ChatRoomMembers members = getIfFresh(chatRoomId);
+        if (members == null) {
+            members = reload(chatRoomId);
+        }
+
+        return Optional.ofNullable(members.byNickname().get(nickname));
+    }
+
+    /**
+     * 채팅방 참여자 정보를 사용자 아이디로 조회
+     * 채팅방이 캐시에 없거나 만료되었을 때만 DB에서 해당 채팅방의 참여자 목록을 다시 읽어옴
+     * 캐시된 채팅방에 없는 사용자는 참여자가 아닌 것으로 보고 채팅방이 무효화되거나 만료될 때까지 DB를 다시 조회하지 않음
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param username 사용자 아이디
+     * @return 채팅방 참여자 정보, 참여자가 아니면 Optional.empty()
+     */
+    public Optional<ChatRoomMemberInfoProjection> findByUsername(Long chatRoomId, String username) {
+        ChatRoomMembers members = getIfFresh(chatRoomId);
+        if (members == null) {
+            members = reload(chatRoomId);
+        }
+
+        return Optional.ofNullable(members.byUsername().get(username));
+    }
+
+    /**
+     * 채팅방에 입장한 사용자를 캐시에 추가
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 반영하며, 아직 캐시되지 않은 채팅방은 다음 조회 시 DB에서 읽어옴
+     * 다른 인스턴스는 해당 채팅방의 캐시를 제거하여 다음 조회 시 DB에서 읽어옴
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param memberInfo 입장한 사용자 정보
+     */
+    public void addMember(Long chatRoomId, ChatRoomMemberInfoProjection memberInfo) {
+        runAfterCommit(() -> {
+            synchronized (membersByChatRoomId) {
+                // 커밋 전에 시작된 조회가 이 사용자가 빠진 목록을 저장하여 참여자가 아닌 것으로 캐시되지 않도록 함
+                generation.incrementAndGet();
+                ChatRoomMembers members = membersByChatRoomId.get(chatRoomId);
+                if (members != null) {
+                    members.byNickname().put(memberInfo.nickname(), memberInfo);
+                    members.byUsername().put(memberInfo.username(), memberInfo);
+                }
+            }
+            localCacheEvictionRelay.publish(CACHE_NAME, EVICT, String.valueOf(chatRoomId));
+        });
+    }
+
+    /**
+     * 채팅방에서 퇴장한 사용자를 캐시에서 제거
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 반영
+     * 다른 인스턴스는 해당 채팅방의 캐시를 제거하여 다음 조회 시 DB에서 읽어옴
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param username 퇴장한 사용자 아이디
+     */
+    public void removeMember(Long chatRoomId, String username) {
+        runAfterCommit(() -> {
+            synchronized (membersByChatRoomId) {
+                generation.incrementAndGet();
+                ChatRoomMembers members = membersByChatRoomId.get(chatRoomId);
+                if (members != null) {
+                    ChatRoomMemberInfoProjection removed = members.byUsername().remove(username);
+                    if (removed != null) {
+                        members.byNickname().remove(removed.nickname());
+                    }
+                }
+            }
+            localCacheEvictionRelay.publish(CACHE_NAME, EVICT, String.valueOf(chatRoomId));
+        });
+    }
+
+    /**
+     * 채팅방의 캐시된 참여자 목록을 제거
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 반영
+     *
+     * @param chatRoomId 채팅방 Id
+     */
+    public void evict(Long chatRoomId) {
+        runAfterCommit(() -> {
+            evictLocally(chatRoomId);
+            localCacheEvictionRelay.publish(CACHE_NAME, EVICT, String.valueOf(chatRoomId));
+        });
+    }
+
+    /**
+     * 특정 사용자가 참여중인 모든 채팅방의 캐시를 제거
+     * 닉네임, 프로필 이미지처럼 캐시에 담긴 사용자 정보가 바뀌었거나 사용자가 탈퇴했을 때 사용
+     *
+     * @param username 사용자 아이디
+     */
+    public void evictByUsername(String username) {
+        runAfterCommit(() -> {
+            evictByUsernameLocally(username);
+            localCacheEvictionRelay.publish(CACHE_NAME, EVICT_BY_USERNAME, username);
+        });
+    }
+
+    /**
+     * 캐시된 모든 채팅방 참여자 목록을 제거
+     * 랭킹 집계처럼 다수 사용자의 정보가 한 번에 바뀌었을 때 사용
+     */
+    public void evictAll() {
+        runAfterCommit(() -> {
+            evictAllLocally();
+            localCacheEvictionRelay.publish(CACHE_NAME, EVICT_ALL);
+        });
+    }
+
+    @Override
+    public String getCacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void applyRemoteEviction(String operation, List<String> arguments) {
+        switch (operation) {
+            case EVICT -> evictLocally(Long.valueOf(arguments.get(0)));
+            case EVICT_BY_USERNAME -> evictByUsernameLocally(arguments.get(0));
+            case EVICT_ALL -> evictAllLocally();
+            default -> throw new IllegalArgumentException("알 수 없는 무효화 종류입니다: " + operation);
+        }
+    }
+
+    public int size() {
+        synchronized (membersByChatRoomId) {
+            return membersByChatRoomId.size();
+        }
+    }
+
+    /**
+     * 만료되지 않은 채팅방 참여자 목록을 조회
+     *
+     * @param chatRoomId 채팅방 Id
+     * @return 채팅방 참여자 목록, 없거나 만료되었으면 null
+     */
+    private ChatRoomMembers getIfFresh(Long chatRoomId) {
+        ChatRoomMembers members;
+        synchronized (membersByChatRoomId) {
+            members = membersByChatRoomId.get(chatRoomId);
+        }
+
+        if (members == null || !Instant.now().isBefore(members.expiration())) {
+            return null;
+        }
+
+        return members;
+    }
+
+    /**
+     * DB에서 채팅방 참여자 목록을 조회하여 캐시를 갱신
+     *
+     * @param chatRoomId 채팅방 Id
+     * @return 갱신된 채팅방 참여자 목록
+     */
+    private ChatRoomMembers reload(Long chatRoomId) {
+        long readGeneration = generation.get();
+        List<ChatRoomMemberInfoProjection> projections = memberChatRoomRepository.findChatRoomMemberInfoProjectionsByChatRoomId(chatRoomId);
+
+        ChatRoomMembers members = new ChatRoomMembers(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), Instant.now().plusSeconds(ttlSeconds));
+        for (ChatRoomMemberInfoProjection projection : projections) {
+            members.byNickname().put(projection.nickname(), projection);
+            members.byUsername().put(projection.username(), projection);
+        }
+
+        synchronized (membersByChatRoomId) {
+            // 조회하는 사이에 무효화가 일어났다면 오래된 결과일 수 있으므로 저장하지 않음
+            if (generation.get() == readGeneration) {
+                membersByChatRoomId.put(chatRoomId, members);
+            }
+        }
+
+        return members;
+    }
+
+    private void evictLocally(Long chatRoomId) {
+        synchronized (membersByChatRoomId) {
+            generation.incrementAndGet();
+            membersByChatRoomId.remove(chatRoomId);
+        }
+    }
+
+    private void evictByUsernameLocally(String username) {
+        synchronized (membersByChatRoomId) {
+            generation.incrementAndGet();
+            membersByChatRoomId.values().removeIf(members -> members.byUsername().containsKey(username));
+        }
+    }
+
+    private void evictAllLocally() {
+        synchronized (membersByChatRoomId) {
+            generation.incrementAndGet();
+            membersByChatRoomId.clear();
+        }
+    }
+
+    private record ChatRoomMembers(Map<String, ChatRoomMemberInfoProjection> byNickname,
+                                   Map<String, ChatRoomMemberInfoProjection> byUsername,
+                                   Instant expiration) {}
+}
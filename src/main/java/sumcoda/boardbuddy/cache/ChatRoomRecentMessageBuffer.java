@@ -0,0 +1,315 @@
+package sumcoda.boardbuddy.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sumcoda.boardbuddy.dto.fetch.ChatMessageItemInfoProjection;
+import sumcoda.boardbuddy.enumerate.ChatBrokerMode;
+import sumcoda.boardbuddy.repository.chatMessage.ChatMessageRepository;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static sumcoda.boardbuddy.util.ChatMessageUtil.CHAT_MESSAGE_PAGE_SIZE;
+import static sumcoda.boardbuddy.util.TransactionUtil.runAfterCommit;
+
+/**
+ * 채팅방별 최근 메세지를 보관하는 링 버퍼
+ * 채팅방 입장 시 최신 페이지와 재연결 시 커서 이후 페이지를 DB 조회 없이 응답하기 위해 사용
+ * 인스턴스 로컬 버퍼이므로 Redis 중계 모드에서는 비활성화
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomRecentMessageBuffer {
+
+    // (전송 시각, Id) 오름차순 정렬 기준
+    private static final Comparator<ChatMessageItemInfoProjection> SENT_AT_ID_ORDER =
+            Comparator.comparing(ChatMessageItemInfoProjection::sentAt)
+                    .thenComparing(ChatMessageItemInfoProjection::id);
+
+    private final ChatMessageRepository chatMessageRepository;
+
+    @Value("${spring.chat.recent-message-buffer.enabled:true}")
+    private boolean enabled;
+
+    // 채팅방별로 보관할 최근 메세지 수
+    @Value("${spring.chat.recent-message-buffer.capacity:200}")
+    private int capacity;
+
+    // 버퍼를 유지할 최대 채팅방 수, 초과하면 가장 오래 사용되지 않은 채팅방부터 제거
+    @Value("${spring.chat.recent-message-buffer.max-rooms:1000}")
+    private int maxRooms;
+
+    @Value("${spring.chat.broker.mode:SIMPLE}")
+    private ChatBrokerMode chatBrokerMode;
+
+    // 채팅방 Id → 최근 메세지 버퍼 (접근 순서 LRU)
+    private final Map<Long, RoomBuffer> buffersByChatRoomId = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, RoomBuffer> eldest) {
+            return size() > maxRooms;
+        }
+    };
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * 사용자가 입장한 이후의 최신 메세지를 버퍼에서 조회
+     * 버퍼가 입장 시각 이후의 메세지를 모두 포함하거나 한 페이지 이상을 가지고 있을 때만 응답
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param joinedAt 사용자가 채팅방에 입장한 시각
+     * @return 최신 N+1개 메세지 (DESC), 버퍼로 응답할 수 없으면 Optional.empty()
+     */
+    public Optional<List<ChatMessageItemInfoProjection>> findInitialMessages(Long chatRoomId, Instant joinedAt) {
+        if (!isActive()) {
+            return Optional.empty();
+        }
+
+        Optional<List<ChatMessageItemInfoProjection>> result = getOrLoad(chatRoomId).findInitialMessages(joinedAt);
+        record(result);
+        return result;
+    }
+
+    /**
+     * 커서 이후의 메세지를 버퍼에서 조회
+     * 커서가 버퍼가 보관중인 범위 안에 있을 때만 응답
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param joinedAt 사용자가 채팅방에 입장한 시각
+     * @param cursorSentAt 기준이 되는 마지막 메세지 전송 시각
+     * @param cursorId 기준이 되는 마지막 메세지 Id
+     * @return 커서 이후 N+1개 메세지 (ASC), 버퍼로 응답할 수 없으면 Optional.empty()
+     */
+    public Optional<List<ChatMessageItemInfoProjection>> findNewerMessages(Long chatRoomId, Instant joinedAt, Instant cursorSentAt, Long cursorId) {
+        if (!isActive()) {
+            return Optional.empty();
+        }
+
+        Optional<List<ChatMessageItemInfoProjection>> result = getOrLoad(chatRoomId).findNewerMessages(joinedAt, cursorSentAt, cursorId);
+        record(result);
+        return result;
+    }
+
+    /**
+     * 새로 발행된 메세지를 버퍼에 추가
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 반영
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param projection 발행된 메세지
+     */
+    public void append(Long chatRoomId, ChatMessageItemInfoProjection projection) {
+        if (!isActive()) {
+            return;
+        }
+
+        runAfterCommit(() -> {
+            RoomBuffer roomBuffer;
+            synchronized (buffersByChatRoomId) {
+                roomBuffer = buffersByChatRoomId.computeIfAbsent(chatRoomId, id -> new RoomBuffer(capacity));
+            }
+            roomBuffer.add(projection);
+        });
+    }
+
+    /**
+     * 특정 닉네임의 메세지를 보관중인 채팅방 버퍼를 제거
+     * 닉네임, 프로필 이미지처럼 메세지에 담긴 작성자 정보가 바뀌었을 때 사용
+     *
+     * @param nickname 변경 전 닉네임
+     */
+    public void evictByNickname(String nickname) {
+        runAfterCommit(() -> {
+            synchronized (buffersByChatRoomId) {
+                buffersByChatRoomId.values().removeIf(roomBuffer -> roomBuffer.containsNickname(nickname));
+            }
+        });
+    }
+
+    /**
+     * 채팅방의 메세지 버퍼를 제거
+     *
+     * @param chatRoomId 채팅방 Id
+     */
+    public void evict(Long chatRoomId) {
+        runAfterCommit(() -> {
+            synchronized (buffersByChatRoomId) {
+                buffersByChatRoomId.remove(chatRoomId);
+            }
+        });
+    }
+
+    /**
+     * 모든 채팅방의 메세지 버퍼를 제거
+     * 랭킹 집계처럼 다수 사용자의 정보가 한 번에 바뀌었을 때 사용
+     */
+    public void evictAll() {
+        runAfterCommit(() -> {
+            synchronized (buffersByChatRoomId) {
+                buffersByChatRoomId.clear();
+            }
+        });
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private boolean isActive() {
+        return enabled && chatBrokerMode == ChatBrokerMode.SIMPLE;
+    }
+
+    private void record(Optional<List<ChatMessageItemInfoProjection>> result) {
+        if (result.isPresent()) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 채팅방 버퍼를 조회하고, 아직 DB에서 최근 메세지를 읽어오지 않았다면 한 번 채움
+     *
+     * @param chatRoomId 채팅방 Id
+     * @return 채팅방 버퍼
+     */
+    private RoomBuffer getOrLoad(Long chatRoomId) {
+        RoomBuffer roomBuffer;
+        synchronized (buffersByChatRoomId) {
+            roomBuffer = buffersByChatRoomId.computeIfAbsent(chatRoomId, id -> new RoomBuffer(capacity));
+        }
+
+        if (!roomBuffer.isLoaded()) {
+            List<ChatMessageItemInfoProjection> recentMessages = chatMessageRepository.findRecentMessagesByChatRoomId(chatRoomId, capacity);
+            roomBuffer.load(recentMessages);
+        }
+
+        return roomBuffer;
+    }
+
+    /**
+     * 한 채팅방의 최근 메세지를 (전송 시각, Id) 오름차순으로 보관
+     * 가장 오래된 메세지 이후의 메세지는 빠짐없이 모두 보관하고 있음을 보장
+     */
+    private static class RoomBuffer {
+
+        private final int capacity;
+
+        private final List<ChatMessageItemInfoProjection> messages = new ArrayList<>();
+
+        // DB에서 최근 메세지를 읽어왔는지 여부, 읽기 전에는 추가된 메세지만 보관하고 조회에는 사용하지 않음
+        private boolean loaded;
+
+        // 채팅방의 모든 메세지를 보관하고 있는지 여부 (용량보다 메세지가 적은 채팅방)
+        private boolean completeHistory;
+
+        private RoomBuffer(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private synchronized boolean isLoaded() {
+            return loaded;
+        }
+
+        private synchronized void load(List<ChatMessageItemInfoProjection> recentMessagesDesc) {
+            if (loaded) {
+                return;
+            }
+
+            // 조회하는 동안 추가된 메세지와 합치고 중복 제거
+            Set<Long> ids = new HashSet<>();
+            messages.forEach(message -> ids.add(message.id()));
+            recentMessagesDesc.stream()
+                    .filter(message -> ids.add(message.id()))
+                    .forEach(messages::add);
+            messages.sort(SENT_AT_ID_ORDER);
+
+            completeHistory = recentMessagesDesc.size() < capacity;
+            trim();
+            loaded = true;
+        }
+
+        private synchronized void add(ChatMessageItemInfoProjection projection) {
+            // 대부분 맨 뒤에 추가되므로 뒤에서부터 삽입 위치를 탐색
+            int index = messages.size();
+            while (index > 0 && SENT_AT_ID_ORDER.compare(messages.get(index - 1), projection) > 0) {
+                index--;
+            }
+            if (index > 0 && Objects.equals(messages.get(index - 1).id(), projection.id())) {
+                return;
+            }
+            messages.add(index, projection);
+            trim();
+        }
+
+        private synchronized boolean containsNickname(String nickname) {
+            return messages.stream().anyMatch(message -> Objects.equals(message.nickname(), nickname));
+        }
+
+        private synchronized Optional<List<ChatMessageItemInfoProjection>> findInitialMessages(Instant joinedAt) {
+            if (!loaded) {
+                return Optional.empty();
+            }
+
+            List<ChatMessageItemInfoProjection> result = new ArrayList<>(CHAT_MESSAGE_PAGE_SIZE + 1);
+            for (int i = messages.size() - 1; i >= 0 && result.size() <= CHAT_MESSAGE_PAGE_SIZE; i--) {
+                ChatMessageItemInfoProjection message = messages.get(i);
+                if (!message.sentAt().isAfter(joinedAt)) {
+                    break;
+                }
+                result.add(message);
+            }
+
+            // 한 페이지를 채우지 못했다면 입장 시각 이전까지 버퍼가 포함하고 있어야 DB 결과와 동일
+            boolean coversJoinedAt = completeHistory || (!messages.isEmpty() && !messages.get(0).sentAt().isAfter(joinedAt));
+            if (result.size() <= CHAT_MESSAGE_PAGE_SIZE && !coversJoinedAt) {
+                return Optional.empty();
+            }
+
+            return Optional.of(result);
+        }
+
+        private synchronized Optional<List<ChatMessageItemInfoProjection>> findNewerMessages(Instant joinedAt, Instant cursorSentAt, Long cursorId) {
+            if (!loaded) {
+                return Optional.empty();
+            }
+
+            // 커서가 버퍼의 가장 오래된 메세지보다 이전이면 사이에 빠진 메세지가 있을 수 있음
+            boolean coversCursor = completeHistory || (!messages.isEmpty() && compareToCursor(messages.get(0), cursorSentAt, cursorId) <= 0);
+            if (!coversCursor) {
+                return Optional.empty();
+            }
+
+            List<ChatMessageItemInfoProjection> result = new ArrayList<>(CHAT_MESSAGE_PAGE_SIZE + 1);
+            for (ChatMessageItemInfoProjection message : messages) {
+                if (result.size() > CHAT_MESSAGE_PAGE_SIZE) {
+                    break;
+                }
+                if (message.sentAt().isAfter(joinedAt) && compareToCursor(message, cursorSentAt, cursorId) > 0) {
+                    result.add(message);
+                }
+            }
+
+            return Optional.of(result);
+        }
+
+        private void trim() {
+            if (messages.size() > capacity) {
+                messages.subList(0, messages.size() - capacity).clear();
+                completeHistory = false;
+            }
+        }
+
+        private static int compareToCursor(ChatMessageItemInfoProjection message, Instant cursorSentAt, Long cursorId) {
+            int compare = message.sentAt().compareTo(cursorSentAt);
+            return compare != 0 ? compare : message.id().compareTo(cursorId);
+        }
+    }
+}
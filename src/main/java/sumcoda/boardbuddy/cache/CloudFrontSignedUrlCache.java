@@ -0,0 +1,104 @@
+package sumcoda.boardbuddy.cache;
+
+import org.springframework.stereotype.Component;
+import sumcoda.boardbuddy.config.CloudFrontConfig;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class CloudFrontSignedUrlCache {
+
+    // LinkedHashMap 초기 용량
+    private static final int INITIAL_CAPACITY = 256;
+
+    // LinkedHashMap 부하 계수
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int maxSize;
+
+    private final long refreshMarginSeconds;
+
+    // 접근 순서(LRU)로 정렬되는 Signed URL 저장소
+    private final Map<String, CachedSignedUrl> cache;
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public CloudFrontSignedUrlCache(CloudFrontConfig cloudFrontConfig) {
+        this.maxSize = cloudFrontConfig.getSignedUrlCacheMaxSize();
+        this.refreshMarginSeconds = cloudFrontConfig.getSignedUrlRefreshMarginSeconds();
+        this.cache = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSignedUrl> eldest) {
+                boolean shouldEvict = size() > maxSize;
+                if (shouldEvict) {
+                    evictionCount.incrementAndGet();
+                }
+                return shouldEvict;
+            }
+        };
+    }
+
+    /**
+     * 리소스 키에 해당하는 Signed URL을 조회
+     * 만료 시각까지 남은 시간이 갱신 여유 시간보다 작으면 캐시 미스로 처리하여 새 URL로 교체되도록 함
+     *
+     * @param requestKey 접근할 객체의 경로 또는 키
+     * @param now 현재 시각
+     * @return 재사용 가능한 Signed URL, 없으면 null
+     */
+    public String get(String requestKey, Instant now) {
+        CachedSignedUrl cachedSignedUrl;
+        synchronized (cache) {
+            cachedSignedUrl = cache.get(requestKey);
+        }
+
+        if (cachedSignedUrl == null || !now.isBefore(cachedSignedUrl.expiration().minusSeconds(refreshMarginSeconds))) {
+            missCount.incrementAndGet();
+            return null;
+        }
+
+        hitCount.incrementAndGet();
+        return cachedSignedUrl.signedUrl();
+    }
+
+    /**
+     * 새로 생성한 Signed URL을 캐시에 저장, 같은 리소스의 이전 URL은 교체
+     * 최대 항목 수를 초과하면 가장 오래 사용되지 않은 항목부터 제거
+     *
+     * @param requestKey 접근할 객체의 경로 또는 키
+     * @param signedUrl 생성된 Signed URL
+     * @param expiration Signed URL 만료 시각
+     */
+    public void put(String requestKey, String signedUrl, Instant expiration) {
+        synchronized (cache) {
+            cache.put(requestKey, new CachedSignedUrl(signedUrl, expiration));
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private record CachedSignedUrl(String signedUrl, Instant expiration) {}
+}
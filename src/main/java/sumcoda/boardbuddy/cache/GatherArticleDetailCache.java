@@ -0,0 +1,187 @@
+package sumcoda.boardbuddy.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sumcoda.boardbuddy.dto.fetch.GatherArticleDetailWithAuthorProjection;
+import sumcoda.boardbuddy.repository.gatherArticle.GatherArticleRepository;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static sumcoda.boardbuddy.util.TransactionUtil.runAfterCommit;
+
+/**
+ * 모집글 Id별 상세 정보와 작성자 정보를 보관하는 read-through 캐시
+ * 프로필 이미지는 S3 객체 이름만 보관하고, Signed URL 은 응답할 때마다 생성
+ * 무효화는 다른 인스턴스에도 중계하며, 중계가 유실되어도 TTL 이 지나면 DB에서 다시 읽어옴
+ */
+@Component
+@RequiredArgsConstructor
+public class GatherArticleDetailCache implements LocalCacheEvictionHandler {
+
+    private static final String CACHE_NAME = "gather-article-detail";
+
+    private static final String EVICT = "evict";
+
+    private static final String EVICT_BY_AUTHOR_NICKNAME = "evictByAuthorNickname";
+
+    private static final String EVICT_ALL = "evictAll";
+
+    private final GatherArticleRepository gatherArticleRepository;
+
+    private final LocalCacheEvictionRelay localCacheEvictionRelay;
+
+    // 최대 캐시 항목 수, 초과하면 가장 오래 사용되지 않은 모집글부터 제거
+    @Value("${spring.gather-article.detail-cache.max-size:10000}")
+    private int maxSize;
+
+    // 캐시 항목 유지 시간(초), 놓친 무효화에 대비한 안전장치
+    @Value("${spring.gather-article.detail-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    // 모집글 Id → 상세 정보 (접근 순서 LRU)
+    private final Map<Long, CachedDetail> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedDetail> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    // 무효화가 일어날 때마다 증가, 조회 도중 무효화된 결과를 저장하지 않기 위해 사용
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * 모집글 상세 정보와 작성자 정보를 조회
+     * 캐시에 없거나 만료되었으면 DB에서 한 번의 쿼리로 읽어와 캐시에 저장
+     *
+     * @param gatherArticleId 모집글 Id
+     * @return 모집글 상세 정보와 작성자 정보, 모집글이 없으면 Optional.empty()
+     */
+    public Optional<GatherArticleDetailWithAuthorProjection> findById(Long gatherArticleId) {
+        Instant now = Instant.now();
+
+        CachedDetail cachedDetail;
+        synchronized (cache) {
+            cachedDetail = cache.get(gatherArticleId);
+        }
+
+        if (cachedDetail != null && now.isBefore(cachedDetail.expiration())) {
+            hitCount.incrementAndGet();
+            return Optional.of(cachedDetail.projection());
+        }
+
+        missCount.incrementAndGet();
+
+        long readGeneration = generation.get();
+        Optional<GatherArticleDetailWithAuthorProjection> projection = gatherArticleRepository.findGatherArticleDetailWithAuthorByGatherArticleId(gatherArticleId);
+
+        projection.ifPresent(loaded -> {
+            synchronized (cache) {
+                // 조회하는 사이에 무효화가 일어났다면 오래된 결과일 수 있으므로 저장하지 않음
+                if (generation.get() == readGeneration) {
+                    cache.put(gatherArticleId, new CachedDetail(loaded, now.plusSeconds(ttlSeconds)));
+                }
+            }
+        });
+
+        return projection;
+    }
+
+    /**
+     * 모집글의 캐시를 제거 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+     *
+     * @param gatherArticleId 모집글 Id
+     */
+    public void evict(Long gatherArticleId) {
+        runAfterCommit(() -> {
+            evictLocally(gatherArticleId);
+            localCacheEvictionRelay.publish(CACHE_NAME, EVICT, String.valueOf(gatherArticleId));
+        });
+    }
+
+    /**
+     * 특정 작성자의 모집글 캐시를 모두 제거 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+     * 닉네임, 자기소개, 프로필 이미지처럼 캐시에 담긴 작성자 정보가 바뀌었을 때 사용
+     *
+     * @param nickname 변경 전 작성자 닉네임
+     */
+    public void evictByAuthorNickname(String nickname) {
+        runAfterCommit(() -> {
+            evictByAuthorNicknameLocally(nickname);
+            localCacheEvictionRelay.publish(CACHE_NAME, EVICT_BY_AUTHOR_NICKNAME, nickname);
+        });
+    }
+
+    /**
+     * 모든 모집글 캐시를 제거 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+     * 랭킹 집계처럼 다수 작성자의 정보가 한 번에 바뀌었을 때 사용
+     */
+    public void evictAll() {
+        runAfterCommit(() -> {
+            evictAllLocally();
+            localCacheEvictionRelay.publish(CACHE_NAME, EVICT_ALL);
+        });
+    }
+
+    @Override
+    public String getCacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void applyRemoteEviction(String operation, List<String> arguments) {
+        switch (operation) {
+            case EVICT -> evictLocally(Long.valueOf(arguments.get(0)));
+            case EVICT_BY_AUTHOR_NICKNAME -> evictByAuthorNicknameLocally(arguments.get(0));
+            case EVICT_ALL -> evictAllLocally();
+            default -> throw new IllegalArgumentException("알 수 없는 무효화 종류입니다: " + operation);
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private void evictLocally(Long gatherArticleId) {
+        synchronized (cache) {
+            generation.incrementAndGet();
+            cache.remove(gatherArticleId);
+        }
+    }
+
+    private void evictByAuthorNicknameLocally(String nickname) {
+        synchronized (cache) {
+            generation.incrementAndGet();
+            cache.values().removeIf(cachedDetail -> Objects.equals(cachedDetail.projection().author().nickname(), nickname));
+        }
+    }
+
+    private void evictAllLocally() {
+        synchronized (cache) {
+            generation.incrementAndGet();
+            cache.clear();
+        }
+    }
+
+    private record CachedDetail(GatherArticleDetailWithAuthorProjection projection, Instant expiration) {}
+}
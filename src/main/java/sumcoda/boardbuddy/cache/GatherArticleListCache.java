@@ -0,0 +1,192 @@
+package sumcoda.boardbuddy.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sumcoda.boardbuddy.dto.GatherArticleResponse;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static sumcoda.boardbuddy.util.TransactionUtil.runAfterCommit;
+
+/**
+ * 지역, 상태, 정렬 조합별 모집글 리스트 첫 페이지 캐시
+ * 모집글 작성, 수정, 삭제, 상태와 참가 인원 변경 시 해당 지역을 포함하는 항목만 제거하고,
+ * 놓친 무효화에 대비하여 짧은 TTL 이 지나면 다시 조회
+ * 무효화는 다른 인스턴스에도 중계
+ */
+@Component
+@RequiredArgsConstructor
+public class GatherArticleListCache implements LocalCacheEvictionHandler {
+
+    private static final String CACHE_NAME = "gather-article-list";
+
+    private static final String EVICT_REGION = "evictRegion";
+
+    private static final String EVICT_ALL = "evictAll";
+
+    private final LocalCacheEvictionRelay localCacheEvictionRelay;
+
+    @Value("${spring.gather-article.list-cache.enabled:true}")
+    private boolean enabled;
+
+    // 캐시 항목 유지 시간(초)
+    @Value("${spring.gather-article.list-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    // 최대 캐시 항목 수, 초과하면 만료된 항목을 정리하고 그래도 가득 차 있으면 저장하지 않음
+    @Value("${spring.gather-article.list-cache.max-entries:1000}")
+    private int maxEntries;
+
+    private final Map<ListKey, CachedList> cache = new ConcurrentHashMap<>();
+
+    // 무효화가 일어날 때마다 증가, 조회 도중 무효화된 결과를 저장하지 않기 위해 사용
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * 모집글 리스트 첫 페이지를 조회
+     *
+     * @param sido 시도
+     * @param sgg 시군구
+     * @param status 모집 상태
+     * @param sort 정렬 기준
+     * @return 캐시된 첫 페이지, 없거나 만료되었으면 Optional.empty()
+     */
+    public Optional<GatherArticleResponse.ReadListDTO> get(String sido, String sgg, String status, String sort) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        ListKey key = new ListKey(sido, sgg, status, sort);
+        CachedList cachedList = cache.get(key);
+        if (cachedList == null || !Instant.now().isBefore(cachedList.expiration())) {
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+
+        hitCount.incrementAndGet();
+        return Optional.of(cachedList.readListDTO());
+    }
+
+    /**
+     * 현재 무효화 세대를 조회
+     * DB 조회 전에 읽어두었다가 저장 시 전달하면, 그 사이에 무효화된 결과는 저장하지 않음
+     *
+     * @return 현재 무효화 세대
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 모집글 리스트 첫 페이지를 저장
+     *
+     * @param sido 시도
+     * @param sgg 시군구
+     * @param status 모집 상태
+     * @param sort 정렬 기준
+     * @param readListDTO 조회된 첫 페이지
+     * @param readGeneration DB 조회 전에 읽은 무효화 세대
+     */
+    public void put(String sido, String sgg, String status, String sort, GatherArticleResponse.ReadListDTO readListDTO, long readGeneration) {
+        if (!enabled) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        if (cache.size() >= maxEntries) {
+            cache.values().removeIf(cachedList -> !now.isBefore(cachedList.expiration()));
+            if (cache.size() >= maxEntries) {
+                return;
+            }
+        }
+
+        cache.put(new ListKey(sido, sgg, status, sort), new CachedList(readListDTO, now.plusSeconds(ttlSeconds)));
+
+        // 저장하는 사이에 무효화가 일어났다면 방금 저장한 항목이 오래된 결과일 수 있으므로 제거
+        if (generation.get() != readGeneration) {
+            cache.remove(new ListKey(sido, sgg, status, sort));
+        }
+    }
+
+    /**
+     * 해당 지역의 모집글을 포함하는 모든 항목을 제거 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+     * 시도나 시군구 필터가 없는 항목도 해당 지역의 모집글을 포함하므로 함께 제거
+     *
+     * @param sido 변경된 모집글의 시도
+     * @param sgg 변경된 모집글의 시군구
+     */
+    public void evictRegion(String sido, String sgg) {
+        runAfterCommit(() -> {
+            evictRegionLocally(sido, sgg);
+            localCacheEvictionRelay.publish(CACHE_NAME, EVICT_REGION, sido, sgg);
+        });
+    }
+
+    /**
+     * 모든 항목을 제거 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+     * 작성자 닉네임, 랭킹처럼 여러 지역의 모집글이 한 번에 바뀌었을 때 사용
+     */
+    public void evictAll() {
+        runAfterCommit(() -> {
+            evictAllLocally();
+            localCacheEvictionRelay.publish(CACHE_NAME, EVICT_ALL);
+        });
+    }
+
+    @Override
+    public String getCacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void applyRemoteEviction(String operation, List<String> arguments) {
+        switch (operation) {
+            case EVICT_REGION -> evictRegionLocally(arguments.get(0), arguments.get(1));
+            case EVICT_ALL -> evictAllLocally();
+            default -> throw new IllegalArgumentException("알 수 없는 무효화 종류입니다: " + operation);
+        }
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private void evictRegionLocally(String sido, String sgg) {
+        generation.incrementAndGet();
+        cache.keySet().removeIf(key -> key.covers(sido, sgg));
+    }
+
+    private void evictAllLocally() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private record ListKey(String sido, String sgg, String status, String sort) {
+
+        private boolean covers(String articleSido, String articleSgg) {
+            return (sido == null || Objects.equals(sido, articleSido))
+                    && (sgg == null || Objects.equals(sgg, articleSgg));
+        }
+    }
+
+    private record CachedList(GatherArticleResponse.ReadListDTO readListDTO, Instant expiration) {}
+}
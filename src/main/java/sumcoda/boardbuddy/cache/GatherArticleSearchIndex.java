@@ -0,0 +1,414 @@
+package sumcoda.boardbuddy.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import sumcoda.boardbuddy.enumerate.LocalCacheSyncMode;
+import sumcoda.boardbuddy.repository.GatherArticleJdbcRepository;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static sumcoda.boardbuddy.util.GatherArticleSearchTokenUtil.MINIMUM_TOKEN_KEYWORD_LENGTH;
+import static sumcoda.boardbuddy.util.GatherArticleSearchTokenUtil.normalize;
+import static sumcoda.boardbuddy.util.TransactionUtil.runAfterCommit;
+
+/**
+ * 모집글 키워드 검색용 인메모리 역색인
+ * 정규화된 제목, 설명의 글자 bigram 마다 모집글 Id 오름차순 int 배열(posting list)을 유지하고,
+ * 검색 시 키워드의 모든 bigram posting 을 교집합하여 후보 Id를 내림차순으로 반환
+ * bigram 이 떨어져 있는 후보도 포함될 수 있으므로 최종 일치 여부는 DB 조건으로 다시 확인해야 함
+ * 만료 없이 시작 시점부터 변경을 누적하므로 다른 인스턴스의 변경을 놓치면 복구할 수 없어,
+ * 로컬 캐시 동기화 모드가 REDIS(다중 인스턴스)이면 비활성화하고 FULLTEXT 색인으로 검색
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GatherArticleSearchIndex {
+
+    private final GatherArticleJdbcRepository gatherArticleJdbcRepository;
+
+    @Value("${spring.gather-article.search-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${spring.local-cache.sync.mode:LOCAL}")
+    private LocalCacheSyncMode syncMode;
+
+    // 후보가 이 수보다 많으면 인메모리 색인 대신 FULLTEXT 색인으로 검색
+    // 후보 Id는 그대로 IN 조건으로 전달되므로 한 페이지 조회에 부담이 없는 수로 제한
+    @Value("${spring.gather-article.search-index.max-candidates:500}")
+    private int maxCandidates;
+
+    // 삭제 표시된 모집글이 이 수에 도달하면 모든 posting list 에서 제거하여 색인을 압축
+    @Value("${spring.gather-article.search-index.compact-threshold:1000}")
+    private int compactThreshold;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // bigram((첫 글자 << 16) | 두 번째 글자) → 모집글 Id posting list
+    private final Map<Integer, IntPostingList> postingsByBigram = new HashMap<>();
+
+    // 삭제된 모집글 Id, posting list 에서 바로 지우지 않고 검색 시 제외하다가 압축할 때 제거
+    private final BitSet deletedIds = new BitSet();
+
+    // posting list 에 남아있는 삭제된 모집글 수
+    private int deletedCount;
+
+    private volatile boolean ready;
+
+    /**
+     * 애플리케이션 시작 후 DB의 모든 모집글을 스트리밍으로 읽어 색인을 생성
+     * 생성이 끝나기 전까지의 검색은 FULLTEXT 색인으로 처리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!isActive()) {
+            return;
+        }
+
+        Thread builder = new Thread(this::build, "gather-article-search-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * 키워드의 모든 bigram 을 포함하는 모집글 Id를 내림차순으로 조회
+     *
+     * @param keyword 검색 키워드
+     * @return 후보 모집글 Id 목록 (내림차순), 색인을 사용할 수 없거나 후보가 너무 많으면 Optional.empty()
+     */
+    public Optional<List<Long>> search(String keyword) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        int[] bigrams = toBigrams(normalize(keyword));
+        if (bigrams.length == 0) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            IntPostingList[] postings = new IntPostingList[bigrams.length];
+            for (int i = 0; i < bigrams.length; i++) {
+                IntPostingList posting = postingsByBigram.get(bigrams[i]);
+                if (posting == null) {
+                    return Optional.of(List.of());
+                }
+                postings[i] = posting;
+            }
+
+            // 가장 짧은 posting list 를 기준으로 나머지에서 이진 탐색
+            Arrays.sort(postings, Comparator.comparingInt(IntPostingList::size));
+
+            List<Long> result = new ArrayList<>();
+            IntPostingList smallest = postings[0];
+            for (int i = smallest.size() - 1; i >= 0; i--) {
+                int id = smallest.get(i);
+                if (deletedIds.get(id) || !containedInAll(postings, id)) {
+                    continue;
+                }
+                if (result.size() >= maxCandidates) {
+                    return Optional.empty();
+                }
+                result.add((long) id);
+            }
+
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 새 모집글을 색인에 추가 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+     *
+     * @param gatherArticleId 모집글 Id
+     * @param title 제목
+     * @param description 설명
+     */
+    public void add(Long gatherArticleId, String title, String description) {
+        if (!isActive()) {
+            return;
+        }
+
+        runAfterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                addPostings(Math.toIntExact(gatherArticleId), title, description);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 수정된 모집글의 색인을 갱신 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+     * 이전 제목, 설명에만 있던 bigram 에서 제거하고 새 bigram 에 추가
+     *
+     * @param gatherArticleId 모집글 Id
+     * @param oldTitle 수정 전 제목
+     * @param oldDescription 수정 전 설명
+     * @param newTitle 수정 후 제목
+     * @param newDescription 수정 후 설명
+     */
+    public void update(Long gatherArticleId, String oldTitle, String oldDescription, String newTitle, String newDescription) {
+        if (!isActive()) {
+            return;
+        }
+
+        runAfterCommit(() -> {
+            int id = Math.toIntExact(gatherArticleId);
+            Set<Integer> newBigrams = collectBigrams(newTitle, newDescription);
+
+            lock.writeLock().lock();
+            try {
+                for (Integer bigram : collectBigrams(oldTitle, oldDescription)) {
+                    if (newBigrams.contains(bigram)) {
+                        continue;
+                    }
+                    IntPostingList posting = postingsByBigram.get(bigram);
+                    if (posting != null) {
+                        posting.remove(id);
+                        if (posting.size() == 0) {
+                            postingsByBigram.remove(bigram);
+                        }
+                    }
+                }
+                for (Integer bigram : newBigrams) {
+                    postingsByBigram.computeIfAbsent(bigram, key -> new IntPostingList()).add(id);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 삭제된 모집글을 검색 결과에서 제외 (트랜잭션 안에서 호출되면 커밋 이후 반영)
+     * 삭제된 모집글이 압축 기준에 도달하면 posting list 에서 제거
+     *
+     * @param gatherArticleId 모집글 Id
+     */
+    public void remove(Long gatherArticleId) {
+        if (!isActive()) {
+            return;
+        }
+
+        runAfterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                int id = Math.toIntExact(gatherArticleId);
+                if (!deletedIds.get(id)) {
+                    deletedIds.set(id);
+                    deletedCount++;
+                }
+
+                // 색인 생성 중에 삭제 표시를 지우면 아직 읽지 않은 삭제된 모집글이 다시 추가되므로 생성 이후에만 압축
+                if (ready && deletedCount >= compactThreshold) {
+                    compact();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 단일 인스턴스(로컬 캐시 동기화 모드 LOCAL)에서만 색인을 사용
+     *
+     * @return 색인 사용 여부
+     */
+    public boolean isActive() {
+        return enabled && syncMode == LocalCacheSyncMode.LOCAL;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getBigramCount() {
+        lock.readLock().lock();
+        try {
+            return postingsByBigram.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getDeletedCount() {
+        lock.readLock().lock();
+        try {
+            return deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getPostingCount() {
+        lock.readLock().lock();
+        try {
+            return postingsByBigram.values().stream().mapToLong(IntPostingList::size).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void build() {
+        long startMillis = System.currentTimeMillis();
+        try {
+            int[] count = new int[1];
+            gatherArticleJdbcRepository.streamSearchTexts((gatherArticleId, title, description) -> {
+                lock.writeLock().lock();
+                try {
+                    addPostings(Math.toIntExact(gatherArticleId), title, description);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                count[0]++;
+            });
+
+            ready = true;
+            log.info("[모집글 검색 색인] 생성 완료 | 모집글 수={} | bigram 수={} | 소요 시간={}ms",
+                    count[0], getBigramCount(), System.currentTimeMillis() - startMillis);
+        } catch (Exception e) {
+            log.error("[모집글 검색 색인] 생성 실패, FULLTEXT 색인으로 검색 | 원인={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 삭제된 모집글을 모든 posting list 에서 제거하고 삭제 표시를 비움 (쓰기 잠금을 잡은 상태에서 호출)
+     * 모집글 Id는 재사용되지 않으므로 삭제 표시를 비워도 삭제된 모집글이 다시 색인되지 않음
+     */
+    private void compact() {
+        long startMillis = System.currentTimeMillis();
+        int compactedCount = deletedCount;
+
+        Iterator<IntPostingList> postings = postingsByBigram.values().iterator();
+        while (postings.hasNext()) {
+            IntPostingList posting = postings.next();
+            posting.removeAll(deletedIds);
+            if (posting.size() == 0) {
+                postings.remove();
+            }
+        }
+        deletedIds.clear();
+        deletedCount = 0;
+
+        log.info("[모집글 검색 색인] 압축 완료 | 제거한 모집글 수={} | bigram 수={} | 소요 시간={}ms",
+                compactedCount, postingsByBigram.size(), System.currentTimeMillis() - startMillis);
+    }
+
+    private void addPostings(int id, String title, String description) {
+        if (deletedIds.get(id)) {
+            return;
+        }
+        for (Integer bigram : collectBigrams(title, description)) {
+            postingsByBigram.computeIfAbsent(bigram, key -> new IntPostingList()).add(id);
+        }
+    }
+
+    private static boolean containedInAll(IntPostingList[] postings, int id) {
+        for (int i = 1; i < postings.length; i++) {
+            if (!postings[i].contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 제목과 설명의 경계를 넘는 bigram 은 만들지 않음
+    private static Set<Integer> collectBigrams(String title, String description) {
+        Set<Integer> bigrams = new HashSet<>();
+        for (int bigram : toBigrams(normalize(title))) {
+            bigrams.add(bigram);
+        }
+        for (int bigram : toBigrams(normalize(description))) {
+            bigrams.add(bigram);
+        }
+        return bigrams;
+    }
+
+    private static int[] toBigrams(String normalizedText) {
+        if (normalizedText.length() < MINIMUM_TOKEN_KEYWORD_LENGTH) {
+            return new int[0];
+        }
+
+        int[] bigrams = new int[normalizedText.length() - 1];
+        for (int i = 0; i < bigrams.length; i++) {
+            bigrams[i] = (normalizedText.charAt(i) << 16) | normalizedText.charAt(i + 1);
+        }
+        return bigrams;
+    }
+
+    /**
+     * 오름차순으로 정렬된 중복 없는 int 배열
+     * Id가 대부분 증가하는 순서로 추가되므로 추가는 보통 배열 끝에 붙이는 것으로 끝남
+     */
+    private static class IntPostingList {
+
+        private int[] ids = new int[4];
+
+        private int size;
+
+        private int size() {
+            return size;
+        }
+
+        private int get(int index) {
+            return ids[index];
+        }
+
+        private boolean contains(int id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        private void add(int id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                int index = Arrays.binarySearch(ids, 0, size, id);
+                if (index >= 0) {
+                    return;
+                }
+                insertAt(-index - 1, id);
+                return;
+            }
+            insertAt(size, id);
+        }
+
+        private void remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+        }
+
+        private void removeAll(BitSet removedIds) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (!removedIds.get(ids[i])) {
+                    ids[kept++] = ids[i];
+                }
+            }
+            size = kept;
+
+            // 크게 줄어든 배열은 다시 할당하여 메모리를 돌려줌
+            if (ids.length > 4 && size < ids.length / 4) {
+                ids = Arrays.copyOf(ids, Math.max(4, size));
+            }
+        }
+
+        private void insertAt(int index, int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package sumcoda.boardbuddy.cache;
+
+import java.util.List;
+
+/**
+ * 다른 인스턴스에서 중계된 무효화를 적용하는 인스턴스 로컬 캐시
+ */
+public interface LocalCacheEvictionHandler {
+
+    /**
+     * @return 무효화 메세지에 담기는 캐시 이름
+     */
+    String getCacheName();
+
+    /**
+     * 다른 인스턴스에서 중계된 무효화를 현재 인스턴스의 캐시에 바로 반영
+     * 이미 커밋된 변경에 대한 무효화이므로 트랜잭션을 기다리지 않고, 다시 중계하지도 않음
+     *
+     * @param operation 무효화 종류
+     * @param arguments 무효화 대상
+     */
+    void applyRemoteEviction(String operation, List<String> arguments);
+}
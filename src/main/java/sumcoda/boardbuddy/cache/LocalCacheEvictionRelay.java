@@ -0,0 +1,72 @@
+package sumcoda.boardbuddy.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import sumcoda.boardbuddy.dto.event.LocalCacheEvictionMessage;
+import sumcoda.boardbuddy.enumerate.LocalCacheSyncMode;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인스턴스 로컬 캐시의 무효화를 Redis 채널로 다른 인스턴스에 중계
+ * 동기화 모드가 LOCAL 이면 아무것도 발행하지 않음
+ * pub/sub 은 최대 한 번 전달이므로 중계가 유실되어도 각 캐시의 TTL 이 지나면 다시 조회됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalCacheEvictionRelay {
+
+    public static final String LOCAL_CACHE_EVICTION_CHANNEL = "cache:eviction";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.local-cache.sync.mode:LOCAL}")
+    private LocalCacheSyncMode syncMode;
+
+    // 자신이 발행한 무효화를 구독에서 다시 적용하지 않기 위한 인스턴스 식별자
+    @Getter
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final AtomicLong failedPublishCount = new AtomicLong();
+
+    /**
+     * 무효화를 다른 인스턴스에 중계
+     * 캐시의 runAfterCommit 작업 안에서 호출하여 커밋된 변경만 중계되도록 함
+     *
+     * @param cacheName 캐시 이름
+     * @param operation 무효화 종류
+     * @param arguments 무효화 대상 (null 허용)
+     */
+    public void publish(String cacheName, String operation, String... arguments) {
+        if (syncMode != LocalCacheSyncMode.REDIS) {
+            return;
+        }
+
+        try {
+            String payload = objectMapper.writeValueAsString(
+                    new LocalCacheEvictionMessage(instanceId, cacheName, operation, Arrays.asList(arguments)));
+
+            stringRedisTemplate.convertAndSend(LOCAL_CACHE_EVICTION_CHANNEL, payload);
+        } catch (JsonProcessingException | DataAccessException e) {
+            // 커밋 이후라 예외를 던져도 처리할 수 없으므로 기록만 남기고 TTL 로 복구
+            failedPublishCount.incrementAndGet();
+            log.warn("[캐시 무효화 중계] 발행 실패 | 캐시={} | 종류={} | 원인={}", cacheName, operation, e.getMessage());
+        }
+    }
+
+    public long getFailedPublishCount() {
+        return failedPublishCount.get();
+    }
+}
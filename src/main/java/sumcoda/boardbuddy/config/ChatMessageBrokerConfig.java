@@ -0,0 +1,29 @@
+package sumcoda.boardbuddy.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import sumcoda.boardbuddy.listener.ChatMessageRedisSubscriber;
+
+import static sumcoda.boardbuddy.util.ChatMessageUtil.CHAT_ROOM_CHANNEL_PATTERN;
+
+/**
+ * 채팅 메세지 브로커 모드가 redis 일 때 모든 채팅방 채널을 구독하는 리스너 컨테이너 설정
+ * 여러 인스턴스가 같은 채팅방을 서비스할 수 있도록 Redis pub/sub 으로 메세지를 중계
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.chat.broker.mode", havingValue = "REDIS")
+public class ChatMessageBrokerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer chatMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                      ChatMessageRedisSubscriber chatMessageRedisSubscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(chatMessageRedisSubscriber, new PatternTopic(CHAT_ROOM_CHANNEL_PATTERN));
+        return container;
+    }
+}
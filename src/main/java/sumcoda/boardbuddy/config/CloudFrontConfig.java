@@ -35,6 +35,18 @@ public class CloudFrontConfig {
     @Value("${spring.cloud.aws.cloud-front.secret.key-value-name}")
     private String secretKeyValueName;
 
+    // Signed URL 캐시에 보관할 최대 항목 수
+    @Value("${spring.cloud.aws.cloud-front.signed-url-cache.max-size:10000}")
+    private int signedUrlCacheMaxSize;
+
+    // 만료 시각을 올림할 버킷 크기(초), 같은 버킷 안의 요청은 동일한 Signed URL을 공유
+    @Value("${spring.cloud.aws.cloud-front.signed-url-cache.expiration-bucket-seconds:300}")
+    private long signedUrlExpirationBucketSeconds;
+
+    // 만료 시각까지 남은 시간이 이 값(초)보다 작으면 캐시된 URL을 재사용하지 않음
+    @Value("${spring.cloud.aws.cloud-front.signed-url-cache.refresh-margin-seconds:60}")
+    private long signedUrlRefreshMarginSeconds;
+
 
 
     @Bean
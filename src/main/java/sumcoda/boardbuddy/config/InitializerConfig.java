@@ -6,6 +6,7 @@ import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import sumcoda.boardbuddy.service.BadgeImageService;
+import sumcoda.boardbuddy.service.GatherArticleService;
 import sumcoda.boardbuddy.service.MemberService;
 
 import java.time.YearMonth;
@@ -20,6 +21,8 @@ public class InitializerConfig {
 
     private final BadgeImageService badgeImageService;
 
+    private final GatherArticleService gatherArticleService;
+
     /**
      * admin, test 계정 생성
      */
@@ -27,6 +30,9 @@ public class InitializerConfig {
     public ApplicationRunner initializer() {
         return args -> {
 
+            // 키워드 검색 토큰이 없는 기존 모집글 보정 (Id 범위 배치로 나누어 저장)
+            gatherArticleService.fillMissingSearchTokens();
+
             // 프로덕션 코드
             // TODO: ddl-auto none 으로 수정후 아래 로직 비활성화
 //            memberService.createAdminAccount();
@@ -0,0 +1,29 @@
+package sumcoda.boardbuddy.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import sumcoda.boardbuddy.listener.LocalCacheEvictionRedisSubscriber;
+
+import static sumcoda.boardbuddy.cache.LocalCacheEvictionRelay.LOCAL_CACHE_EVICTION_CHANNEL;
+
+/**
+ * 로컬 캐시 동기화 모드가 redis 일 때 캐시 무효화 채널을 구독하는 리스너 컨테이너 설정
+ * 한 인스턴스에서 일어난 무효화가 다른 인스턴스의 로컬 캐시에도 반영되도록 Redis pub/sub 으로 중계
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.local-cache.sync.mode", havingValue = "REDIS")
+public class LocalCacheSyncConfig {
+
+    @Bean
+    public RedisMessageListenerContainer localCacheEvictionListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            LocalCacheEvictionRedisSubscriber localCacheEvictionRedisSubscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(localCacheEvictionRedisSubscriber, new ChannelTopic(LOCAL_CACHE_EVICTION_CHANNEL));
+        return container;
+    }
+}
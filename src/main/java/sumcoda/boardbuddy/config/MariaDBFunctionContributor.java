@@ -0,0 +1,21 @@
+package sumcoda.boardbuddy.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * QueryDSL(JPQL)에서 사용할 MariaDB 전용 SQL 함수 등록
+ * META-INF/services/org.hibernate.boot.model.FunctionContributor 로 Hibernate 에 등록
+ */
+public class MariaDBFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        // function('match_against', column, query) → MATCH(column) AGAINST(query IN BOOLEAN MODE)
+        functionContributions.getFunctionRegistry().registerPattern(
+                "match_against",
+                "match(?1) against (?2 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE));
+    }
+}
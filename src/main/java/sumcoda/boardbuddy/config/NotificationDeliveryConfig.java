@@ -0,0 +1,29 @@
+package sumcoda.boardbuddy.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import sumcoda.boardbuddy.listener.NotificationRedisSubscriber;
+
+import static sumcoda.boardbuddy.util.NotificationMessageUtil.NOTIFICATION_CHANNEL_PATTERN;
+
+/**
+ * 알림 전송 모드가 redis 일 때 모든 유저의 알림 채널을 구독하는 리스너 컨테이너 설정
+ * 알림을 발생시킨 인스턴스와 유저가 SSE 로 연결된 인스턴스가 달라도 알림이 전달되도록 Redis pub/sub 으로 중계
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.notification.delivery.mode", havingValue = "REDIS")
+public class NotificationDeliveryConfig {
+
+    @Bean
+    public RedisMessageListenerContainer notificationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       NotificationRedisSubscriber notificationRedisSubscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(notificationRedisSubscriber, new PatternTopic(NOTIFICATION_CHANNEL_PATTERN));
+        return container;
+    }
+}
@@ -0,0 +1,24 @@
+package sumcoda.boardbuddy.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.quartz.SchedulerFactoryBeanCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import sumcoda.boardbuddy.listener.QuartzJobMetricsListener;
+
+@Configuration
+@RequiredArgsConstructor
+public class QuartzConfig {
+
+    private final QuartzJobMetricsListener quartzJobMetricsListener;
+
+    /**
+     * 모든 Job 의 실행 지연과 실행 시간을 기록하도록 전역 JobListener 등록
+     *
+     * @return 스케줄러 설정 커스터마이저
+     **/
+    @Bean
+    public SchedulerFactoryBeanCustomizer quartzJobMetricsCustomizer() {
+        return schedulerFactoryBean -> schedulerFactoryBean.setGlobalJobListeners(quartzJobMetricsListener);
+    }
+}
@@ -1,6 +1,10 @@
 package sumcoda.boardbuddy.config;
 
 import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -16,10 +20,12 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.security.web.context.DelegatingSecurityContextRepository;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import sumcoda.boardbuddy.enumerate.Role;
 import sumcoda.boardbuddy.handler.auth.*;
 import sumcoda.boardbuddy.filter.CustomAuthenticationFilter;
 import sumcoda.boardbuddy.handler.auth.oauth2.OAuth2AuthenticationFailureHandler;
@@ -51,6 +57,10 @@ public class SecurityConfig {
 
     private final CustomLogoutSuccessHandler customLogoutSuccessHandler;
 
+    // actuator 전용 관리 포트, 설정되지 않았으면 -1
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
 
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -102,6 +112,11 @@ public class SecurityConfig {
                         .requireExplicitSave(true))
                 .authorizeHttpRequests(request -> request
                         .requestMatchers(CorsUtils::isPreFlightRequest).permitAll()
+                        // 관리 포트(loopback 에만 바인딩)로 들어온 actuator 요청만 인증 없이 허용
+                        .requestMatchers(new AndRequestMatcher(EndpointRequest.toAnyEndpoint(), this::isManagementPortRequest)).permitAll()
+                        // 관리 포트 설정이 빠져 서비스 포트로 노출되더라도 health 외의 actuator 는 관리자만 접근
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).hasAuthority(Role.ADMIN.getValue())
                         .requestMatchers(
                                 // 로그인 하지 않은 사용자라도 요청을 보낼 수 있는 API Path
                                 "/api/auth/register",
@@ -208,4 +223,9 @@ public class SecurityConfig {
     public AuthenticationManager authenticationManager() throws Exception {
         return authenticationConfiguration.getAuthenticationManager();
     }
+
+    // 요청이 actuator 전용 관리 포트로 들어왔는지 확인
+    private boolean isManagementPortRequest(HttpServletRequest request) {
+        return managementPort > 0 && request.getLocalPort() == managementPort;
+    }
 }
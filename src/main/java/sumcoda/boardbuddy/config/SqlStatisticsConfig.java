@@ -0,0 +1,31 @@
+package sumcoda.boardbuddy.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import sumcoda.boardbuddy.metrics.SqlStatisticsDataSource;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SqlStatisticsConfig {
+
+    /**
+     * 애플리케이션의 DataSource 를 SQL 통계를 기록하는 DataSource 로 감쌈
+     * 다른 빈 생성 전에 등록되어야 하므로 static 으로 선언
+     *
+     * @return DataSource 를 감싸는 BeanPostProcessor
+     **/
+    @Bean
+    public static BeanPostProcessor sqlStatisticsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatisticsDataSource)) {
+                    return new SqlStatisticsDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import sumcoda.boardbuddy.interceptor.AuthenticationInterceptor;
 import sumcoda.boardbuddy.interceptor.HttpMethodFilteringInterceptor;
+import sumcoda.boardbuddy.interceptor.SqlStatisticsInterceptor;
 
 import java.util.List;
 import java.util.stream.Stream;
@@ -18,6 +19,8 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     private final AuthenticationInterceptor authenticationInterceptor;
 
+    private final SqlStatisticsInterceptor sqlStatisticsInterceptor;
+
     // 2) gather-articles 관련 엔드포인트
     private static final List<String> GATHER_ARTICLE_PATHS = List.of(
             "/api/gather-articles",
@@ -45,6 +48,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        // 0) 모든 요청의 SQL 통계 수집 (인증 인터셉터의 쿼리도 포함되도록 가장 먼저 등록)
+        registry.addInterceptor(sqlStatisticsInterceptor);
+
         // 1) gather-articles 전용: POST/PUT/DELETE만 인터셉트
         registry.addInterceptor(
                         new HttpMethodFilteringInterceptor(
@@ -1,10 +1,25 @@
 package sumcoda.boardbuddy.config;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.*;
+import sumcoda.boardbuddy.enumerate.ChannelExecutorType;
+import sumcoda.boardbuddy.interceptor.SqlStatisticsChannelInterceptor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -13,6 +28,42 @@ public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final ApplicationEventPublisher eventPublisher;
 
+    private final SqlStatisticsChannelInterceptor sqlStatisticsChannelInterceptor;
+
+    // 채널 실행기 유형 (PLATFORM: 제한된 스레드 풀, VIRTUAL: 동시 실행 수가 제한된 가상 스레드)
+    @Value("${spring.chat.websocket.executor.type:PLATFORM}")
+    private ChannelExecutorType channelExecutorType;
+
+    @Value("${spring.chat.websocket.executor.core-pool-size:8}")
+    private int corePoolSize;
+
+    @Value("${spring.chat.websocket.executor.max-pool-size:32}")
+    private int maxPoolSize;
+
+    // 플랫폼 스레드 풀의 대기열 크기, 가득 차면 메세지를 거부하고 거부 횟수를 기록
+    @Value("${spring.chat.websocket.executor.queue-capacity:1000}")
+    private int queueCapacity;
+
+    // 가상 스레드 사용 시 채널별 최대 동시 실행 수, 초과하면 메세지를 거부하고 거부 횟수를 기록
+    @Value("${spring.chat.websocket.executor.virtual-concurrency-limit:256}")
+    private int virtualConcurrencyLimit;
+
+    // 느린 클라이언트에게 보내지 못하고 쌓아둘 수 있는 최대 버퍼 크기(byte)
+    @Value("${spring.chat.websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    // 한 클라이언트로의 전송이 이 시간(ms)을 넘기면 세션을 종료
+    @Value("${spring.chat.websocket.transport.send-time-limit-millis:10000}")
+    private int sendTimeLimitMillis;
+
+    // 수신 메세지 최대 크기(byte)
+    @Value("${spring.chat.websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    private final ChannelExecutorStats inboundChannelExecutorStats = new ChannelExecutorStats();
+
+    private final ChannelExecutorStats outboundChannelExecutorStats = new ChannelExecutorStats();
+
     /**
      * 메시지 브로커 설정
      *
@@ -38,4 +89,172 @@ public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws/chat/connection")
                 .setAllowedOriginPatterns("*");
     }
+
+    /**
+     * 클라이언트 → 서버 메세지를 처리하는 inbound 채널의 실행기 설정
+     *
+     * @param registration inbound 채널 등록 정보
+     **/
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.executor(createChannelExecutor("ws-inbound-", inboundChannelExecutorStats))
+                .interceptors(sqlStatisticsChannelInterceptor);
+    }
+
+    /**
+     * 서버 → 클라이언트 메세지를 처리하는 outbound 채널의 실행기 설정
+     *
+     * @param registration outbound 채널 등록 정보
+     **/
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(createChannelExecutor("ws-outbound-", outboundChannelExecutorStats));
+    }
+
+    /**
+     * 느린 클라이언트로 인해 전송 버퍼가 무한히 커지지 않도록 전송 제한 설정
+     *
+     * @param registry 웹소켓 전송 설정 레지스트리
+     **/
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
+        registry.setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMillis)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
+
+    /**
+     * 애플리케이션 종료 시 채널 실행기 정리
+     **/
+    @PreDestroy
+    public void shutdownChannelExecutors() {
+        inboundChannelExecutorStats.shutdown();
+        outboundChannelExecutorStats.shutdown();
+    }
+
+    public ChannelExecutorStats getInboundChannelExecutorStats() {
+        return inboundChannelExecutorStats;
+    }
+
+    public ChannelExecutorStats getOutboundChannelExecutorStats() {
+        return outboundChannelExecutorStats;
+    }
+
+    /**
+     * 설정된 유형에 맞는 채널 실행기를 생성
+     * 실행기가 포화되면 메세지를 보낸 스레드(Tomcat I/O, 브로커 스레드)에서 처리하거나 대기하지 않고 거부함
+     * 거부된 inbound 메세지는 STOMP ERROR 프레임으로 클라이언트에 알려지고, outbound 메세지는 해당 세션에만 전달되지 않음
+     *
+     * @param threadNamePrefix 스레드 이름 접두사
+     * @param stats 실행기 상태를 기록할 객체
+     * @return 채널 실행기
+     **/
+    private Executor createChannelExecutor(String threadNamePrefix, ChannelExecutorStats stats) {
+        if (channelExecutorType == ChannelExecutorType.VIRTUAL) {
+            ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+            Semaphore permits = new Semaphore(virtualConcurrencyLimit);
+            stats.maxConcurrency = virtualConcurrencyLimit;
+            stats.virtualThreadExecutor = executor;
+            return task -> {
+                // 동시 실행 수를 넘기면 제출한 스레드를 대기시키지 않고 거부
+                if (!permits.tryAcquire()) {
+                    stats.rejectedCount.incrementAndGet();
+                    throw new RejectedExecutionException(threadNamePrefix + " 채널 실행기의 동시 실행 수가 가득 찼습니다");
+                }
+                Runnable tracked = stats.track(task);
+                try {
+                    executor.execute(() -> {
+                        try {
+                            tracked.run();
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    permits.release();
+                    stats.rejectedCount.incrementAndGet();
+                    throw e;
+                }
+            };
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setTaskDecorator(stats::track);
+        executor.setRejectedExecutionHandler((runnable, threadPoolExecutor) -> {
+            // 대기열까지 가득 찬 경우 호출한 스레드에서 직접 처리하지 않고 거부
+            stats.rejectedCount.incrementAndGet();
+            new ThreadPoolExecutor.AbortPolicy().rejectedExecution(runnable, threadPoolExecutor);
+        });
+        executor.initialize();
+        stats.maxConcurrency = maxPoolSize;
+        stats.threadPoolTaskExecutor = executor;
+        return executor;
+    }
+
+    /**
+     * 채널 실행기의 포화 상태를 확인하기 위한 지표
+     */
+    public static class ChannelExecutorStats {
+
+        private final AtomicInteger activeCount = new AtomicInteger();
+
+        private final AtomicLong completedCount = new AtomicLong();
+
+        private final AtomicLong rejectedCount = new AtomicLong();
+
+        private volatile int maxConcurrency;
+
+        private volatile ThreadPoolTaskExecutor threadPoolTaskExecutor;
+
+        private volatile ExecutorService virtualThreadExecutor;
+
+        private Runnable track(Runnable task) {
+            return () -> {
+                activeCount.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    activeCount.decrementAndGet();
+                    completedCount.incrementAndGet();
+                }
+            };
+        }
+
+        private void shutdown() {
+            if (threadPoolTaskExecutor != null) {
+                threadPoolTaskExecutor.shutdown();
+            }
+            // 실행중인 메세지 처리가 끝날 때까지 기다린 뒤 종료
+            if (virtualThreadExecutor != null) {
+                virtualThreadExecutor.close();
+            }
+        }
+
+        public int getActiveCount() {
+            return activeCount.get();
+        }
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        // 가상 스레드 실행기는 대기열이 없으므로 0
+        public int getQueueSize() {
+            ThreadPoolTaskExecutor executor = threadPoolTaskExecutor;
+            return executor == null ? 0 : executor.getThreadPoolExecutor().getQueue().size();
+        }
+
+        public long getCompletedCount() {
+            return completedCount.get();
+        }
+
+        public long getRejectedCount() {
+            return rejectedCount.get();
+        }
+    }
 }
@@ -232,7 +232,8 @@ public class GatherArticleController {
      * @apiNote V2 - 사용자가 지정한 지역 기반 모집글 리스트 조회
      * 모집글 리스트 조회 요청 (검색 포함)
      *
-     * @param page      페이지 번호
+     * @param page      페이지 번호 (cursor 가 없을 때 사용)
+     * @param cursor    이전 페이지 응답의 nextCursor (옵션, 있으면 keyset 방식으로 조회)
      * @param sido      시도
      * @param sgg       시군구
      * @param status    모집 상태 (옵션)
@@ -242,7 +243,8 @@ public class GatherArticleController {
      */
     @GetMapping("/api/gather-articles")
     public ResponseEntity<ApiResponse<GatherArticleResponse.ReadListDTO>> getGatherArticlesV2(
-            @RequestParam Integer page,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) String sido,
             @RequestParam(required = false) String sgg,
             @RequestParam(required = false) String status,
@@ -252,7 +254,7 @@ public class GatherArticleController {
         log.info("getGatherArticlesV2 is working");
         log.info(keyword);
 
-        GatherArticleResponse.ReadListDTO posts = gatherArticleService.getGatherArticlesV2(page, sido, sgg, status, sort, keyword);
+        GatherArticleResponse.ReadListDTO posts = gatherArticleService.getGatherArticlesV2(page, cursor, sido, sgg, status, sort, keyword);
 
         // 검색어가 있고, 결과가 비어 있는 경우 메시지만 다르게
         if (keyword != null && posts.getPosts().isEmpty()) {
@@ -8,6 +8,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import sumcoda.boardbuddy.dto.NotificationResponse;
@@ -29,14 +30,16 @@ public class NotificationController {
     /**
      * SSE Emitter 구독 요청
      * @param username 알람 구독 요청 사용자 이름
+     * @param lastEventId 재연결 시 브라우저가 보내는 마지막으로 받은 이벤트 Id
      **/
     @GetMapping(value = "/api/notifications/subscription", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public ResponseEntity<SseEmitter> subscribe(
-            @RequestAttribute String username
+            @RequestAttribute String username,
+            @RequestHeader(value = "Last-Event-ID", required = false, defaultValue = "") String lastEventId
     ) {
 
         log.info("User {} subscribed for notifications", "test");
-        SseEmitter sseEmitter = notificationService.subscribe(username);
+        SseEmitter sseEmitter = notificationService.subscribe(username, lastEventId);
 
         HttpHeaders headers = new HttpHeaders();
         headers.add("Cache-Control", "no-cache");
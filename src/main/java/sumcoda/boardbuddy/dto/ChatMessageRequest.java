@@ -4,6 +4,9 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import sumcoda.boardbuddy.enumerate.MessageType;
+
+import java.time.Instant;
 
 public class ChatMessageRequest {
 
@@ -20,4 +23,30 @@ public class ChatMessageRequest {
             this.nickname = nickname;
         }
     }
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class PersistDTO {
+        private Long id;
+
+        private String content;
+
+        private MessageType messageType;
+
+        private Long memberId;
+
+        private Long chatRoomId;
+
+        private Instant createdAt;
+
+        @Builder
+        public PersistDTO(Long id, String content, MessageType messageType, Long memberId, Long chatRoomId, Instant createdAt) {
+            this.id = id;
+            this.content = content;
+            this.messageType = messageType;
+            this.memberId = memberId;
+            this.chatRoomId = chatRoomId;
+            this.createdAt = createdAt;
+        }
+    }
 }
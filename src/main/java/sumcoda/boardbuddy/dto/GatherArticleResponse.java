@@ -168,11 +168,14 @@ public class GatherArticleResponse {
 
         private List<ReadSliceDTO> posts;
         private Boolean last;
+        // 다음 페이지 조회용 커서, 마지막 페이지면 null
+        private String nextCursor;
 
         @Builder
-        public ReadListDTO(List<ReadSliceDTO> posts, Boolean last) {
+        public ReadListDTO(List<ReadSliceDTO> posts, Boolean last, String nextCursor) {
             this.posts = posts;
             this.last = last;
+            this.nextCursor = nextCursor;
         }
     }
 
@@ -22,5 +22,8 @@ public record ChatMessageItemInfoDTO(
         MessageType messageType,
 
         @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
-        LocalDateTime sentAt
+        LocalDateTime sentAt,
+
+        // 재연결 시 이 메세지 이후부터 조회하기 위한 newer 방향 커서
+        String cursor
 ) {}
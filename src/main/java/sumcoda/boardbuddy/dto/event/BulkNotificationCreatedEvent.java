@@ -0,0 +1,22 @@
+package sumcoda.boardbuddy.dto.event;
+
+import sumcoda.boardbuddy.dto.fetch.NotificationRecipientProjection;
+import sumcoda.boardbuddy.enumerate.EventName;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 여러 유저에게 같은 알림을 보내는 도메인 이벤트
+ * 받는 유저의 Id를 미리 조회해 두므로 저장 시 유저를 다시 조회하지 않음
+ */
+public record BulkNotificationCreatedEvent(
+
+        List<NotificationRecipientProjection> recipients,
+
+        String message,
+
+        EventName eventName,
+
+        LocalDateTime createdAt
+) {}
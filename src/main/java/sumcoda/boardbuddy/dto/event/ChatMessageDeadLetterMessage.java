@@ -0,0 +1,29 @@
+package sumcoda.boardbuddy.dto.event;
+
+import sumcoda.boardbuddy.enumerate.MessageType;
+
+import java.time.Instant;
+
+/**
+ * write-behind 저장 중 제약 조건 위반으로 DB에 저장하지 못한 채팅 메세지
+ * 구독자에게는 이미 전송된 메세지이므로 Redis dead-letter 목록에 보관하여 원인을 해결한 뒤 다시 저장할 수 있도록 함
+ */
+public record ChatMessageDeadLetterMessage(
+
+        Long id,
+
+        String content,
+
+        MessageType messageType,
+
+        Long memberId,
+
+        Long chatRoomId,
+
+        Instant createdAt,
+
+        // 저장에 실패한 원인
+        String reason,
+
+        Instant rejectedAt
+) {}
@@ -0,0 +1,18 @@
+package sumcoda.boardbuddy.dto.event;
+
+import java.util.List;
+
+/**
+ * 인스턴스 로컬 캐시 무효화를 다른 인스턴스에 중계하는 Redis 메세지
+ * 발행한 인스턴스는 이미 무효화를 반영했으므로 sourceInstanceId 가 같은 메세지는 무시함
+ */
+public record LocalCacheEvictionMessage(
+
+        String sourceInstanceId,
+
+        String cacheName,
+
+        String operation,
+
+        List<String> arguments
+) {}
@@ -0,0 +1,20 @@
+package sumcoda.boardbuddy.dto.event;
+
+import sumcoda.boardbuddy.enumerate.EventName;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 생성 도메인 이벤트
+ * 알림을 만든 트랜잭션이 커밋된 이후에만 저장, 전송됨
+ */
+public record NotificationCreatedEvent(
+
+        String username,
+
+        String message,
+
+        EventName eventName,
+
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,14 @@
+package sumcoda.boardbuddy.dto.event;
+
+/**
+ * Redis 채널로 중계되는 SSE 알림
+ * 받는 유저 아이디는 채널 이름에 포함됨
+ */
+public record NotificationDeliveryMessage(
+
+        String eventId,
+
+        String eventName,
+
+        String message
+) {}
@@ -0,0 +1,18 @@
+package sumcoda.boardbuddy.dto.fetch;
+
+import java.time.LocalDateTime;
+
+public record ChatRoomMemberInfoProjection(
+
+        Long memberId,
+
+        String username,
+
+        String nickname,
+
+        Integer rank,
+
+        String s3SavedObjectName,
+
+        LocalDateTime joinedAt
+) {}
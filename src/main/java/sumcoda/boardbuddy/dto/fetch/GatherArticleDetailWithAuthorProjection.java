@@ -0,0 +1,9 @@
+package sumcoda.boardbuddy.dto.fetch;
+
+public record GatherArticleDetailWithAuthorProjection(
+
+        GatherArticleDetailedInfoProjection detail,
+
+        GatherArticleAuthorProjection author
+) {
+}
@@ -0,0 +1,8 @@
+package sumcoda.boardbuddy.dto.fetch;
+
+public record NotificationRecipientProjection(
+
+        Long memberId,
+
+        String username
+) {}
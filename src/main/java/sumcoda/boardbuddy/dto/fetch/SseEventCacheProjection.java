@@ -0,0 +1,10 @@
+package sumcoda.boardbuddy.dto.fetch;
+
+public record SseEventCacheProjection(
+
+        String eventId,
+
+        String eventName,
+
+        String message
+) {}
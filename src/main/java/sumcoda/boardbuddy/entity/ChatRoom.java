@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -18,6 +19,13 @@ public class ChatRoom {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 채팅방 목록 조회용 마지막 메세지 요약 (메세지 저장과 같은 트랜잭션에서 갱신)
+    private Long lastChatMessageId;
+
+    private String lastChatMessageContent;
+
+    private Instant lastChatMessageSentAt;
+
     // 양방향 연관관계
     @OneToOne(mappedBy = "chatRoom")
     private GatherArticle gatherArticle;
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import sumcoda.boardbuddy.enumerate.GatherArticleStatus;
+import sumcoda.boardbuddy.util.GatherArticleSearchTokenUtil;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -14,6 +15,34 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "gather_article",
+        indexes = {
+        // 지역 + 상태 필터, 최신순 정렬
+        @Index(
+                name = "idx_gather_article_sido_sgg_status_id",
+                columnList = "sido, sgg, gather_article_status, id"
+        ),
+        // 지역 + 상태 필터, 마감 임박순 정렬
+        @Index(
+                name = "idx_gather_article_sido_sgg_status_start_date_time_id",
+                columnList = "sido, sgg, gather_article_status, start_date_time, id"
+        ),
+        // 지역 필터, 최신순 정렬 (상태 미지정)
+        @Index(
+                name = "idx_gather_article_sido_sgg_id",
+                columnList = "sido, sgg, id"
+        ),
+        // 지역 필터, 마감 임박순 정렬 (상태 미지정)
+        @Index(
+                name = "idx_gather_article_sido_sgg_start_date_time_id",
+                columnList = "sido, sgg, start_date_time, id"
+        ),
+        // 작성자 닉네임, 랭킹 동기화
+        @Index(
+                name = "idx_gather_article_author_id",
+                columnList = "author_id"
+        )}
+)
 public class GatherArticle extends BaseTimeEntity {
 
     @Id
@@ -73,6 +102,19 @@ public class GatherArticle extends BaseTimeEntity {
     @Column(nullable = false)
     private Double y;
 
+    // 작성자 Id, 목록 조회 시 member_gather_article, member 조인 없이 작성자 정보를 읽기 위한 비정규화 컬럼
+    private Long authorId;
+
+    // 작성자 닉네임, 작성자가 닉네임을 변경하면 함께 갱신
+    private String authorNickname;
+
+    // 작성자 랭킹, 월간 랭킹 집계 시 함께 갱신
+    private Integer authorRank;
+
+    // 키워드 검색용 FULLTEXT 색인 토큰 (제목, 설명의 bigram), 제목이나 설명이 바뀔 때 함께 갱신
+    @Column(columnDefinition = "TEXT")
+    private String searchTokens;
+
     // 연관관게 주인
     // 양방향 연관관계
     @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
@@ -106,6 +148,7 @@ public class GatherArticle extends BaseTimeEntity {
         this.meetingLocation = meetingLocation;
         this.x = x;
         this.y = y;
+        this.refreshSearchTokens();
     }
 
     // 직접 빌더 패턴의 생성자를 활용하지 말고 해당 메서드를 활용하여 엔티티 생성
@@ -140,6 +183,19 @@ public class GatherArticle extends BaseTimeEntity {
         if (maxParticipants != null) this.maxParticipants = maxParticipants;
         if (startDateTime != null) this.startDateTime = startDateTime;
         if (endDateTime != null) this.endDateTime = endDateTime;
+        if (title != null || description != null) this.refreshSearchTokens();
+    }
+
+    // 작성자 정보 비정규화 컬럼 설정
+    public void assignAuthor(Member author) {
+        this.authorId = author.getId();
+        this.authorNickname = author.getNickname();
+        this.authorRank = author.getRank();
+    }
+
+    // 제목, 설명으로 키워드 검색 토큰 재생성
+    public void refreshSearchTokens() {
+        this.searchTokens = GatherArticleSearchTokenUtil.buildSearchTokens(this.title, this.description);
     }
 
     // GatherArticle 1 <-> 1 ChatRoom
@@ -12,6 +12,14 @@ import java.time.LocalDateTime;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
+@Table(name = "member_gather_article",
+        indexes = {
+        // 모집글 → 작성자 조인 (role = AUTHOR) 을 인덱스만으로 처리
+        @Index(
+                name = "idx_member_gather_article_gather_article_id_role_member_id",
+                columnList = "gather_article_id, member_gather_article_role, member_id"
+        )}
+)
 public class MemberGatherArticle {
 
     @Id
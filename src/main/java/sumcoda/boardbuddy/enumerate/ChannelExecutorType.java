@@ -0,0 +1,8 @@
+package sumcoda.boardbuddy.enumerate;
+
+public enum ChannelExecutorType {
+    // 크기가 제한된 플랫폼 스레드 풀
+    PLATFORM,
+    // 동시 실행 수가 제한된 가상 스레드
+    VIRTUAL
+}
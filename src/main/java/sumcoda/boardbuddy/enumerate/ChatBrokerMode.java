@@ -0,0 +1,8 @@
+package sumcoda.boardbuddy.enumerate;
+
+public enum ChatBrokerMode {
+    // 인스턴스 내장 simple broker 로만 전송
+    SIMPLE,
+    // Redis pub/sub 으로 모든 인스턴스에 중계
+    REDIS
+}
@@ -0,0 +1,8 @@
+package sumcoda.boardbuddy.enumerate;
+
+public enum ChatMessageCursorDirection {
+    // 커서 이후의 최신 메세지 조회
+    NEWER,
+    // 커서 이전의 과거 메세지 조회
+    OLDER
+}
@@ -0,0 +1,8 @@
+package sumcoda.boardbuddy.enumerate;
+
+public enum LocalCacheSyncMode {
+    // 현재 인스턴스의 캐시만 무효화
+    LOCAL,
+    // Redis pub/sub 으로 모든 인스턴스에 무효화를 중계
+    REDIS
+}
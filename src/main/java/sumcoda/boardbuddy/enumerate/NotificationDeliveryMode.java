@@ -0,0 +1,8 @@
+package sumcoda.boardbuddy.enumerate;
+
+public enum NotificationDeliveryMode {
+    // 현재 인스턴스에 연결된 emitter 로만 전송
+    LOCAL,
+    // Redis pub/sub 으로 모든 인스턴스에 중계
+    REDIS
+}
@@ -0,0 +1,7 @@
+package sumcoda.boardbuddy.exception;
+
+public class ChatMessageBroadcastException extends RuntimeException {
+    public ChatMessageBroadcastException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package sumcoda.boardbuddy.exception;
+
+public class InvalidChatMessageCursorException extends RuntimeException {
+    public InvalidChatMessageCursorException(String message) {
+        super(message);
+    }
+}
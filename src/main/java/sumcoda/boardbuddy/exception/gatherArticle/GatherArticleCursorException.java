@@ -0,0 +1,8 @@
+package sumcoda.boardbuddy.exception.gatherArticle;
+
+public class GatherArticleCursorException extends RuntimeException {
+
+    public GatherArticleCursorException(String message) {
+        super(message);
+    }
+}
@@ -4,6 +4,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import sumcoda.boardbuddy.service.CloudFrontSignedUrlService;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import static sumcoda.boardbuddy.util.BadgeImageUtil.*;
 import static sumcoda.boardbuddy.util.ProfileImageUtil.buildProfileImageS3RequestKey;
 
@@ -11,6 +19,9 @@ import static sumcoda.boardbuddy.util.ProfileImageUtil.buildProfileImageS3Reques
 @RequiredArgsConstructor
 public class CloudFrontSignedUrlGenerator {
 
+    // 서명할 객체 수가 이 값 이상이면 병렬로 서명
+    private static final int PARALLEL_SIGNING_THRESHOLD = 8;
+
     private final CloudFrontSignedUrlService cloudFrontSignedUrlService;
 
     /**
@@ -44,4 +55,24 @@ public class CloudFrontSignedUrlGenerator {
 
         return cloudFrontSignedUrlService.generateSignedUrl(requestKey);
     }
+
+    /**
+     * 여러 프로필 이미지에 대한 CloudFront Signed URL을 한 번에 생성
+     * 중복된 객체 이름은 한 번만 서명하며, 서명할 객체가 많으면 병렬로 서명
+     *
+     * @param s3SavedObjectNames S3에 저장된 객체 이름 목록 (null, 중복 허용)
+     * @return 객체 이름 → Signed URL 맵
+     */
+    public Map<String, String> generateProfileImageSignedUrls(Collection<String> s3SavedObjectNames) {
+        List<String> distinctS3SavedObjectNames = s3SavedObjectNames.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Stream<String> stream = distinctS3SavedObjectNames.size() >= PARALLEL_SIGNING_THRESHOLD
+                ? distinctS3SavedObjectNames.parallelStream()
+                : distinctS3SavedObjectNames.stream();
+
+        return stream.collect(Collectors.toMap(Function.identity(), this::generateProfileImageSignedUrl));
+    }
 }
@@ -5,8 +5,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import sumcoda.boardbuddy.dto.common.ApiResponse;
+import sumcoda.boardbuddy.exception.ChatMessageBroadcastException;
 import sumcoda.boardbuddy.exception.ChatMessageRetrievalException;
 import sumcoda.boardbuddy.exception.ChatMessageSaveException;
+import sumcoda.boardbuddy.exception.InvalidChatMessageCursorException;
 
 import static sumcoda.boardbuddy.builder.ResponseBuilder.buildErrorResponse;
 
@@ -22,4 +24,14 @@ public class ChatMessageExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleChatMessageSaveException(ChatMessageSaveException e) {
         return buildErrorResponse(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    @ExceptionHandler(ChatMessageBroadcastException.class)
+    public ResponseEntity<ApiResponse<Void>> handleChatMessageBroadcastException(ChatMessageBroadcastException e) {
+        return buildErrorResponse(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @ExceptionHandler(InvalidChatMessageCursorException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidChatMessageCursorException(InvalidChatMessageCursorException e) {
+        return buildErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+    }
 }
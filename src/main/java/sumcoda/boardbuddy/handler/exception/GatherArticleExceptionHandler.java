@@ -66,6 +66,12 @@ public class GatherArticleExceptionHandler {
     return buildFailureResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
   }
 
+  // 모집글 리스트 커서 예외 처리 핸들러
+  @ExceptionHandler(GatherArticleCursorException.class)
+  public ResponseEntity<ApiResponse<Void>> handleGatherArticleCursorException(GatherArticleCursorException e) {
+    return buildFailureResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+  }
+
   // 모집글 검색어 길이 예외 처리 핸들러
   @ExceptionHandler(GatherArticleSearchLengthException.class)
   public ResponseEntity<ApiResponse<Void>> handleGatherArticleSearchLengthException(GatherArticleSearchLengthException e) {
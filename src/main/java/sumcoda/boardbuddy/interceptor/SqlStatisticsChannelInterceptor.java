@@ -0,0 +1,84 @@
+package sumcoda.boardbuddy.interceptor;
+
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageMappingInfo;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import sumcoda.boardbuddy.metrics.SqlStatisticsRecorder;
+
+/**
+ * STOMP SEND 메세지를 @MessageMapping 메서드가 처리하는 동안 실행된 SQL 통계를 매핑 패턴 단위로 기록
+ * inbound 채널은 메세지마다 여러 handler(브로커, 사용자 destination 등)를 실행하므로
+ * 애플리케이션 메서드를 실행하는 handler 만 기록
+ * 지표 태그는 클라이언트가 보낸 destination 이 아니라 선언된 매핑 패턴만 사용하므로 태그 수가 매핑 수로 제한됨
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlStatisticsChannelInterceptor implements ExecutorChannelInterceptor {
+
+    private static final String HANDLER_NAME_PREFIX = "STOMP SEND ";
+
+    // 어떤 매핑에도 해당하지 않는 destination 의 태그
+    private static final String UNMATCHED_HANDLER_NAME = HANDLER_NAME_PREFIX + "unmatched";
+
+    private final SqlStatisticsRecorder sqlStatisticsRecorder;
+
+    @Override
+    public Message<?> beforeHandle(@NotNull Message<?> message, @NotNull MessageChannel channel, @NotNull MessageHandler handler) {
+        if (isApplicationMessage(message, handler)) {
+            sqlStatisticsRecorder.begin();
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(@NotNull Message<?> message, @NotNull MessageChannel channel, @NotNull MessageHandler handler, Exception ex) {
+        if (isApplicationMessage(message, handler)) {
+            sqlStatisticsRecorder.end(toHandlerName(message, (SimpAnnotationMethodMessageHandler) handler));
+        }
+    }
+
+    private static boolean isApplicationMessage(Message<?> message, MessageHandler handler) {
+        return handler instanceof SimpAnnotationMethodMessageHandler
+                && SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE;
+    }
+
+    /**
+     * destination 과 일치하는 @MessageMapping 패턴으로 handler 이름을 생성
+     *
+     * @param message STOMP SEND 메세지
+     * @param handler @MessageMapping 메서드를 실행하는 handler
+     * @return "STOMP SEND {destination 접두사}{매핑 패턴}", 일치하는 매핑이 없으면 "STOMP SEND unmatched"
+     */
+    private static String toHandlerName(Message<?> message, SimpAnnotationMethodMessageHandler handler) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null) {
+            return UNMATCHED_HANDLER_NAME;
+        }
+
+        for (String prefix : handler.getDestinationPrefixes()) {
+            if (!destination.startsWith(prefix)) {
+                continue;
+            }
+
+            // 접두사는 '/' 로 끝나도록 정규화되어 있으므로 매핑 패턴과 비교할 경로는 마지막 '/' 부터 사용
+            String lookupDestination = destination.substring(prefix.length() - 1);
+            for (SimpMessageMappingInfo mappingInfo : handler.getHandlerMethods().keySet()) {
+                for (String pattern : mappingInfo.getDestinationConditions().getPatterns()) {
+                    if (handler.getPathMatcher().match(pattern, lookupDestination)) {
+                        return HANDLER_NAME_PREFIX + prefix.substring(0, prefix.length() - 1) + pattern;
+                    }
+                }
+            }
+        }
+
+        return UNMATCHED_HANDLER_NAME;
+    }
+}
@@ -0,0 +1,44 @@
+package sumcoda.boardbuddy.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import sumcoda.boardbuddy.metrics.SqlStatisticsRecorder;
+
+/**
+ * HTTP 요청을 처리하는 동안 실행된 SQL 통계를 handler(컨트롤러.메서드) 단위로 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlStatisticsInterceptor implements AsyncHandlerInterceptor {
+
+    private final SqlStatisticsRecorder sqlStatisticsRecorder;
+
+    @Override
+    public boolean preHandle(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response, @NotNull Object handler) {
+        sqlStatisticsRecorder.begin();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response, @NotNull Object handler, Exception ex) {
+        sqlStatisticsRecorder.end(toHandlerName(handler));
+    }
+
+    // SSE 처럼 비동기로 응답하는 요청은 요청 스레드의 처리가 끝나는 시점까지 기록
+    @Override
+    public void afterConcurrentHandlingStarted(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response, @NotNull Object handler) {
+        sqlStatisticsRecorder.end(toHandlerName(handler));
+    }
+
+    private static String toHandlerName(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return handler.getClass().getSimpleName();
+    }
+}
@@ -5,6 +5,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.quartz.*;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import sumcoda.boardbuddy.cache.GatherArticleDetailCache;
+import sumcoda.boardbuddy.cache.GatherArticleListCache;
 import sumcoda.boardbuddy.entity.GatherArticle;
 import sumcoda.boardbuddy.entity.MemberGatherArticle;
 import sumcoda.boardbuddy.enumerate.GatherArticleStatus;
@@ -22,6 +24,10 @@ public class GatherArticleStatusUpdateJob implements Job{
 
     private final NotificationService notificationService;
 
+    private final GatherArticleListCache gatherArticleListCache;
+
+    private final GatherArticleDetailCache gatherArticleDetailCache;
+
     // 지정된 시간에 실행되는 메서드
     @Override
     @Transactional
@@ -39,6 +45,10 @@ public class GatherArticleStatusUpdateJob implements Job{
 
         log.info("Status updated to COMPLETED for gather article ID: {} ", gatherArticleId);
 
+        // 커밋 이후 상태가 바뀐 지역의 모집글 리스트 캐시와 상세 정보 캐시 무효화
+        gatherArticleListCache.evictRegion(gatherArticle.getSido(), gatherArticle.getSgg());
+        gatherArticleDetailCache.evict(gatherArticleId);
+
         // 해당 모집글의 모든 참가자들의 참가 횟수 1 증가
         gatherArticle.getMemberGatherArticles().stream()
                 .map(MemberGatherArticle::getMember)
@@ -0,0 +1,49 @@
+package sumcoda.boardbuddy.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import sumcoda.boardbuddy.dto.client.ChatMessageItemInfoDTO;
+import sumcoda.boardbuddy.service.ChatMessageBroadcastService;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static sumcoda.boardbuddy.util.ChatMessageUtil.parseChatRoomIdFromChannel;
+
+/**
+ * Redis 채널로 중계된 채팅 메세지를 현재 인스턴스의 채팅방 구독자들에게 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.chat.broker.mode", havingValue = "REDIS")
+public class ChatMessageRedisSubscriber implements MessageListener {
+
+    private final ChatMessageBroadcastService chatMessageBroadcastService;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+
+        Long chatRoomId = parseChatRoomIdFromChannel(channel);
+        if (chatRoomId == null) {
+            log.warn("[Redis 중계] 알 수 없는 채널의 메세지를 무시합니다 | 채널={}", channel);
+            return;
+        }
+
+        try {
+            ChatMessageItemInfoDTO payload = objectMapper.readValue(message.getBody(), ChatMessageItemInfoDTO.class);
+
+            chatMessageBroadcastService.sendToLocalSubscribers(chatRoomId, payload);
+        } catch (IOException e) {
+            log.error("[Redis 중계] 채팅 메세지 역직렬화 실패 | 채널={} | 원인={}", channel, e.getMessage());
+        }
+    }
+}
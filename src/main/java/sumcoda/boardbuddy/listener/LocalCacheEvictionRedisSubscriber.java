@@ -0,0 +1,70 @@
+package sumcoda.boardbuddy.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import sumcoda.boardbuddy.cache.LocalCacheEvictionHandler;
+import sumcoda.boardbuddy.cache.LocalCacheEvictionRelay;
+import sumcoda.boardbuddy.dto.event.LocalCacheEvictionMessage;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 채널로 중계된 캐시 무효화를 현재 인스턴스의 로컬 캐시에 반영
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.local-cache.sync.mode", havingValue = "REDIS")
+public class LocalCacheEvictionRedisSubscriber implements MessageListener {
+
+    private final LocalCacheEvictionRelay localCacheEvictionRelay;
+
+    private final ObjectMapper objectMapper;
+
+    // 캐시 이름 → 무효화를 적용할 캐시
+    private final Map<String, LocalCacheEvictionHandler> handlersByCacheName;
+
+    public LocalCacheEvictionRedisSubscriber(LocalCacheEvictionRelay localCacheEvictionRelay,
+                                             ObjectMapper objectMapper,
+                                             List<LocalCacheEvictionHandler> handlers) {
+        this.localCacheEvictionRelay = localCacheEvictionRelay;
+        this.objectMapper = objectMapper;
+        this.handlersByCacheName = handlers.stream()
+                .collect(Collectors.toUnmodifiableMap(LocalCacheEvictionHandler::getCacheName, Function.identity()));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        LocalCacheEvictionMessage evictionMessage;
+        try {
+            evictionMessage = objectMapper.readValue(message.getBody(), LocalCacheEvictionMessage.class);
+        } catch (IOException e) {
+            log.error("[캐시 무효화 중계] 역직렬화 실패 | 원인={}", e.getMessage());
+            return;
+        }
+
+        // 자신이 발행한 무효화는 이미 반영되어 있음
+        if (localCacheEvictionRelay.getInstanceId().equals(evictionMessage.sourceInstanceId())) {
+            return;
+        }
+
+        LocalCacheEvictionHandler handler = handlersByCacheName.get(evictionMessage.cacheName());
+        if (handler == null) {
+            log.warn("[캐시 무효화 중계] 알 수 없는 캐시의 무효화를 무시합니다 | 캐시={}", evictionMessage.cacheName());
+            return;
+        }
+
+        try {
+            handler.applyRemoteEviction(evictionMessage.operation(), evictionMessage.arguments());
+        } catch (RuntimeException e) {
+            log.error("[캐시 무효화 중계] 무효화 적용 실패 | 캐시={} | 종류={} | 원인={}", evictionMessage.cacheName(), evictionMessage.operation(), e.getMessage());
+        }
+    }
+}
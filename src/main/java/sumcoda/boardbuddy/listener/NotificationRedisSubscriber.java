@@ -0,0 +1,50 @@
+package sumcoda.boardbuddy.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import sumcoda.boardbuddy.dto.event.NotificationDeliveryMessage;
+import sumcoda.boardbuddy.service.NotificationService;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static sumcoda.boardbuddy.util.NotificationMessageUtil.parseUsernameFromChannel;
+
+/**
+ * Redis 채널로 중계된 알림을 현재 인스턴스에 연결된 유저의 emitter 로 전달
+ * 연결이 없는 인스턴스도 재전송 버퍼에는 저장하므로 다른 인스턴스로 재연결해도 놓친 알림을 다시 받을 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.notification.delivery.mode", havingValue = "REDIS")
+public class NotificationRedisSubscriber implements MessageListener {
+
+    private final NotificationService notificationService;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+
+        String username = parseUsernameFromChannel(channel);
+        if (username == null) {
+            log.warn("[Redis 중계] 알 수 없는 채널의 알림을 무시합니다 | 채널={}", channel);
+            return;
+        }
+
+        try {
+            NotificationDeliveryMessage deliveryMessage = objectMapper.readValue(message.getBody(), NotificationDeliveryMessage.class);
+
+            notificationService.sendToLocalEmitters(username, deliveryMessage);
+        } catch (IOException e) {
+            log.error("[Redis 중계] 알림 역직렬화 실패 | 채널={} | 원인={}", channel, e.getMessage());
+        }
+    }
+}
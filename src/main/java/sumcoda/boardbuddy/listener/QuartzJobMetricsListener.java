@@ -0,0 +1,57 @@
+package sumcoda.boardbuddy.listener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 Quartz Job 의 실행 지연(예정 시각 → 실제 실행 시각)과 실행 시간을 Job 그룹 단위로 기록
+ * 실행 지연이 커지면 스케줄러 스레드가 부족하거나 misfire 가 발생하고 있다는 의미
+ */
+@Component
+@RequiredArgsConstructor
+public class QuartzJobMetricsListener implements JobListener {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public String getName() {
+        return "quartzJobMetricsListener";
+    }
+
+    @Override
+    public void jobToBeExecuted(JobExecutionContext context) {
+        Date scheduledFireTime = context.getScheduledFireTime();
+        if (scheduledFireTime == null) {
+            return;
+        }
+
+        long lagMillis = Math.max(0, context.getFireTime().getTime() - scheduledFireTime.getTime());
+        Timer.builder("boardbuddy.quartz.job.fire.lag")
+                .description("Quartz Job 예정 시각 대비 실행 지연 시간")
+                .tag("group", context.getJobDetail().getKey().getGroup())
+                .register(meterRegistry)
+                .record(lagMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void jobExecutionVetoed(JobExecutionContext context) {
+    }
+
+    @Override
+    public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
+        Timer.builder("boardbuddy.quartz.job.run")
+                .description("Quartz Job 실행 시간")
+                .tag("group", context.getJobDetail().getKey().getGroup())
+                .tag("outcome", jobException == null ? "SUCCESS" : "FAILURE")
+                .register(meterRegistry)
+                .record(context.getJobRunTime(), TimeUnit.MILLISECONDS);
+    }
+}
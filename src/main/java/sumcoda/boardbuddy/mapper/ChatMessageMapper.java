@@ -5,12 +5,15 @@ import org.springframework.stereotype.Component;
 import sumcoda.boardbuddy.dto.client.ChatMessageItemInfoDTO;
 import sumcoda.boardbuddy.dto.client.PageResponseDTO;
 import sumcoda.boardbuddy.dto.fetch.ChatMessageItemInfoProjection;
+import sumcoda.boardbuddy.enumerate.ChatMessageCursorDirection;
 import sumcoda.boardbuddy.enumerate.MessageType;
 import sumcoda.boardbuddy.exception.ChatMessageRetrievalException;
 import sumcoda.boardbuddy.generator.CloudFrontSignedUrlGenerator;
+import sumcoda.boardbuddy.util.ChatMessageCursorCodec;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -32,15 +35,30 @@ public class ChatMessageMapper {
      */
     public ChatMessageItemInfoDTO toChatMessageItemInfoDTO(ChatMessageItemInfoProjection projection) {
 
-        // 프로필 이미지 S3 키 → CloudFront Signed URL 생성
-        String profileImageSignedURL = cloudFrontSignedUrlGenerator.generateProfileImageSignedUrl(projection.s3SavedObjectName());
+        // 프로필 이미지 S3 키 → CloudFront Signed URL 생성 (Talk 타입만 프로필 이미지가 필요)
+        String profileImageSignedURL = Objects.equals(projection.messageType(), MessageType.TALK)
+                ? cloudFrontSignedUrlGenerator.generateProfileImageSignedUrl(projection.s3SavedObjectName())
+                : null;
+
+        return toChatMessageItemInfoDTO(projection, profileImageSignedURL);
+    }
+
+    /**
+     * 주어진 메시지 프로젝션 DTO를 미리 생성된 Signed URL과 함께 채팅 메시지 항목 DTO로 변환
+     *
+     * @param projection 변환할 메시지 프로젝션 DTO
+     * @param profileImageSignedURL 미리 생성된 프로필 이미지 Signed URL
+     * @return 변환된 ChatMessageItemInfoDTO 객체
+     */
+    private ChatMessageItemInfoDTO toChatMessageItemInfoDTO(ChatMessageItemInfoProjection projection, String profileImageSignedURL) {
 
         // 1) 공통 필드 세팅
         var builder = ChatMessageItemInfoDTO.builder()
                 .id(projection.id())
                 .content(projection.content())
                 .messageType(projection.messageType())
-                .sentAt(LocalDateTime.ofInstant(projection.sentAt(), ZONE));
+                .sentAt(LocalDateTime.ofInstant(projection.sentAt(), ZONE))
+                .cursor(ChatMessageCursorCodec.encode(projection.sentAt(), projection.id(), ChatMessageCursorDirection.NEWER));
 
         // 2) Talk 타입일 때만 추가 필드 세팅
         if (Objects.equals(projection.messageType(), MessageType.TALK)) {
@@ -74,9 +92,16 @@ public class ChatMessageMapper {
             throw new ChatMessageRetrievalException("서버 문제로 메시지를 조회하지 못하였습니다. 관리자에게 문의하세요");
         }
 
+        // 페이지 내 Talk 메시지의 고유한 프로필 이미지만 한 번씩 서명
+        Map<String, String> profileImageSignedURLMap = cloudFrontSignedUrlGenerator.generateProfileImageSignedUrls(
+                projections.stream()
+                        .filter(projection -> Objects.equals(projection.messageType(), MessageType.TALK))
+                        .map(ChatMessageItemInfoProjection::s3SavedObjectName)
+                        .toList());
+
         // 내부 DTO → 최종 API DTO 매핑
         List<ChatMessageItemInfoDTO> dtoList = projections.stream()
-                .map(this::toChatMessageItemInfoDTO)
+                .map(projection -> toChatMessageItemInfoDTO(projection, profileImageSignedURLMap.get(projection.s3SavedObjectName())))
                 .collect(Collectors.toList());
 
         // 기존 page 의 hasMore, nextCursor 를 그대로 담아 새 PageResponseDTO 생성
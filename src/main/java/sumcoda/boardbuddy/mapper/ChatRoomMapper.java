@@ -35,7 +35,9 @@ public class ChatRoomMapper {
 
                     ChatMessageLastSentInfoProjection chatMessageProjection = chatRoomDetailsProjection.chatMessageLastSentInfoProjection();
 
-                    ChatMessageLastSentInfoDTO latestChatMessageInfo = ChatMessageLastSentInfoDTO.builder()
+                    // 아직 메세지가 없는 채팅방은 마지막 메세지 정보 없이 반환
+                    ChatMessageLastSentInfoDTO latestChatMessageInfo = chatMessageProjection.sentAt() == null ? null
+                            : ChatMessageLastSentInfoDTO.builder()
                             .content(chatMessageProjection.content())
                             .sentAt(LocalDateTime.ofInstant(chatMessageProjection.sentAt(), ZoneId.systemDefault()))
                             .build();
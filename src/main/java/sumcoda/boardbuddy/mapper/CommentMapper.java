@@ -32,10 +32,16 @@ public class CommentMapper {
                 .filter(projection -> projection.parentId() != null)
                 .collect(Collectors.groupingBy(CommentInfoProjection::parentId));
 
+        // 댓글 작성자의 고유한 프로필 이미지만 한 번씩 서명
+        Map<String, String> profileImageSignedURLMap = cloudFrontSignedUrlGenerator.generateProfileImageSignedUrls(
+                projections.stream()
+                        .map(CommentInfoProjection::s3SavedObjectName)
+                        .toList());
+
         // 최상위(parentId == null)만 뽑아서 재귀 매핑
         return projections.stream()
                 .filter(projection -> projection.parentId() == null)
-                .map(projection -> toCommentInfoDTO(projection, childrenMap))
+                .map(projection -> toCommentInfoDTO(projection, childrenMap, profileImageSignedURLMap))
                 .collect(Collectors.toList());
     }
 
@@ -44,12 +50,15 @@ public class CommentMapper {
      *
      * @param projection 변환할 프로젝션
      * @param childrenMap parentId → 자식 프로젝션 리스트 맵
+     * @param profileImageSignedURLMap 프로필 이미지 객체 이름 → Signed URL 맵
      * @return 변환된 CommentInfoDTO
      */
-    private CommentInfoDTO toCommentInfoDTO(CommentInfoProjection projection, Map<Long, List<CommentInfoProjection>> childrenMap) {
+    private CommentInfoDTO toCommentInfoDTO(CommentInfoProjection projection,
+                                            Map<Long, List<CommentInfoProjection>> childrenMap,
+                                            Map<String, String> profileImageSignedURLMap) {
 
-        // 프로필 이미지 S3 키 → CloudFront Signed URL 생성
-        String profileImageSignedURL = cloudFrontSignedUrlGenerator.generateProfileImageSignedUrl(projection.s3SavedObjectName());
+        // 미리 생성된 CloudFront Signed URL 조회
+        String profileImageSignedURL = profileImageSignedURLMap.get(projection.s3SavedObjectName());
 
         // AuthorDTO 생성
         CommentAuthorDTO author = CommentAuthorDTO.builder()
@@ -62,7 +71,7 @@ public class CommentMapper {
         List<CommentInfoDTO> children = Optional.ofNullable(childrenMap.get(projection.id()))
                 .orElseGet(List::of)
                 .stream()
-                .map(childProjection -> toCommentInfoDTO(childProjection, childrenMap))
+                .map(childProjection -> toCommentInfoDTO(childProjection, childrenMap, profileImageSignedURLMap))
                 .collect(Collectors.toList());
 
         // 최종 DTO 빌드
@@ -0,0 +1,184 @@
+package sumcoda.boardbuddy.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+import sumcoda.boardbuddy.cache.*;
+import sumcoda.boardbuddy.config.WebsocketConfig;
+import sumcoda.boardbuddy.repository.sseEmitter.SseEmitterRepository;
+import sumcoda.boardbuddy.service.ChatMessageWriteBehindService;
+import sumcoda.boardbuddy.service.NotificationDispatchService;
+import sumcoda.boardbuddy.service.NotificationService;
+import sumcoda.boardbuddy.service.SseEmitterHeartbeatService;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 인스턴스 로컬 캐시, 채널 실행기, write-behind 큐, 알림 처리 대기열, SSE emitter 의 상태 getter 를 Micrometer 지표로 등록
+ * 값은 수집(scrape) 시점에 getter 를 호출하여 읽으므로 요청 처리 경로에는 비용이 추가되지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardBuddyMeterBinder implements MeterBinder {
+
+    private final GatherArticleListCache gatherArticleListCache;
+
+    private final GatherArticleDetailCache gatherArticleDetailCache;
+
+    private final GatherArticleSearchIndex gatherArticleSearchIndex;
+
+    private final ChatRoomRecentMessageBuffer chatRoomRecentMessageBuffer;
+
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+
+    private final CloudFrontSignedUrlCache cloudFrontSignedUrlCache;
+
+    private final LocalCacheEvictionRelay localCacheEvictionRelay;
+
+    private final ChatMessageWriteBehindService chatMessageWriteBehindService;
+
+    private final WebsocketConfig websocketConfig;
+
+    private final NotificationService notificationService;
+
+    private final NotificationDispatchService notificationDispatchService;
+
+    private final SseEmitterRepository sseEmitterRepository;
+
+    private final SseEmitterHeartbeatService sseEmitterHeartbeatService;
+
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        // 캐시
+        bindCacheSize(registry, "gather-article-list", gatherArticleListCache, GatherArticleListCache::size);
+        bindCacheRequests(registry, "gather-article-list", gatherArticleListCache, GatherArticleListCache::getHitCount, GatherArticleListCache::getMissCount);
+
+        bindCacheSize(registry, "gather-article-detail", gatherArticleDetailCache, GatherArticleDetailCache::size);
+        bindCacheRequests(registry, "gather-article-detail", gatherArticleDetailCache, GatherArticleDetailCache::getHitCount, GatherArticleDetailCache::getMissCount);
+
+        bindCacheRequests(registry, "chat-recent-message", chatRoomRecentMessageBuffer, ChatRoomRecentMessageBuffer::getHitCount, ChatRoomRecentMessageBuffer::getMissCount);
+
+        bindCacheSize(registry, "chat-room-membership", chatRoomMembershipCache, ChatRoomMembershipCache::size);
+
+        bindCacheSize(registry, "cloudfront-signed-url", cloudFrontSignedUrlCache, CloudFrontSignedUrlCache::size);
+        bindCacheRequests(registry, "cloudfront-signed-url", cloudFrontSignedUrlCache, CloudFrontSignedUrlCache::getHitCount, CloudFrontSignedUrlCache::getMissCount);
+        FunctionCounter.builder("boardbuddy.cache.evictions", cloudFrontSignedUrlCache, CloudFrontSignedUrlCache::getEvictionCount)
+                .tag("cache", "cloudfront-signed-url")
+                .register(registry);
+
+        FunctionCounter.builder("boardbuddy.cache.eviction.relay.failures", localCacheEvictionRelay, LocalCacheEvictionRelay::getFailedPublishCount)
+                .description("다른 인스턴스로 중계하지 못한 캐시 무효화 수")
+                .register(registry);
+
+        // 모집글 검색 색인
+        Gauge.builder("boardbuddy.search.index.ready", gatherArticleSearchIndex, index -> index.isReady() ? 1 : 0)
+                .description("모집글 검색 색인 생성 완료 여부")
+                .register(registry);
+        Gauge.builder("boardbuddy.search.index.bigrams", gatherArticleSearchIndex, GatherArticleSearchIndex::getBigramCount)
+                .register(registry);
+        Gauge.builder("boardbuddy.search.index.postings", gatherArticleSearchIndex, GatherArticleSearchIndex::getPostingCount)
+                .register(registry);
+        Gauge.builder("boardbuddy.search.index.deleted", gatherArticleSearchIndex, GatherArticleSearchIndex::getDeletedCount)
+                .description("압축 전까지 posting list 에 남아있는 삭제된 모집글 수")
+                .register(registry);
+
+        // 채팅 메세지 write-behind
+        Gauge.builder("boardbuddy.chat.write.behind.queue", chatMessageWriteBehindService, ChatMessageWriteBehindService::getQueueDepth)
+                .description("DB 저장 대기중인 채팅 메세지 수")
+                .register(registry);
+        FunctionCounter.builder("boardbuddy.chat.write.behind.persisted", chatMessageWriteBehindService, ChatMessageWriteBehindService::getPersistedCount)
+                .register(registry);
+        FunctionCounter.builder("boardbuddy.chat.write.behind.flush.failures", chatMessageWriteBehindService, ChatMessageWriteBehindService::getFailedFlushCount)
+                .register(registry);
+        FunctionCounter.builder("boardbuddy.chat.write.behind.rejected", chatMessageWriteBehindService, ChatMessageWriteBehindService::getRejectedCount)
+                .description("제약 조건 위반으로 저장하지 못하고 dead-letter 목록으로 옮긴 채팅 메세지 수")
+                .register(registry);
+        FunctionCounter.builder("boardbuddy.chat.write.behind.dead.letter.failures", chatMessageWriteBehindService, ChatMessageWriteBehindService::getDeadLetterFailureCount)
+                .description("dead-letter 목록에도 보관하지 못하고 로그에만 남은 채팅 메세지 수")
+                .register(registry);
+        Gauge.builder("boardbuddy.chat.write.behind.flush.latency", chatMessageWriteBehindService, ChatMessageWriteBehindService::getLastFlushLatencyMillis)
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("boardbuddy.chat.write.behind.persist.lag", chatMessageWriteBehindService, ChatMessageWriteBehindService::getLastPersistLagMillis)
+                .baseUnit("milliseconds")
+                .register(registry);
+
+        // STOMP 채널 실행기
+        bindChannelExecutor(registry, "inbound", websocketConfig.getInboundChannelExecutorStats());
+        bindChannelExecutor(registry, "outbound", websocketConfig.getOutboundChannelExecutorStats());
+
+        // SSE 알림
+        Gauge.builder("boardbuddy.sse.emitters.active", sseEmitterRepository, SseEmitterRepository::countEmitters)
+                .description("연결된 SSE emitter 수 (탭 단위)")
+                .register(registry);
+        Gauge.builder("boardbuddy.sse.subscribers.active", sseEmitterRepository, SseEmitterRepository::countSubscribers)
+                .description("SSE 로 연결된 사용자 수")
+                .register(registry);
+        FunctionCounter.builder("boardbuddy.sse.emitters.reaped", sseEmitterHeartbeatService, SseEmitterHeartbeatService::getReapedCount)
+                .description("heartbeat 로 정리한 끊어진 연결 수")
+                .register(registry);
+        FunctionCounter.builder("boardbuddy.sse.send.failures", notificationService, NotificationService::getSendFailureCount)
+                .description("SSE 알림 전송 실패 횟수")
+                .register(registry);
+        Gauge.builder("boardbuddy.sse.replay.events", sseEmitterRepository, SseEmitterRepository::countEventCaches)
+                .description("재전송 버퍼에 보관중인 SSE 이벤트 수")
+                .register(registry);
+        Gauge.builder("boardbuddy.sse.replay.users", sseEmitterRepository, SseEmitterRepository::countEventCacheUsers)
+                .description("재전송 버퍼를 가진 사용자 수")
+                .register(registry);
+
+        // 알림 비동기 처리
+        Gauge.builder("boardbuddy.notification.dispatch.queue", notificationDispatchService, NotificationDispatchService::getQueueDepth)
+                .description("저장, 전송 대기중인 알림 수")
+                .register(registry);
+        FunctionCounter.builder("boardbuddy.notification.dispatch.dispatched", notificationDispatchService, NotificationDispatchService::getDispatchedCount)
+                .register(registry);
+        FunctionCounter.builder("boardbuddy.notification.dispatch.dropped", notificationDispatchService, NotificationDispatchService::getDroppedCount)
+                .description("대기열이 가득 찼거나 받는 유저가 없어 버린 알림 수")
+                .register(registry);
+        FunctionCounter.builder("boardbuddy.notification.dispatch.flush.failures", notificationDispatchService, NotificationDispatchService::getFailedFlushCount)
+                .register(registry);
+        Gauge.builder("boardbuddy.notification.dispatch.lag", notificationDispatchService, NotificationDispatchService::getLastDispatchLagMillis)
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    private static <T> void bindCacheSize(MeterRegistry registry, String cacheName, T cache, ToDoubleFunction<T> size) {
+        Gauge.builder("boardbuddy.cache.size", cache, size)
+                .tag("cache", cacheName)
+                .register(registry);
+    }
+
+    private static <T> void bindCacheRequests(MeterRegistry registry, String cacheName, T cache, ToDoubleFunction<T> hitCount, ToDoubleFunction<T> missCount) {
+        FunctionCounter.builder("boardbuddy.cache.requests", cache, hitCount)
+                .tag("cache", cacheName)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("boardbuddy.cache.requests", cache, missCount)
+                .tag("cache", cacheName)
+                .tag("result", "miss")
+                .register(registry);
+    }
+
+    private static void bindChannelExecutor(MeterRegistry registry, String channel, WebsocketConfig.ChannelExecutorStats stats) {
+        Gauge.builder("boardbuddy.websocket.executor.active", stats, WebsocketConfig.ChannelExecutorStats::getActiveCount)
+                .tag("channel", channel)
+                .register(registry);
+        Gauge.builder("boardbuddy.websocket.executor.max", stats, WebsocketConfig.ChannelExecutorStats::getMaxConcurrency)
+                .tag("channel", channel)
+                .register(registry);
+        Gauge.builder("boardbuddy.websocket.executor.queue", stats, WebsocketConfig.ChannelExecutorStats::getQueueSize)
+                .tag("channel", channel)
+                .register(registry);
+        FunctionCounter.builder("boardbuddy.websocket.executor.completed", stats, WebsocketConfig.ChannelExecutorStats::getCompletedCount)
+                .tag("channel", channel)
+                .register(registry);
+        FunctionCounter.builder("boardbuddy.websocket.executor.rejected", stats, WebsocketConfig.ChannelExecutorStats::getRejectedCount)
+                .tag("channel", channel)
+                .register(registry);
+    }
+}
@@ -0,0 +1,76 @@
+package sumcoda.boardbuddy.metrics;
+
+/**
+ * 하나의 HTTP 요청 또는 STOMP 메세지를 처리하는 동안 실행된 SQL 통계
+ * 처리 스레드의 ThreadLocal 에 보관되며, 통계 수집 중이 아닌 스레드(스케줄러, 배치 등)의 쿼리는 기록하지 않음
+ */
+public final class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    // 실행된 statement 수 (batch 실행은 1회로 계산)
+    private int statementCount;
+
+    // statement 실행에 걸린 시간 합계 (ResultSet 을 읽는 시간은 제외)
+    private long jdbcNanos;
+
+    // ResultSet 으로 읽은 행 수
+    private long rowCount;
+
+    private SqlStatistics() {}
+
+    /**
+     * 현재 스레드에서 SQL 통계 수집을 시작
+     * 이미 수집 중이면 기존 통계를 버리고 새로 시작
+     */
+    static void begin() {
+        CURRENT.set(new SqlStatistics());
+    }
+
+    /**
+     * 현재 스레드의 SQL 통계 수집을 종료
+     *
+     * @return 수집된 통계, 수집 중이 아니었으면 null
+     */
+    static SqlStatistics end() {
+        SqlStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    /**
+     * 현재 스레드가 통계를 수집 중인지 확인
+     *
+     * @return 수집 중이면 true
+     */
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void recordStatement(long elapsedNanos) {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statementCount++;
+            statistics.jdbcNanos += elapsedNanos;
+        }
+    }
+
+    static void recordRow() {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.rowCount++;
+        }
+    }
+
+    int getStatementCount() {
+        return statementCount;
+    }
+
+    long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    long getRowCount() {
+        return rowCount;
+    }
+}
@@ -0,0 +1,141 @@
+package sumcoda.boardbuddy.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+
+/**
+ * 실행된 statement 수, 실행 시간, 조회 행 수를 SqlStatistics 에 기록하는 DataSource
+ * JPA(Hibernate)와 JdbcTemplate 쿼리를 모두 기록하기 위해 커넥션 풀 바깥에서 Connection, Statement, ResultSet 을 감쌈
+ * 통계 수집 중이 아닌 스레드에서는 Connection 을 감싸지 않고 그대로 반환
+ */
+public class SqlStatisticsDataSource extends DelegatingDataSource {
+
+    public SqlStatisticsDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        if (!SqlStatistics.isActive()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(
+                SqlStatisticsDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * proxy 의 equals, hashCode 는 proxy 자신을 기준으로 처리
+     *
+     * @return 처리했으면 결과, equals, hashCode 가 아니면 null
+     */
+    private static Object handleIdentity(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = handleIdentity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+
+            Object result = SqlStatisticsDataSource.invoke(target, method, args);
+
+            // prepareStatement, prepareCall, createStatement 가 반환하는 Statement 를 감쌈
+            if (result instanceof Statement statement && method.getReturnType().isInterface()) {
+                return Proxy.newProxyInstance(
+                        SqlStatisticsDataSource.class.getClassLoader(),
+                        new Class<?>[]{method.getReturnType()},
+                        new StatementHandler(statement));
+            }
+            return result;
+        }
+    }
+
+    private record StatementHandler(Statement target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = handleIdentity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+
+            String methodName = method.getName();
+
+            // execute, executeQuery, executeUpdate, executeBatch, executeLarge* 실행 시간을 기록
+            if (methodName.startsWith("execute")) {
+                long startNanos = System.nanoTime();
+                try {
+                    return wrapResultSet(SqlStatisticsDataSource.invoke(target, method, args));
+                } finally {
+                    SqlStatistics.recordStatement(System.nanoTime() - startNanos);
+                }
+            }
+
+            if (methodName.equals("getResultSet")) {
+                return wrapResultSet(SqlStatisticsDataSource.invoke(target, method, args));
+            }
+
+            return SqlStatisticsDataSource.invoke(target, method, args);
+        }
+
+        private static Object wrapResultSet(Object result) {
+            if (result instanceof ResultSet resultSet) {
+                return Proxy.newProxyInstance(
+                        SqlStatisticsDataSource.class.getClassLoader(),
+                        new Class<?>[]{ResultSet.class},
+                        new ResultSetHandler(resultSet));
+            }
+            return result;
+        }
+    }
+
+    private record ResultSetHandler(ResultSet target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = handleIdentity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+
+            Object result = SqlStatisticsDataSource.invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                SqlStatistics.recordRow();
+            }
+            return result;
+        }
+    }
+}
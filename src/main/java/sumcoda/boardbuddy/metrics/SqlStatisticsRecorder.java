@@ -0,0 +1,79 @@
+package sumcoda.boardbuddy.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 요청, STOMP 메세지 처리 단위로 SQL 통계를 수집하여 handler 태그를 붙인 Micrometer 지표로 기록
+ * 쿼리 수나 JDBC 시간이 설정된 예산을 넘으면 경고 로그를 남겨 N+1 후보를 찾을 수 있도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlStatisticsRecorder {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.sql-statistics.enabled:true}")
+    private boolean enabled;
+
+    // 한 번의 처리에서 허용하는 최대 statement 수, 초과하면 경고 로그
+    @Value("${spring.sql-statistics.statement-budget:20}")
+    private int statementBudget;
+
+    // 한 번의 처리에서 허용하는 최대 JDBC 실행 시간(ms), 초과하면 경고 로그
+    @Value("${spring.sql-statistics.jdbc-time-budget-millis:200}")
+    private long jdbcTimeBudgetMillis;
+
+    /**
+     * 현재 스레드에서 SQL 통계 수집을 시작
+     */
+    public void begin() {
+        if (enabled) {
+            SqlStatistics.begin();
+        }
+    }
+
+    /**
+     * 현재 스레드의 SQL 통계 수집을 종료하고 지표로 기록
+     *
+     * @param handler 처리한 handler 이름 (지표 태그로 사용되므로 경로 변수 등 값이 바뀌는 부분은 포함하지 않아야 함)
+     */
+    public void end(String handler) {
+        SqlStatistics statistics = SqlStatistics.end();
+        if (statistics == null) {
+            return;
+        }
+
+        DistributionSummary.builder("boardbuddy.sql.statements")
+                .description("처리 단위별 실행된 SQL statement 수")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(statistics.getStatementCount());
+
+        Timer.builder("boardbuddy.sql.jdbc.time")
+                .description("처리 단위별 SQL statement 실행 시간 합계")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(statistics.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder("boardbuddy.sql.rows")
+                .description("처리 단위별 조회된 행 수")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(statistics.getRowCount());
+
+        long jdbcMillis = TimeUnit.NANOSECONDS.toMillis(statistics.getJdbcNanos());
+        if (statistics.getStatementCount() > statementBudget || jdbcMillis > jdbcTimeBudgetMillis) {
+            log.warn("[SQL 통계] 예산 초과 | handler={} | 쿼리 수={} | JDBC 시간={}ms | 조회 행 수={}",
+                    handler, statistics.getStatementCount(), jdbcMillis, statistics.getRowCount());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package sumcoda.boardbuddy.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import sumcoda.boardbuddy.dto.ChatMessageRequest;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageJdbcRepository {
+
+    // Hibernate 가 Instant 를 저장할 때와 동일하게 UTC 기준으로 저장
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 서버에서 Id를 미리 할당한 채팅 메세지들을 한 번의 배치로 저장
+     * 커밋 응답을 받지 못해 재시도한 배치처럼 이미 저장된 메세지는 Id로 확인하여 제외 (멱등)
+     * 외래 키 등 제약 조건 위반은 무시하지 않고 예외로 전달
+     * 같은 트랜잭션에서 채팅방별 마지막 메세지 요약도 함께 갱신
+     *
+     * @param persistDTOList 저장할 채팅 메세지 목록
+     * @return 이미 저장되어 있어 제외한 메세지 수
+     * @throws DuplicateKeyException 같은 Id로 다른 채팅방의 메세지가 이미 저장되어 있을 때 (Id 할당 충돌)
+     */
+    @Transactional
+    public int insertChatMessages(List<ChatMessageRequest.PersistDTO> persistDTOList) {
+        Map<Long, Long> existingChatRoomIds = findExistingChatRoomIdsById(persistDTOList);
+
+        List<ChatMessageRequest.PersistDTO> newMessages = new ArrayList<>(persistDTOList.size());
+        for (ChatMessageRequest.PersistDTO persistDTO : persistDTOList) {
+            Long existingChatRoomId = existingChatRoomIds.get(persistDTO.getId());
+            if (existingChatRoomId == null) {
+                newMessages.add(persistDTO);
+            } else if (!existingChatRoomId.equals(persistDTO.getChatRoomId())) {
+                throw new DuplicateKeyException("채팅 메세지 Id가 다른 메세지와 충돌합니다. Id=" + persistDTO.getId());
+            }
+        }
+
+        if (newMessages.isEmpty()) {
+            return persistDTOList.size();
+        }
+
+        String sql = "INSERT INTO chat_message (id, content, message_type, member_id, chat_room_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        jdbcTemplate.batchUpdate(sql, newMessages, newMessages.size(), (ps, persistDTO) -> {
+            Timestamp createdAt = Timestamp.from(persistDTO.getCreatedAt());
+            ps.setLong(1, persistDTO.getId());
+            ps.setString(2, persistDTO.getContent());
+            ps.setString(3, persistDTO.getMessageType().name());
+            ps.setLong(4, persistDTO.getMemberId());
+            ps.setLong(5, persistDTO.getChatRoomId());
+            ps.setTimestamp(6, createdAt, Calendar.getInstance(UTC));
+            ps.setTimestamp(7, createdAt, Calendar.getInstance(UTC));
+        });
+
+        updateLastChatMessages(newMessages);
+
+        return persistDTOList.size() - newMessages.size();
+    }
+
+    /**
+     * 배치에 포함된 Id 중 이미 저장된 메세지의 채팅방 Id를 조회
+     *
+     * @param persistDTOList 저장할 채팅 메세지 목록
+     * @return 이미 저장된 메세지 Id → 채팅방 Id
+     */
+    private Map<Long, Long> findExistingChatRoomIdsById(List<ChatMessageRequest.PersistDTO> persistDTOList) {
+        String placeholders = String.join(", ", Collections.nCopies(persistDTOList.size(), "?"));
+        Object[] ids = persistDTOList.stream().map(ChatMessageRequest.PersistDTO::getId).toArray();
+
+        Map<Long, Long> existingChatRoomIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, chat_room_id FROM chat_message WHERE id IN (" + placeholders + ")",
+                rs -> {
+                    existingChatRoomIds.put(rs.getLong("id"), rs.getLong("chat_room_id"));
+                },
+                ids);
+        return existingChatRoomIds;
+    }
+
+    /**
+     * 배치에 포함된 채팅방별 가장 최신 메세지로 채팅방의 마지막 메세지 요약을 갱신
+     * 이미 더 최신 메세지가 반영되어 있으면 갱신하지 않음
+     *
+     * @param persistDTOList 저장한 채팅 메세지 목록
+     */
+    private void updateLastChatMessages(List<ChatMessageRequest.PersistDTO> persistDTOList) {
+        Map<Long, ChatMessageRequest.PersistDTO> lastMessageByChatRoomId = new HashMap<>();
+        for (ChatMessageRequest.PersistDTO persistDTO : persistDTOList) {
+            lastMessageByChatRoomId.merge(persistDTO.getChatRoomId(), persistDTO,
+                    (current, candidate) -> candidate.getId() > current.getId() ? candidate : current);
+        }
+
+        List<ChatMessageRequest.PersistDTO> lastMessages = new ArrayList<>(lastMessageByChatRoomId.values());
+
+        String sql = "UPDATE chat_room SET last_chat_message_id = ?, last_chat_message_content = ?, last_chat_message_sent_at = ? " +
+                "WHERE id = ? AND (last_chat_message_id IS NULL OR last_chat_message_id < ?)";
+        jdbcTemplate.batchUpdate(sql, lastMessages, lastMessages.size(), (ps, persistDTO) -> {
+            ps.setLong(1, persistDTO.getId());
+            ps.setString(2, persistDTO.getContent());
+            ps.setTimestamp(3, Timestamp.from(persistDTO.getCreatedAt()), Calendar.getInstance(UTC));
+            ps.setLong(4, persistDTO.getChatRoomId());
+            ps.setLong(5, persistDTO.getId());
+        });
+    }
+
+    /**
+     * 현재 저장된 채팅 메세지 Id 중 가장 큰 값을 조회
+     *
+     * @return 가장 큰 채팅 메세지 Id, 메세지가 없으면 0
+     */
+    public long findMaxChatMessageId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM chat_message", Long.class);
+        return maxId == null ? 0L : maxId;
+    }
+}
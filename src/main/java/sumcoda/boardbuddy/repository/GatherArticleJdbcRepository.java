@@ -0,0 +1,90 @@
+package sumcoda.boardbuddy.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class GatherArticleJdbcRepository {
+
+    // 스트리밍 조회 시 한 번에 가져올 행 수
+    private static final int STREAMING_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 모든 모집글의 Id, 제목, 설명을 전체 결과를 메모리에 올리지 않고 한 행씩 전달
+     *
+     * @param consumer 모집글 한 건마다 호출할 콜백
+     */
+    public void streamSearchTexts(SearchTextConsumer consumer) {
+        String sql = "SELECT id, title, description FROM gather_article";
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAMING_FETCH_SIZE);
+            return ps;
+        }, resultSet -> {
+            consumer.accept(resultSet.getLong("id"), resultSet.getString("title"), resultSet.getString("description"));
+        });
+    }
+
+    /**
+     * 검색 토큰이 없는 모집글의 Id, 제목, 설명을 Id 오름차순으로 한 배치만큼 조회
+     * 마지막으로 읽은 Id 다음부터 PK 범위로 읽으므로 배치마다 처음부터 다시 찾지 않음
+     *
+     * @param afterId 이 Id 보다 큰 모집글부터 조회
+     * @param limit 최대 조회 수
+     * @return 검색 토큰이 없는 모집글 목록
+     */
+    public List<SearchText> findSearchTextsWithoutTokens(long afterId, int limit) {
+        String sql = "SELECT id, title, description FROM gather_article " +
+                "WHERE id > ? AND search_tokens IS NULL " +
+                "ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(sql,
+                (resultSet, rowNum) -> new SearchText(resultSet.getLong("id"), resultSet.getString("title"), resultSet.getString("description")),
+                afterId, limit);
+    }
+
+    /**
+     * 모집글의 검색 토큰을 한 번의 batch 로 저장
+     * 그 사이 수정되어 이미 토큰이 생성된 모집글은 덮어쓰지 않음
+     *
+     * @param searchTokensById 모집글 Id → 검색 토큰
+     */
+    public void updateSearchTokens(Map<Long, String> searchTokensById) {
+        String sql = "UPDATE gather_article SET search_tokens = ? WHERE id = ? AND search_tokens IS NULL";
+
+        List<Map.Entry<Long, String>> entries = new ArrayList<>(searchTokensById.entrySet());
+        jdbcTemplate.batchUpdate(sql, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+
+    /**
+     * 모든 모집글의 비정규화된 작성자 랭킹을 member 테이블의 현재 랭킹으로 갱신
+     * 랭킹이 바뀐 작성자의 모집글만 갱신
+     *
+     * @return 갱신된 모집글 수
+     */
+    public int syncAuthorRanks() {
+        String sql = "UPDATE gather_article ga JOIN member m ON m.id = ga.author_id " +
+                "SET ga.author_rank = m.rank " +
+                "WHERE NOT (ga.author_rank <=> m.rank)";
+        return jdbcTemplate.update(sql);
+    }
+
+    public record SearchText(Long gatherArticleId, String title, String description) {}
+
+    @FunctionalInterface
+    public interface SearchTextConsumer {
+        void accept(Long gatherArticleId, String title, String description);
+    }
+}
@@ -0,0 +1,56 @@
+package sumcoda.boardbuddy.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import sumcoda.boardbuddy.dto.event.NotificationCreatedEvent;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림들을 한 번의 배치로 저장
+     * 받는 유저의 Id는 INSERT ... SELECT 로 같은 구문 안에서 조회하므로 유저 조회 쿼리가 따로 필요 없음
+     *
+     * @param events 저장할 알림 이벤트 목록
+     * @return 알림별 저장된 행 수, 받는 유저가 없으면 0 (드라이버가 행 수를 알려주지 않으면 음수)
+     */
+    @Transactional
+    public int[] insertNotifications(List<NotificationCreatedEvent> events) {
+        String sql = "INSERT INTO notification (message, created_at, member_id) SELECT ?, ?, id FROM member WHERE username = ?";
+        int[][] updateCounts = jdbcTemplate.batchUpdate(sql, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.message());
+            ps.setTimestamp(2, Timestamp.valueOf(event.createdAt()));
+            ps.setString(3, event.username());
+        });
+
+        return updateCounts.length == 0 ? new int[0] : updateCounts[0];
+    }
+
+    /**
+     * 여러 유저에게 같은 알림을 한 번의 배치로 저장
+     * 받는 유저의 Id를 이미 알고 있으므로 VALUES 로 저장하여 드라이버가 하나의 INSERT 로 묶을 수 있음
+     *
+     * @param memberIds 알림을 받는 유저 Id 목록
+     * @param message 알림 메세지
+     * @param createdAt 알림 생성 시점
+     */
+    @Transactional
+    public void insertNotificationsForMembers(List<Long> memberIds, String message, LocalDateTime createdAt) {
+        String sql = "INSERT INTO notification (message, created_at, member_id) VALUES (?, ?, ?)";
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(sql, memberIds, memberIds.size(), (ps, memberId) -> {
+            ps.setString(1, message);
+            ps.setTimestamp(2, timestamp);
+            ps.setLong(3, memberId);
+        });
+    }
+}
@@ -19,4 +19,6 @@ public interface ChatMessageRepositoryCustom {
 
     Optional<ChatMessageItemInfoProjection> findChatMessageById(Long chatMessageId);
 
+    List<ChatMessageItemInfoProjection> findRecentMessagesByChatRoomId(Long chatRoomId, int limit);
+
 }
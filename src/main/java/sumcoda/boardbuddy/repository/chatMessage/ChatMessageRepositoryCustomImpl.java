@@ -268,5 +268,33 @@ public class ChatMessageRepositoryCustomImpl implements ChatMessageRepositoryCus
                 .fetchOne());
     }
 
+    /**
+     * 채팅방의 최신 메시지를 입장 시각과 관계없이 최대 limit 개 조회
+     * 최근 메시지 버퍼를 채우는 용도로 사용
+     *
+     * @param chatRoomId 조회할 채팅방 ID
+     * @param limit 조회할 최대 메시지 수
+     * @return 최신 메시지 목록 (DESC)
+     **/
+    @Override
+    public List<ChatMessageItemInfoProjection> findRecentMessagesByChatRoomId(Long chatRoomId, int limit) {
+        return jpaQueryFactory
+                .select(Projections.constructor(
+                        ChatMessageItemInfoProjection.class,
+                        chatMessage.id,
+                        chatMessage.content,
+                        member.nickname,
+                        profileImage.s3SavedObjectName,
+                        member.rank,
+                        chatMessage.messageType,
+                        chatMessage.createdAt.as("sentAt")
+                ))
+                .from(chatMessage)
+                .innerJoin(chatMessage.member, member)
+                .leftJoin(member.profileImage, profileImage)
+                .where(chatMessage.chatRoom.id.eq(chatRoomId))
+                .orderBy(chatMessage.createdAt.desc(), chatMessage.id.desc())
+                .limit(limit)
+                .fetch();
+    }
 }
-
@@ -4,6 +4,7 @@ import org.springframework.stereotype.Repository;
 import sumcoda.boardbuddy.dto.ChatRoomResponse;
 import sumcoda.boardbuddy.dto.fetch.ChatRoomInfoProjection;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,5 +13,7 @@ public interface ChatRoomRepositoryCustom {
 
     Optional<ChatRoomResponse.ValidateDTO> findValidateDTOByGatherArticleId(Long gatherArticleId);
 
-    List<ChatRoomInfoProjection> findChatRoomInfoProjectionsByUsername(String username);
+    Optional<List<ChatRoomInfoProjection>> findChatRoomInfoProjectionsByUsername(String username);
+
+    long updateLastChatMessage(Long chatRoomId, Long chatMessageId, String content, Instant sentAt);
 }
@@ -1,24 +1,22 @@
 package sumcoda.boardbuddy.repository.chatRoom;
 
 import com.querydsl.core.types.Projections;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import sumcoda.boardbuddy.dto.ChatRoomResponse;
 import sumcoda.boardbuddy.dto.fetch.ChatMessageLastSentInfoProjection;
 import sumcoda.boardbuddy.dto.fetch.ChatRoomInfoProjection;
 import sumcoda.boardbuddy.dto.fetch.GatherArticleSimpleInfoProjection;
-import sumcoda.boardbuddy.entity.QChatMessage;
-import sumcoda.boardbuddy.entity.QChatRoom;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
-import static sumcoda.boardbuddy.entity.QChatMessage.chatMessage;
 import static sumcoda.boardbuddy.entity.QChatRoom.*;
 import static sumcoda.boardbuddy.entity.QGatherArticle.gatherArticle;
 import static sumcoda.boardbuddy.entity.QMember.member;
 import static sumcoda.boardbuddy.entity.QMemberChatRoom.memberChatRoom;
+import static sumcoda.boardbuddy.util.QueryResultUtil.toChildListIfParentExists;
 
 @RequiredArgsConstructor
 public class ChatRoomRepositoryCustomImpl implements ChatRoomRepositoryCustom {
@@ -44,18 +42,16 @@ public class ChatRoomRepositoryCustomImpl implements ChatRoomRepositoryCustom {
 
     /**
      * 특정 사용자 아이디 사용자가 속한 채팅방 상세 정보 목록 조회
+     * 채팅방에 저장된 마지막 메세지 요약을 사용하므로 채팅 메세지 테이블을 조회하지 않음
+     * 아직 메세지가 없는 채팅방도 포함하며, 마지막 메세지 전송 시각 내림차순으로 정렬
+     * 사용자 존재 여부도 함께 확인하기 위해 사용자 기준으로 left join
      *
      * @param username 사용자 아이디
-     * @return 사용자가 속한 채팅방의 상세 정보 목록
+     * @return 사용자가 속한 채팅방의 상세 정보 목록, 사용자가 존재하지 않으면 Optional.empty()
      **/
     @Override
-    public List<ChatRoomInfoProjection> findChatRoomInfoProjectionsByUsername(String username) {
-
-        QChatMessage subQueryChatMessage = new QChatMessage("subQueryChatMessage");
-
-        QChatRoom subQueryChatRoom = new QChatRoom("subQueryChatRoom");
-
-        return jpaQueryFactory
+    public Optional<List<ChatRoomInfoProjection>> findChatRoomInfoProjectionsByUsername(String username) {
+        List<ChatRoomInfoProjection> rows = jpaQueryFactory
                 .select(Projections.constructor(ChatRoomInfoProjection.class,
                         chatRoom.id.as("chatRoomId"),
                         Projections.constructor(GatherArticleSimpleInfoProjection.class,
@@ -65,25 +61,43 @@ public class ChatRoomRepositoryCustomImpl implements ChatRoomRepositoryCustom {
                                 gatherArticle.currentParticipants
                         ),
                         Projections.constructor(ChatMessageLastSentInfoProjection.class,
-                                chatMessage.content,
-                                chatMessage.createdAt.as("sentAt")
+                                chatRoom.lastChatMessageContent,
+                                chatRoom.lastChatMessageSentAt.as("sentAt")
                         )
                 ))
-                .from(memberChatRoom)
-                .join(memberChatRoom.member, member)
-                .join(memberChatRoom.chatRoom, chatRoom)
-                .leftJoin(chatRoom.chatMessages, chatMessage)
-                .join(chatRoom.gatherArticle, gatherArticle)
-                .where(member.username.eq(username)
-                        .and(chatMessage.createdAt.in(
-                                JPAExpressions
-                                        .select(subQueryChatMessage.createdAt.max())
-                                        .from(subQueryChatMessage)
-                                        .leftJoin(subQueryChatMessage.chatRoom, subQueryChatRoom)
-                                        .where(subQueryChatRoom.id.eq(chatRoom.id))
-                        ))
-                )
-                .orderBy(chatMessage.createdAt.desc())
+                .from(member)
+                // 참여중인 채팅방이 없는 사용자도 한 행 조회되도록 left join
+                .leftJoin(member.memberChatRooms, memberChatRoom)
+                .leftJoin(memberChatRoom.chatRoom, chatRoom)
+                .leftJoin(chatRoom.gatherArticle, gatherArticle)
+                .where(member.username.eq(username))
+                .orderBy(chatRoom.lastChatMessageSentAt.desc().nullsLast(), chatRoom.id.desc())
                 .fetch();
+
+        // 모집글과 연결되지 않은 채팅방은 기존과 동일하게 제외
+        return toChildListIfParentExists(rows, row -> row.chatRoomId() == null
+                || row.gatherArticleSimpleInfoProjection().gatherArticleId() == null);
+    }
+
+    /**
+     * 채팅방의 마지막 메세지 요약을 갱신
+     * 더 최신 메세지(Id가 더 큰 메세지)일 때만 갱신하여 동시에 저장된 메세지 간 역전을 방지
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param chatMessageId 저장된 메세지 Id
+     * @param content 저장된 메세지 내용
+     * @param sentAt 저장된 메세지 전송 시각
+     * @return 갱신된 행 수
+     **/
+    @Override
+    public long updateLastChatMessage(Long chatRoomId, Long chatMessageId, String content, Instant sentAt) {
+        return jpaQueryFactory
+                .update(chatRoom)
+                .set(chatRoom.lastChatMessageId, chatMessageId)
+                .set(chatRoom.lastChatMessageContent, content)
+                .set(chatRoom.lastChatMessageSentAt, sentAt)
+                .where(chatRoom.id.eq(chatRoomId)
+                        .and(chatRoom.lastChatMessageId.isNull().or(chatRoom.lastChatMessageId.lt(chatMessageId))))
+                .execute();
     }
 }
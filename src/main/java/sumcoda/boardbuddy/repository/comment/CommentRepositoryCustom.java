@@ -13,7 +13,7 @@ public interface CommentRepositoryCustom {
 
   long countCommentsByMember(Member member, LocalDateTime startOfLastMonth, LocalDateTime endOfLastMonth);
 
-  List<CommentInfoProjection> findCommentInfoProjectionsByGatherArticleId(Long gatherArticleId);
+  Optional<List<CommentInfoProjection>> findCommentInfoProjectionsByGatherArticleId(Long gatherArticleId);
 
   Optional<Comment> findCommentByCommentId(Long commentId);
 
@@ -13,8 +13,10 @@ import java.util.List;
 import java.util.Optional;
 
 import static sumcoda.boardbuddy.entity.QComment.*;
+import static sumcoda.boardbuddy.entity.QGatherArticle.gatherArticle;
 import static sumcoda.boardbuddy.entity.QMember.member;
 import static sumcoda.boardbuddy.entity.QProfileImage.profileImage;
+import static sumcoda.boardbuddy.util.QueryResultUtil.toChildListIfParentExists;
 
 @RequiredArgsConstructor
 public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
@@ -31,10 +33,16 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
                 .fetchOne();
     }
 
+    /**
+     * 모집글의 댓글 목록을 모집글 존재 여부와 함께 한 번의 쿼리로 조회
+     *
+     * @param gatherArticleId 모집글 Id
+     * @return 댓글 목록, 모집글이 존재하지 않으면 Optional.empty()
+     **/
     @Override
-    public List<CommentInfoProjection> findCommentInfoProjectionsByGatherArticleId(Long gatherArticleId) {
+    public Optional<List<CommentInfoProjection>> findCommentInfoProjectionsByGatherArticleId(Long gatherArticleId) {
 
-        return jpaQueryFactory
+        List<CommentInfoProjection> rows = jpaQueryFactory
                 .select(Projections.constructor(CommentInfoProjection.class,
                         comment.id,
                         comment.parent.id,
@@ -44,13 +52,17 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
                         member.rank,
                         profileImage.s3SavedObjectName
                 ))
-                .from(comment)
-                // 1) Comment → Member 조인 (inner)
-                .join(comment.member, member)
-                // 2) Member → ProfileImage 조인 (left)
+                .from(gatherArticle)
+                // 1) GatherArticle → Comment 조인 (left, 댓글이 없는 모집글도 한 행 조회)
+                .leftJoin(gatherArticle.comments, comment)
+                // 2) Comment → Member 조인 (left)
+                .leftJoin(comment.member, member)
+                // 3) Member → ProfileImage 조인 (left)
                 .leftJoin(member.profileImage, profileImage)
-                .where(comment.gatherArticle.id.eq(gatherArticleId))
+                .where(gatherArticle.id.eq(gatherArticleId))
                 .fetch();
+
+        return toChildListIfParentExists(rows, row -> row.id() == null);
     }
 
     @Override
@@ -3,8 +3,7 @@ package sumcoda.boardbuddy.repository.gatherArticle;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import sumcoda.boardbuddy.dto.GatherArticleResponse;
-import sumcoda.boardbuddy.dto.fetch.GatherArticleAuthorProjection;
-import sumcoda.boardbuddy.dto.fetch.GatherArticleDetailedInfoProjection;
+import sumcoda.boardbuddy.dto.fetch.GatherArticleDetailWithAuthorProjection;
 import sumcoda.boardbuddy.entity.Member;
 import sumcoda.boardbuddy.enumerate.MemberGatherArticleRole;
 
@@ -19,6 +18,8 @@ public interface GatherArticleRepositoryCustom {
 
     Boolean isMemberAuthorOfGatherArticle(Long gatherArticleId, String username);
 
+    Optional<String> findAuthorUsernameById(Long gatherArticleId);
+
     long countGatherArticlesByMember(Member member, LocalDateTime startOfLastMonth, LocalDateTime endOfLastMonth);
 
     Optional<GatherArticleResponse.IdDTO> findIdDTOById(Long gatherArticleId);
@@ -32,26 +33,26 @@ public interface GatherArticleRepositoryCustom {
 
     /**
      * @apiNote V2 - 사용자가 지정한 지역 기반 모집글 리스트 조회
+     * keywordCandidateIds 가 null 이 아니면 FULLTEXT 색인 대신 인메모리 검색 색인이 찾은 후보 Id로 검색
+     * cursorId 가 null 이 아니면 OFFSET 대신 커서 (시작 시각, Id) 다음 위치부터 조회 (keyset 페이지네이션)
+     * 작성자 정보는 gather_article 의 비정규화 컬럼에서 읽으므로 조인 없이 단일 테이블로 조회
      */
     Slice<GatherArticleResponse.ReadSliceDTO> findReadSliceDTOByLocationV2AndStatusAndSortAndKeyword(
             String sido, String sgg,
-            String status, String sort, String keyword, MemberGatherArticleRole role, Pageable pageable);
+            String status, String sort, String keyword, List<Long> keywordCandidateIds,
+            LocalDateTime cursorStartDateTime, Long cursorId, Pageable pageable);
 
-    Optional<GatherArticleResponse.SummaryInfoDTO> findSimpleInfoByGatherArticleId(Long gatherArticleId);
+    long updateAuthorNicknameByAuthorId(Long authorId, String authorNickname);
 
-    Optional<GatherArticleDetailedInfoProjection> findGatherArticleDetailedInfoByGatherArticleId(Long gatherArticleId);
+    Optional<GatherArticleResponse.SummaryInfoDTO> findSimpleInfoByGatherArticleId(Long gatherArticleId);
 
-    Optional<GatherArticleAuthorProjection> findGatherArticleAuthorByGatherArticleId(Long gatherArticleId);
+    Optional<GatherArticleDetailWithAuthorProjection> findGatherArticleDetailWithAuthorByGatherArticleId(Long gatherArticleId);
 
     Optional<GatherArticleResponse.ParticipationApplicationStatusDTO> findParticipationApplicationStatusDTOByGatherArticleIdAndUsername(Long gatherArticleId, String username);
 
     Optional<GatherArticleResponse.TitleDTO> findTitleDTOById(Long gatherArticleId);
 
-    /**
-     * @apiNote 임시 비활성화된 상태
-     *          위치 관련 코드 제거 필요
-     */
-//    Optional<GatherArticleResponse.LocationInfoDTO> findLocationInfoDTOById(Long gatherArticleId);
+    Optional<GatherArticleResponse.LocationInfoDTO> findLocationInfoDTOById(Long gatherArticleId);
 
     /**
      * @apiNote 임시 비활성화된 상태
@@ -16,6 +16,7 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import sumcoda.boardbuddy.dto.GatherArticleResponse;
 import sumcoda.boardbuddy.dto.fetch.GatherArticleAuthorProjection;
+import sumcoda.boardbuddy.dto.fetch.GatherArticleDetailWithAuthorProjection;
 import sumcoda.boardbuddy.dto.fetch.GatherArticleDetailedInfoProjection;
 import sumcoda.boardbuddy.entity.QMember;
 import sumcoda.boardbuddy.entity.QMemberGatherArticle;
@@ -35,6 +36,7 @@ import static sumcoda.boardbuddy.entity.QMember.member;
 import static sumcoda.boardbuddy.entity.QMemberGatherArticle.memberGatherArticle;
 import static sumcoda.boardbuddy.entity.QParticipationApplication.participationApplication;
 import static sumcoda.boardbuddy.entity.QProfileImage.profileImage;
+import static sumcoda.boardbuddy.util.GatherArticleSearchTokenUtil.buildBooleanModeQuery;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -109,6 +111,23 @@ public class GatherArticleRepositoryCustomImpl implements GatherArticleRepositor
                 .fetchOne() != null;
     }
 
+    /**
+     * 모집글 작성자의 username 조회
+     * 모집글 존재 여부와 작성자 여부를 한 번의 쿼리로 확인하기 위해 사용
+     *
+     * @param gatherArticleId 모집글 Id
+     * @return 작성자 username, 모집글이 없으면 Optional.empty()
+     */
+    @Override
+    public Optional<String> findAuthorUsernameById(Long gatherArticleId) {
+        return Optional.ofNullable(jpaQueryFactory
+                .select(member.username)
+                .from(gatherArticle)
+                .innerJoin(member).on(member.id.eq(gatherArticle.authorId))
+                .where(gatherArticle.id.eq(gatherArticleId))
+                .fetchOne());
+    }
+
     // 지난 달에 쓴 모집글 갯수 세기
     @Override
     public long countGatherArticlesByMember(Member member, LocalDateTime startOfLastMonth, LocalDateTime endOfLastMonth) {
@@ -182,7 +201,8 @@ public class GatherArticleRepositoryCustomImpl implements GatherArticleRepositor
     @Override
     public Slice<GatherArticleResponse.ReadSliceDTO> findReadSliceDTOByLocationV2AndStatusAndSortAndKeyword(
             String sido, String sgg,
-            String status, String sort, String keyword, MemberGatherArticleRole role, Pageable pageable) {
+            String status, String sort, String keyword, List<Long> keywordCandidateIds,
+            LocalDateTime cursorStartDateTime, Long cursorId, Pageable pageable) {
 
         BooleanBuilder builder = new BooleanBuilder();
 
@@ -194,11 +214,19 @@ public class GatherArticleRepositoryCustomImpl implements GatherArticleRepositor
             builder.and(gatherArticle.sgg.eq(sgg));
         }
 
-        BooleanExpression keywordCondition = containsKeywordInTitleOrDescription(keyword);
+        BooleanExpression keywordCondition = containsKeywordInTitleOrDescription(keyword, keywordCandidateIds);
         if (keywordCondition != null) {
             builder.and(keywordCondition);
         }
 
+        BooleanExpression cursorCondition = afterCursor(sort, cursorStartDateTime, cursorId);
+        if (cursorCondition != null) {
+            builder.and(cursorCondition);
+        }
+
+        // 커서가 있으면 정렬 색인에서 커서 위치로 바로 이동하므로 OFFSET 을 사용하지 않음
+        long offset = cursorCondition != null ? 0 : pageable.getOffset();
+
         List<GatherArticleResponse.ReadSliceDTO> results = jpaQueryFactory
                 .select(Projections.fields(
                         GatherArticleResponse.ReadSliceDTO.class,
@@ -206,8 +234,8 @@ public class GatherArticleRepositoryCustomImpl implements GatherArticleRepositor
                         gatherArticle.title,
                         gatherArticle.description,
                         Projections.fields(GatherArticleResponse.AuthorSimpleDTO.class,
-                                member.nickname.as("nickname"),
-                                member.rank.as("rank")).as("author"),
+                                gatherArticle.authorNickname.as("nickname"),
+                                gatherArticle.authorRank.as("rank")).as("author"),
                         gatherArticle.meetingLocation,
                         gatherArticle.maxParticipants,
                         gatherArticle.currentParticipants,
@@ -216,15 +244,12 @@ public class GatherArticleRepositoryCustomImpl implements GatherArticleRepositor
                         gatherArticle.createdAt,
                         gatherArticle.gatherArticleStatus.as("status")))
                 .from(gatherArticle)
-                .join(gatherArticle.memberGatherArticles, memberGatherArticle)
-                .join(memberGatherArticle.member, member)
                 .where(
                         builder,
-                        eqStatus(status),
-                        eqMemberGatherArticleRole(role)
+                        eqStatus(status)
                 )
                 .orderBy(getOrderSpecifiers(sort))
-                .offset(pageable.getOffset())
+                .offset(offset)
                 .limit(pageable.getPageSize() + 1)
                 .fetch();
 
@@ -238,6 +263,44 @@ public class GatherArticleRepositoryCustomImpl implements GatherArticleRepositor
         return new SliceImpl<>(results, pageable, hasNext);
     }
 
+    /**
+     * 작성자가 쓴 모든 모집글의 비정규화된 작성자 닉네임을 갱신
+     *
+     * @param authorId 작성자 Id
+     * @param authorNickname 변경된 닉네임
+     * @return 갱신된 모집글 수
+     */
+    @Override
+    public long updateAuthorNicknameByAuthorId(Long authorId, String authorNickname) {
+        return jpaQueryFactory
+                .update(gatherArticle)
+                .set(gatherArticle.authorNickname, authorNickname)
+                .where(gatherArticle.authorId.eq(authorId))
+                .execute();
+    }
+
+    /**
+     * 정렬 순서상 커서 모집글 다음에 오는 모집글 조건
+     * 최신순은 Id 내림차순, 마감 임박순은 (시작 시각 오름차순, Id 오름차순) 기준
+     *
+     * @param sort 정렬 기준
+     * @param cursorStartDateTime 커서 모집글의 시작 시각
+     * @param cursorId 커서 모집글 Id
+     * @return 커서 이후 조건, 커서가 없으면 null
+     */
+    private BooleanExpression afterCursor(String sort, LocalDateTime cursorStartDateTime, Long cursorId) {
+        if (cursorId == null) {
+            return null;
+        }
+
+        if (GatherArticleStatus.SOON.getValue().equals(sort)) {
+            return gatherArticle.startDateTime.gt(cursorStartDateTime)
+                    .or(gatherArticle.startDateTime.eq(cursorStartDateTime).and(gatherArticle.id.gt(cursorId)));
+        }
+
+        return gatherArticle.id.lt(cursorId);
+    }
+
     /**
      * 특정 모집글 Id로 간단한 모집글 정보 조회
      *
@@ -277,73 +340,67 @@ public class GatherArticleRepositoryCustomImpl implements GatherArticleRepositor
     private OrderSpecifier<?>[] getOrderSpecifiers(String sort) {
         List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
 
+        // 마감 임박순은 (sido, sgg, start_date_time, id) 색인과 같은 방향(모두 오름차순)으로 정렬해야 filesort 없이 색인 순서대로 읽음
         if (GatherArticleStatus.SOON.getValue().equals(sort)) {
             orderSpecifiers.add(gatherArticle.startDateTime.asc());
+            orderSpecifiers.add(gatherArticle.id.asc());
+        } else {
+            orderSpecifiers.add(gatherArticle.id.desc());
         }
 
-        orderSpecifiers.add(gatherArticle.id.desc());
-
         return orderSpecifiers.toArray(new OrderSpecifier<?>[0]);
     }
 
     /**
-     * 특정 모집글의 상세 정보를 조회
+     * 특정 모집글의 상세 정보와 작성자 정보를 한 번에 조회
      *
      * @param gatherArticleId 조회할 모집글의 ID
-     * @return 모집글 상세 정보를 담은 GatherArticleDetailedInfoDTO 객체
+     * @return 모집글 상세 정보와 작성자 정보를 담은 GatherArticleDetailWithAuthorProjection 객체
      */
     @Override
-    public Optional<GatherArticleDetailedInfoProjection> findGatherArticleDetailedInfoByGatherArticleId(Long gatherArticleId) {
-        return Optional.ofNullable(jpaQueryFactory
-                .select(Projections.constructor(GatherArticleDetailedInfoProjection.class,
-                        gatherArticle.title,
-                        gatherArticle.description,
-                        gatherArticle.sido,
-                        gatherArticle.sgg,
-                        gatherArticle.emd,
-                        gatherArticle.meetingLocation,
-                        gatherArticle.x,
-                        gatherArticle.y,
-                        gatherArticle.maxParticipants,
-                        gatherArticle.currentParticipants,
-                        gatherArticle.startDateTime,
-                        gatherArticle.endDateTime,
-                        gatherArticle.createdAt,
-                        gatherArticle.gatherArticleStatus
-                ))
-                .from(gatherArticle)
-                .where(gatherArticle.id.eq(gatherArticleId))
-                .fetchOne());
-    }
-
-    @Override
-    public Optional<GatherArticleAuthorProjection> findGatherArticleAuthorByGatherArticleId(Long gatherArticleId) {
+    public Optional<GatherArticleDetailWithAuthorProjection> findGatherArticleDetailWithAuthorByGatherArticleId(Long gatherArticleId) {
         return Optional.ofNullable(jpaQueryFactory
-                .select(Projections.constructor(GatherArticleAuthorProjection.class,
-                        member.nickname,
-                        member.rank,
-                        profileImage.s3SavedObjectName,
-                        member.description
+                .select(Projections.constructor(GatherArticleDetailWithAuthorProjection.class,
+                        Projections.constructor(GatherArticleDetailedInfoProjection.class,
+                                gatherArticle.title,
+                                gatherArticle.description,
+                                gatherArticle.sido,
+                                gatherArticle.sgg,
+                                gatherArticle.emd,
+                                gatherArticle.meetingLocation,
+                                gatherArticle.x,
+                                gatherArticle.y,
+                                gatherArticle.maxParticipants,
+                                gatherArticle.currentParticipants,
+                                gatherArticle.startDateTime,
+                                gatherArticle.endDateTime,
+                                gatherArticle.createdAt,
+                                gatherArticle.gatherArticleStatus
+                        ),
+                        Projections.constructor(GatherArticleAuthorProjection.class,
+                                member.nickname,
+                                member.rank,
+                                profileImage.s3SavedObjectName,
+                                member.description
+                        )
                 ))
                 .from(gatherArticle)
-                // 모집글 작성자는 반드시 있으므로 inner join
-                .innerJoin(gatherArticle.memberGatherArticles, memberGatherArticle)
-                .innerJoin(memberGatherArticle.member, member)
+                // 모집글 작성자는 반드시 있으므로 비정규화된 작성자 Id로 inner join
+                .innerJoin(member).on(member.id.eq(gatherArticle.authorId))
                 // 프로필 이미지는 선택적이므로 left join
                 .leftJoin(member.profileImage, profileImage)
-                .where(
-                        gatherArticle.id.eq(gatherArticleId),
-                        memberGatherArticle.memberGatherArticleRole.eq(MemberGatherArticleRole.AUTHOR)
-                )
+                .where(gatherArticle.id.eq(gatherArticleId))
                 .fetchOne());
     }
 
     /**
      * 특정 모집글에 대한 사용자의 참여 신청 상태를 조회
      *
+     * 모집글과 사용자가 모두 존재할 때만 행이 조회되므로 별도의 존재 여부 확인 쿼리가 필요 없음
+     *
      * @param gatherArticleId 조회할 모집글의 ID
      * @param username 조회할 사용자의 username
-     * @return 참여 신청 상태를 담은 ParticipationApplicationStatusDTO 객체
+     * @return 참여 신청 상태를 담은 ParticipationApplicationStatusDTO 객체, 모집글이나 사용자가 없으면 Optional.empty()
      */
     @Override
     public Optional<GatherArticleResponse.ParticipationApplicationStatusDTO> findParticipationApplicationStatusDTOByGatherArticleIdAndUsername(Long gatherArticleId, String username) {
@@ -352,11 +409,12 @@ public class GatherArticleRepositoryCustomImpl implements GatherArticleRepositor
                         participationApplicationStatusExpression(participationApplication)
                 ))
                 .from(gatherArticle)
-                // 모집글은 무조건 조회되어야 하고 참가 신청 기록이 없으면 NULL(NONE)으로 조회
+                // username 에 해당하는 사용자가 없으면 행이 조회되지 않음
+                .innerJoin(member).on(member.username.eq(username))
+                // 참가 신청 기록이 없으면 NULL(NONE)으로 조회
                 .leftJoin(gatherArticle.memberGatherArticles, memberGatherArticle)
-                // username에 해당하는 memberGatherArticle 레코드만 조회
-                .on(memberGatherArticle.member.username.eq(username))
-                .leftJoin(memberGatherArticle.member, member)
+                // 해당 사용자의 memberGatherArticle 레코드만 조회
+                .on(memberGatherArticle.member.eq(member))
                 .leftJoin(memberGatherArticle.participationApplication, participationApplication)
                 .where(gatherArticle.id.eq(gatherArticleId))
                 .fetchOne());
@@ -386,22 +444,18 @@ public class GatherArticleRepositoryCustomImpl implements GatherArticleRepositor
                 .fetchOne());
     }
 
-    /**
-     * @apiNote 임시 비활성화된 상태
-     *          위치 관련 코드 제거 필요
-     */
-//    @Override
-//    public Optional<GatherArticleResponse.LocationInfoDTO> findLocationInfoDTOById(Long gatherArticleId) {
-//        return Optional.ofNullable(jpaQueryFactory
-//                .select(Projections.fields(GatherArticleResponse.LocationInfoDTO.class,
-//                        gatherArticle.sido,
-//                        gatherArticle.sgg,
-//                        gatherArticle.emd
-//                ))
-//                .from(gatherArticle)
-//                .where(gatherArticle.id.eq(gatherArticleId))
-//                .fetchOne());
-//    }
+    @Override
+    public Optional<GatherArticleResponse.LocationInfoDTO> findLocationInfoDTOById(Long gatherArticleId) {
+        return Optional.ofNullable(jpaQueryFactory
+                .select(Projections.fields(GatherArticleResponse.LocationInfoDTO.class,
+                        gatherArticle.sido,
+                        gatherArticle.sgg,
+                        gatherArticle.emd
+                ))
+                .from(gatherArticle)
+                .where(gatherArticle.id.eq(gatherArticleId))
+                .fetchOne());
+    }
 
     /**
      * @apiNote 임시 비활성화된 상태
@@ -439,7 +493,7 @@ public class GatherArticleRepositoryCustomImpl implements GatherArticleRepositor
 //
 //    }
 
-    private BooleanExpression containsKeywordInTitleOrDescription(String keyword) {
+    private BooleanExpression containsKeywordInTitleOrDescription(String keyword, List<Long> keywordCandidateIds) {
         if (keyword == null || keyword.isEmpty()) {
             return null;
         }
@@ -451,8 +505,27 @@ public class GatherArticleRepositoryCustomImpl implements GatherArticleRepositor
         StringTemplate titleTemplate = Expressions.stringTemplate("replace({0}, ' ', '')", gatherArticle.title);
         StringTemplate descriptionTemplate = Expressions.stringTemplate("replace({0}, ' ', '')", gatherArticle.description);
 
-        return titleTemplate.containsIgnoreCase(keywordWithoutWhiteSpace)
+        BooleanExpression containsKeyword = titleTemplate.containsIgnoreCase(keywordWithoutWhiteSpace)
                 .or(descriptionTemplate.containsIgnoreCase(keywordWithoutWhiteSpace));
+
+        // 인메모리 검색 색인이 찾은 후보 중에서 기존 조건으로 한 번 더 확인
+        if (keywordCandidateIds != null) {
+            return gatherArticle.id.in(keywordCandidateIds).and(containsKeyword);
+        }
+
+        // bigram 을 만들 수 없는 한 글자 키워드는 기존 조건으로만 검색
+        String booleanModeQuery = buildBooleanModeQuery(keyword);
+        if (booleanModeQuery == null) {
+            return containsKeyword;
+        }
+
+        // FULLTEXT 색인으로 키워드의 모든 bigram 을 포함한 모집글만 후보로 좁힌 뒤,
+        // bigram 이 떨어져 있는 경우를 걸러내기 위해 기존 조건으로 한 번 더 확인
+        BooleanExpression matchesSearchTokens = Expressions.numberTemplate(Double.class,
+                        "function('match_against', {0}, {1})", gatherArticle.searchTokens, booleanModeQuery)
+                .gt(0.0);
+
+        return matchesSearchTokens.and(containsKeyword);
     }
 
     @Override
@@ -1,7 +1,9 @@
 package sumcoda.boardbuddy.repository.memberChatRoom;
 
 import sumcoda.boardbuddy.dto.MemberChatRoomResponse;
+import sumcoda.boardbuddy.dto.fetch.ChatRoomMemberInfoProjection;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberChatRoomRepositoryCustom {
@@ -9,4 +11,6 @@ public interface MemberChatRoomRepositoryCustom {
     Boolean existsByGatherArticleIdAndUsername(Long gatherArticleId, String username);
 
     Optional<MemberChatRoomResponse.ValidateDTO> findByGatherArticleIdAndUsername(Long gatherArticleId, String username);
+
+    List<ChatRoomMemberInfoProjection> findChatRoomMemberInfoProjectionsByChatRoomId(Long chatRoomId);
 }
@@ -4,13 +4,16 @@ import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import sumcoda.boardbuddy.dto.MemberChatRoomResponse;
+import sumcoda.boardbuddy.dto.fetch.ChatRoomMemberInfoProjection;
 
+import java.util.List;
 import java.util.Optional;
 
 import static sumcoda.boardbuddy.entity.QChatRoom.chatRoom;
 import static sumcoda.boardbuddy.entity.QGatherArticle.gatherArticle;
 import static sumcoda.boardbuddy.entity.QMember.member;
 import static sumcoda.boardbuddy.entity.QMemberChatRoom.*;
+import static sumcoda.boardbuddy.entity.QProfileImage.profileImage;
 
 @RequiredArgsConstructor
 public class MemberChatRoomRepositoryCustomImpl implements MemberChatRoomRepositoryCustom {
@@ -60,4 +63,28 @@ public class MemberChatRoomRepositoryCustomImpl implements MemberChatRoomReposit
                         .and(member.username.eq(username)))
                 .fetchOne());
     }
+
+    /**
+     * 특정 채팅방에 참여중인 모든 사용자의 정보를 조회
+     *
+     * @param chatRoomId 채팅방 Id
+     * @return 채팅방 참여자 정보 목록 (사용자 Id, 아이디, 닉네임, 랭킹, 프로필 이미지, 입장 시각)
+     **/
+    @Override
+    public List<ChatRoomMemberInfoProjection> findChatRoomMemberInfoProjectionsByChatRoomId(Long chatRoomId) {
+        return jpaQueryFactory
+                .select(Projections.constructor(ChatRoomMemberInfoProjection.class,
+                        member.id,
+                        member.username,
+                        member.nickname,
+                        member.rank,
+                        profileImage.s3SavedObjectName,
+                        memberChatRoom.joinedAt
+                ))
+                .from(memberChatRoom)
+                .join(memberChatRoom.member, member)
+                .leftJoin(member.profileImage, profileImage)
+                .where(memberChatRoom.chatRoom.id.eq(chatRoomId))
+                .fetch();
+    }
 }
@@ -1,6 +1,7 @@
 package sumcoda.boardbuddy.repository.memberGatherArticle;
 
 import sumcoda.boardbuddy.dto.MemberResponse;
+import sumcoda.boardbuddy.dto.fetch.NotificationRecipientProjection;
 import sumcoda.boardbuddy.dto.fetch.ReviewAuthorProjection;
 
 import java.util.List;
@@ -14,7 +15,7 @@ public interface MemberGatherArticleRepositoryCustom {
 
   Optional<MemberResponse.UsernameDTO> findAuthorUsernameByGatherArticleId(Long gatherArticleId);
 
-  List<MemberResponse.UsernameDTO> findParticipantsByGatherArticleId(Long gatherArticleId);
+  List<NotificationRecipientProjection> findParticipantsByGatherArticleId(Long gatherArticleId);
 
   List<ReviewAuthorProjection> findReviewerByGatherArticleIdAndUsernameNot(Long gatherArticleId, String excludedUsername);
 }
@@ -4,6 +4,7 @@ import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import sumcoda.boardbuddy.dto.MemberResponse;
+import sumcoda.boardbuddy.dto.fetch.NotificationRecipientProjection;
 import sumcoda.boardbuddy.dto.fetch.ReviewAuthorProjection;
 import sumcoda.boardbuddy.enumerate.MemberGatherArticleRole;
 
@@ -65,9 +66,10 @@ public class MemberGatherArticleRepositoryCustomImpl implements MemberGatherArti
 
   //모집글의 모든 참가자를 찾는 메서드
   @Override
-  public List<MemberResponse.UsernameDTO> findParticipantsByGatherArticleId(Long gatherArticleId) {
+  public List<NotificationRecipientProjection> findParticipantsByGatherArticleId(Long gatherArticleId) {
     return jpaQueryFactory
-            .select(Projections.fields(MemberResponse.UsernameDTO.class,
+            .select(Projections.constructor(NotificationRecipientProjection.class,
+                    member.id,
                     member.username))
             .from(memberGatherArticle)
             .join(memberGatherArticle.member, member)
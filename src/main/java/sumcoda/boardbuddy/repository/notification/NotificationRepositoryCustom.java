@@ -3,8 +3,9 @@ package sumcoda.boardbuddy.repository.notification;
 import sumcoda.boardbuddy.dto.NotificationResponse;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface NotificationRepositoryCustom {
 
-    List< NotificationResponse.NotificationDTO> findNotificationByMemberUsername(String username);
+    Optional<List<NotificationResponse.NotificationDTO>> findNotificationByMemberUsername(String username);
 }
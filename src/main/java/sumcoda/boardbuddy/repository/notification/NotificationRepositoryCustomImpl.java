@@ -6,9 +6,11 @@ import lombok.RequiredArgsConstructor;
 import sumcoda.boardbuddy.dto.NotificationResponse;
 
 import java.util.List;
+import java.util.Optional;
 
 import static sumcoda.boardbuddy.entity.QMember.member;
 import static sumcoda.boardbuddy.entity.QNotification.notification;
+import static sumcoda.boardbuddy.util.QueryResultUtil.toChildListIfParentExists;
 
 @RequiredArgsConstructor
 public class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
@@ -16,20 +18,24 @@ public class NotificationRepositoryCustomImpl implements NotificationRepositoryC
     private final JPAQueryFactory jpaQueryFactory;
 
     /**
-     * 유저의 알림 내역을 최신순으로 조회
+     * 유저의 알림 내역을 유저 존재 여부와 함께 한 번의 쿼리로 최신순 조회
      *
      * @param username 사용자 아이디
-     * @return 최신순으로 정렬된 알림 내역
+     * @return 최신순으로 정렬된 알림 내역, 유저가 존재하지 않으면 Optional.empty()
      **/
     @Override
-    public List< NotificationResponse.NotificationDTO> findNotificationByMemberUsername(String username) {
-        return jpaQueryFactory.select(Projections.fields(NotificationResponse.NotificationDTO.class,
+    public Optional<List<NotificationResponse.NotificationDTO>> findNotificationByMemberUsername(String username) {
+        List<NotificationResponse.NotificationDTO> rows = jpaQueryFactory.select(Projections.fields(NotificationResponse.NotificationDTO.class,
                         notification.message,
                         notification.createdAt))
-                .from(notification)
-                .join(notification.member, member)
+                .from(member)
+                // 알림이 없는 유저도 한 행 조회되도록 left join
+                .leftJoin(notification).on(notification.member.eq(member))
                 .where(member.username.eq(username))
                 .orderBy(notification.id.desc())
                 .fetch();
+
+        // 알림 생성 시간은 항상 존재하므로 null 이면 알림이 없는 유저의 행
+        return toChildListIfParentExists(rows, row -> row.getCreatedAt() == null);
     }
 }
@@ -2,13 +2,33 @@ package sumcoda.boardbuddy.repository.sseEmitter;
 
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sumcoda.boardbuddy.dto.fetch.SseEventCacheProjection;
+
+import java.util.List;
+import java.util.Map;
 
 @Repository
 public interface SseEmitterRepository {
 
-    SseEmitter save(String emitterId, SseEmitter sseEmitter);
+    List<SseEmitter> save(String username, String emitterId, SseEmitter sseEmitter);
+
+    Map<String, SseEmitter> findEmittersByUsername(String username);
+
+    Map<String, Map<String, SseEmitter>> findAllEmitters();
+
+    String nextEventId();
+
+    void saveEventCache(String username, String eventId, String eventName, String message);
+
+    List<SseEventCacheProjection> findEventCachesAfter(String username, String lastEventId);
+
+    void deleteEmitter(String username, String emitterId);
+
+    int countEmitters();
+
+    int countSubscribers();
 
-    void saveEventCache(String eventCacheId, Object event);
+    long countEventCaches();
 
-    void deleteEmitterById(String emitterId);
+    int countEventCacheUsers();
 }
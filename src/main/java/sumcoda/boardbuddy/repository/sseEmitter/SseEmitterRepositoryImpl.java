@@ -1,33 +1,277 @@
 package sumcoda.boardbuddy.repository.sseEmitter;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sumcoda.boardbuddy.dto.fetch.SseEventCacheProjection;
 
-import java.util.Map;
+import java.time.Instant;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Repository
 @RequiredArgsConstructor
 public class SseEmitterRepositoryImpl implements SseEmitterRepository {
 
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    // 이벤트 Id 구분자 ({생성 epoch 밀리초}_{순번})
+    private static final String EVENT_ID_DELIMITER = "_";
 
-    private final Map<String, Object> eventCache = new ConcurrentHashMap<>();
+    // 사용자별로 보관할 최근 이벤트 수, 초과하면 가장 오래된 이벤트부터 제거
+    @Value("${spring.notification.sse.replay.capacity:50}")
+    private int capacity;
+
+    // 이벤트 보관 시간(초), 지난 이벤트는 재전송하지 않음
+    @Value("${spring.notification.sse.replay.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    // 이벤트를 보관할 최대 사용자 수, 초과하면 가장 오래 사용되지 않은 사용자의 이벤트부터 제거
+    @Value("${spring.notification.sse.replay.max-users:10000}")
+    private int maxUsers;
+
+    // 사용자당 최대 연결 수(브라우저 탭 수), 초과하면 가장 먼저 연결된 emitter 부터 종료
+    @Value("${spring.notification.sse.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    // username → (emitterId → emitter), 안쪽 Map 은 변경할 때마다 새로 만드는 읽기 전용 Map (연결 순서 유지)
+    private final Map<String, Map<String, SseEmitter>> emittersByUsername = new ConcurrentHashMap<>();
+
+    // 전체 연결 수
+    private final AtomicInteger emitterCount = new AtomicInteger();
+
+    // username → 최근 이벤트 링 버퍼 (접근 순서 LRU), 전체 이벤트 수는 capacity * maxUsers 로 제한됨
+    private final Map<String, Deque<CachedEvent>> eventCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Deque<CachedEvent>> eldest) {
+            if (size() > maxUsers) {
+                cachedEventCount -= eldest.getValue().size();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    // eventCache 에 보관중인 전체 이벤트 수 (eventCache 잠금 안에서만 변경)
+    private long cachedEventCount;
+
+    // 같은 밀리초에 발급된 이벤트의 순서를 구분하기 위한 순번 (eventCache 잠금 안에서만 변경)
+    private long eventSequence;
+
+    /**
+     * 사용자의 연결(emitter)을 추가
+     * 사용자당 최대 연결 수를 넘으면 가장 먼저 연결된 emitter 를 목록에서 제거하여 반환
+     *
+     * @param username 사용자 아이디
+     * @param emitterId 연결마다 고유한 emitter Id
+     * @param sseEmitter 추가할 emitter
+     * @return 최대 연결 수를 넘어 제거된 emitter 목록 (호출한 쪽에서 종료해야 함)
+     */
+    @Override
+    public List<SseEmitter> save(String username, String emitterId, SseEmitter sseEmitter) {
+        List<SseEmitter> evictedEmitters = new ArrayList<>();
+
+        emittersByUsername.compute(username, (key, emitters) -> {
+            Map<String, SseEmitter> updated = emitters == null ? new LinkedHashMap<>() : new LinkedHashMap<>(emitters);
+            if (updated.put(emitterId, sseEmitter) == null) {
+                emitterCount.incrementAndGet();
+            }
+
+            Iterator<SseEmitter> iterator = updated.values().iterator();
+            while (updated.size() > maxConnectionsPerUser && iterator.hasNext()) {
+                evictedEmitters.add(iterator.next());
+                iterator.remove();
+                emitterCount.decrementAndGet();
+            }
+            return Collections.unmodifiableMap(updated);
+        });
+
+        return evictedEmitters;
+    }
+
+    /**
+     * 사용자의 모든 연결을 조회
+     *
+     * @param username 사용자 아이디
+     * @return emitterId → emitter (읽기 전용), 연결이 없으면 빈 Map
+     */
+    @Override
+    public Map<String, SseEmitter> findEmittersByUsername(String username) {
+        return emittersByUsername.getOrDefault(username, Map.of());
+    }
+
+    /**
+     * 모든 사용자의 연결을 조회 (heartbeat 전송용)
+     *
+     * @return username → (emitterId → emitter) 스냅샷
+     */
+    @Override
+    public Map<String, Map<String, SseEmitter>> findAllEmitters() {
+        return Map.copyOf(emittersByUsername);
+    }
+
+    /**
+     * 현재 인스턴스에서 새 이벤트 Id를 발급
+     * 단일 인스턴스(LOCAL 모드)에서 사용하며, REDIS 모드에서는 Redis 에서 발급하지 못했을 때만 사용
+     *
+     * @return 발급된 이벤트 Id ({생성 epoch 밀리초}_{순번}), 클라이언트가 Last-Event-ID 로 다시 보냄
+     */
+    @Override
+    public String nextEventId() {
+        long nowMillis = Instant.now().toEpochMilli();
+
+        synchronized (eventCache) {
+            return nowMillis + EVENT_ID_DELIMITER + (++eventSequence);
+        }
+    }
+
+    /**
+     * 사용자의 재전송 버퍼에 이벤트를 저장
+     * 만료된 이벤트와 용량을 넘는 오래된 이벤트는 저장 시점에 제거
+     *
+     * @param username 이벤트를 받을 사용자 아이디
+     * @param eventId nextEventId 로 발급한 이벤트 Id, 형식이 올바르지 않으면 저장하지 않음
+     * @param eventName 이벤트 이름
+     * @param message 알림 메세지
+     */
+    @Override
+    public void saveEventCache(String username, String eventId, String eventName, String message) {
+        long[] eventKey = parseEventId(eventId);
+        if (eventKey == null) {
+            return;
+        }
+
+        Instant now = Instant.now();
+
+        synchronized (eventCache) {
+            Deque<CachedEvent> events = eventCache.computeIfAbsent(username, key -> new ArrayDeque<>());
+            removeExpired(events, now);
+            if (events.size() >= capacity) {
+                events.pollFirst();
+                cachedEventCount--;
+            }
+            events.addLast(new CachedEvent(eventKey[0], eventKey[1], eventName, message, now.plusSeconds(ttlSeconds)));
+            cachedEventCount++;
+        }
+    }
+
+    /**
+     * 클라이언트가 마지막으로 받은 이벤트 이후에 저장된 이벤트를 조회
+     *
+     * @param username 사용자 아이디
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 Id (Last-Event-ID 헤더)
+     * @return 재전송할 이벤트 목록 (오래된 순), Last-Event-ID 가 없거나 형식이 올바르지 않으면 빈 목록
+     */
+    @Override
+    public List<SseEventCacheProjection> findEventCachesAfter(String username, String lastEventId) {
+        long[] lastEventKey = parseEventId(lastEventId);
+        if (lastEventKey == null) {
+            return List.of();
+        }
+
+        Instant now = Instant.now();
+
+        synchronized (eventCache) {
+            Deque<CachedEvent> events = eventCache.get(username);
+            if (events == null) {
+                return List.of();
+            }
+            removeExpired(events, now);
+
+            return events.stream()
+                    .filter(event -> event.isAfter(lastEventKey[0], lastEventKey[1]))
+                    .map(CachedEvent::toProjection)
+                    .toList();
+        }
+    }
+
+    /**
+     * 사용자의 연결을 제거, 이미 제거된 연결이면 무시
+     *
+     * @param username 사용자 아이디
+     * @param emitterId 제거할 emitter Id
+     */
+    @Override
+    public void deleteEmitter(String username, String emitterId) {
+        emittersByUsername.computeIfPresent(username, (key, emitters) -> {
+            if (!emitters.containsKey(emitterId)) {
+                return emitters;
+            }
+
+            emitterCount.decrementAndGet();
+            Map<String, SseEmitter> updated = new LinkedHashMap<>(emitters);
+            updated.remove(emitterId);
+            return updated.isEmpty() ? null : Collections.unmodifiableMap(updated);
+        });
+    }
 
     @Override
-    public SseEmitter save(String emitterId, SseEmitter sseEmitter) {
-        emitters.put(emitterId, sseEmitter);
-        return sseEmitter;
+    public int countEmitters() {
+        return emitterCount.get();
     }
 
     @Override
-    public void saveEventCache(String eventCacheId, Object event) {
-        eventCache.put(eventCacheId, event);
+    public int countSubscribers() {
+        return emittersByUsername.size();
     }
 
     @Override
-    public void deleteEmitterById(String emitterId) {
-        emitters.remove(emitterId);
+    public long countEventCaches() {
+        synchronized (eventCache) {
+            return cachedEventCount;
+        }
+    }
+
+    @Override
+    public int countEventCacheUsers() {
+        synchronized (eventCache) {
+            return eventCache.size();
+        }
+    }
+
+    private void removeExpired(Deque<CachedEvent> events, Instant now) {
+        while (!events.isEmpty() && !now.isBefore(events.peekFirst().expiration())) {
+            events.pollFirst();
+            cachedEventCount--;
+        }
+    }
+
+    /**
+     * 이벤트 Id를 (생성 epoch 밀리초, 순번)으로 분리
+     *
+     * @param eventId 이벤트 Id
+     * @return [생성 epoch 밀리초, 순번], 형식이 올바르지 않으면 null
+     */
+    private static long[] parseEventId(String eventId) {
+        if (eventId == null || eventId.isBlank()) {
+            return null;
+        }
+
+        int delimiterIndex = eventId.indexOf(EVENT_ID_DELIMITER);
+        if (delimiterIndex <= 0) {
+            return null;
+        }
+
+        try {
+            return new long[]{
+                    Long.parseLong(eventId.substring(0, delimiterIndex)),
+                    Long.parseLong(eventId.substring(delimiterIndex + 1))
+            };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record CachedEvent(long createdAtMillis, long sequence, String eventName, String message, Instant expiration) {
+
+        // 서버가 재시작되어 순번이 초기화되어도 생성 시각이 먼저 비교되므로 순서가 유지됨
+        private boolean isAfter(long lastCreatedAtMillis, long lastSequence) {
+            return createdAtMillis > lastCreatedAtMillis
+                    || (createdAtMillis == lastCreatedAtMillis && sequence > lastSequence);
+        }
+
+        private SseEventCacheProjection toProjection() {
+            return new SseEventCacheProjection(createdAtMillis + EVENT_ID_DELIMITER + sequence, eventName, message);
+        }
     }
 }
@@ -0,0 +1,76 @@
+package sumcoda.boardbuddy.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import sumcoda.boardbuddy.dto.client.ChatMessageItemInfoDTO;
+import sumcoda.boardbuddy.enumerate.ChatBrokerMode;
+import sumcoda.boardbuddy.exception.ChatMessageBroadcastException;
+
+import java.util.concurrent.TimeUnit;
+
+import static sumcoda.boardbuddy.util.ChatMessageUtil.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageBroadcastService {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    // 채팅 메세지 브로커 모드 (simple: 단일 인스턴스 내장 브로커, redis: Redis pub/sub 중계)
+    @Value("${spring.chat.broker.mode:SIMPLE}")
+    private ChatBrokerMode chatBrokerMode;
+
+    /**
+     * 채팅방 구독자들에게 메세지를 전송
+     * redis 모드에서는 Redis 채널로 발행하고, 각 인스턴스의 구독자가 자신의 내장 브로커로 전달
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param payload 전송할 메세지
+     * @throws ChatMessageBroadcastException Redis 채널 발행용 직렬화에 실패했을 때
+     **/
+    public void broadcast(Long chatRoomId, ChatMessageItemInfoDTO payload) {
+        long startNanos = System.nanoTime();
+        try {
+            if (chatBrokerMode == ChatBrokerMode.SIMPLE) {
+                sendToLocalSubscribers(chatRoomId, payload);
+                return;
+            }
+
+            stringRedisTemplate.convertAndSend(buildChatRoomChannel(chatRoomId), objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new ChatMessageBroadcastException("서버 문제로 메세지를 전송할 수 없습니다. 관리자에게 문의하세요.");
+        } finally {
+            // 브로커 모드별 메세지 발행 지연 시간
+            Timer.builder("boardbuddy.chat.publish")
+                    .description("채팅 메세지 발행 지연 시간")
+                    .tag("mode", chatBrokerMode.name())
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 현재 인스턴스에 연결된 채팅방 구독자들에게 메세지를 전송 (STOMP SEND)
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param payload 전송할 메세지
+     **/
+    public void sendToLocalSubscribers(Long chatRoomId, ChatMessageItemInfoDTO payload) {
+        messagingTemplate.convertAndSend(CHAT_ROOM_SUBSCRIPTION_PREFIX + chatRoomId, payload);
+    }
+}
@@ -3,30 +3,32 @@ package sumcoda.boardbuddy.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.util.Pair;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import sumcoda.boardbuddy.cache.ChatRoomMembershipCache;
+import sumcoda.boardbuddy.cache.ChatRoomRecentMessageBuffer;
 import sumcoda.boardbuddy.dto.ChatMessageRequest;
 import sumcoda.boardbuddy.dto.client.ChatMessageItemInfoDTO;
 import sumcoda.boardbuddy.dto.client.PageResponseDTO;
 import sumcoda.boardbuddy.dto.fetch.ChatMessageItemInfoProjection;
+import sumcoda.boardbuddy.dto.fetch.ChatRoomMemberInfoProjection;
 import sumcoda.boardbuddy.entity.ChatMessage;
 import sumcoda.boardbuddy.entity.ChatRoom;
 import sumcoda.boardbuddy.entity.Member;
+import sumcoda.boardbuddy.enumerate.ChatMessageCursorDirection;
 import sumcoda.boardbuddy.enumerate.MessageType;
 import sumcoda.boardbuddy.exception.*;
-import sumcoda.boardbuddy.exception.member.MemberNotFoundException;
 import sumcoda.boardbuddy.exception.member.MemberRetrievalException;
 import sumcoda.boardbuddy.mapper.ChatMessageMapper;
 import sumcoda.boardbuddy.repository.chatMessage.ChatMessageRepository;
 import sumcoda.boardbuddy.repository.chatRoom.ChatRoomRepository;
 import sumcoda.boardbuddy.repository.member.MemberRepository;
-import sumcoda.boardbuddy.repository.memberChatRoom.MemberChatRoomRepository;
 import sumcoda.boardbuddy.util.ChatMessageUtil;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 
 import static sumcoda.boardbuddy.util.ChatMessageUtil.*;
@@ -44,12 +46,16 @@ public class ChatMessageService {
 
     private final MemberRepository memberRepository;
 
-    private final MemberChatRoomRepository memberChatRoomRepository;
-
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatMessageBroadcastService chatMessageBroadcastService;
 
     private final ChatMessageMapper chatMessageMapper;
 
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+
+    private final ChatMessageWriteBehindService chatMessageWriteBehindService;
+
+    private final ChatRoomRecentMessageBuffer chatRoomRecentMessageBuffer;
+
 
     /**
      * 메세지 발행 및 채팅방에 메세지 전송
@@ -63,21 +69,24 @@ public class ChatMessageService {
 
         log.info("[서비스] 채팅방 ID={} | 닉네임={} | 내용={}", chatRoomId, publishDTO.getNickname(), publishDTO.getContent());
 
+        // write-behind 모드에서는 DB 저장을 기다리지 않고 바로 전송
+        if (chatMessageWriteBehindService.isEnabled()) {
+            publishMessageWriteBehind(chatRoomId, publishDTO);
+            return;
+        }
 
         ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
                 .orElseThrow(() -> new ChatRoomNotFoundException("해당 채팅방이 존재하지 않습니다."));
 
         String nickname = publishDTO.getNickname();
 
-        Member member = memberRepository.findByNickname(nickname)
-                .orElseThrow(() -> new MemberNotFoundException("해당 사용자를 찾을 수 없습니다."));
+        // 캐시된 채팅방 참여자 정보로 검증
+        ChatRoomMemberInfoProjection memberInfo = chatRoomMembershipCache.findByNickname(chatRoomId, nickname)
+                .orElseThrow(() -> new MemberChatRoomRetrievalException("서버 문제로 해당 채팅방의 사용자 정보를 찾을 수 없습니다. 관리자에게 문의하세요."));
 
-        log.info("[검증 완료] 유저={} (채팅방={})", member.getNickname(), chatRoom.getId());
+        Member member = memberRepository.getReferenceById(memberInfo.memberId());
 
-        Boolean isMemberChatRoomExists = memberChatRoomRepository.existsByChatRoomIdAndMemberNickname(chatRoomId, nickname);
-        if (!isMemberChatRoomExists) {
-            throw new MemberChatRoomRetrievalException("서버 문제로 해당 채팅방의 사용자 정보를 찾을 수 없습니다. 관리자에게 문의하세요.");
-        }
+        log.info("[검증 완료] 유저={} (채팅방={})", nickname, chatRoom.getId());
 
         String content = publishDTO.getContent();
 
@@ -93,11 +102,17 @@ public class ChatMessageService {
         ChatMessageItemInfoProjection responseChatMessage = chatMessageRepository.findChatMessageById(chatMessageId)
                 .orElseThrow(() -> new ChatMessageRetrievalException("서버 문제로 해당 메세지를 찾을 수 없습니다. 관리자에게 문의하세요."));
 
+        // 같은 트랜잭션에서 채팅방 목록용 마지막 메세지 요약 갱신
+        chatRoomRepository.updateLastChatMessage(chatRoomId, responseChatMessage.id(), responseChatMessage.content(), responseChatMessage.sentAt());
+
+        // 커밋 이후 최근 메세지 버퍼에 추가
+        chatRoomRecentMessageBuffer.append(chatRoomId, responseChatMessage);
+
         ChatMessageItemInfoDTO payload = chatMessageMapper.toChatMessageItemInfoDTO(responseChatMessage);
 
         try {
             // 채팅방 구독자들에게 메시지 전송 (STOMP SEND)
-            messagingTemplate.convertAndSend("/ws/chat/messages/subscription/" + chatRoomId, payload);
+            chatMessageBroadcastService.broadcast(chatRoomId, payload);
 
         } catch (Exception e) {
             log.error("STOMP 메시지 처리 중 예외 발생: {}", e.getMessage());
@@ -119,19 +134,33 @@ public class ChatMessageService {
 
         String nickname = chatRoomIdAndNicknamePair.getSecond();
 
+        String content = ChatMessageUtil.buildChatMessageContent(nickname, messageType);
+
+        // write-behind 모드에서는 메세지 Id를 서버에서 할당하므로 입장/퇴장 메세지도 같은 파이프라인으로 저장
+        // 채팅방, 사용자 존재 여부는 캐시된 채팅방 참여자 정보로 확인 (채팅방 삭제, 회원 탈퇴 시 캐시가 무효화됨)
+        if (chatMessageWriteBehindService.isEnabled()) {
+            ChatRoomMemberInfoProjection memberInfo = chatRoomMembershipCache.findByNickname(chatRoomId, nickname)
+                    .orElseThrow(() -> new MemberChatRoomRetrievalException("서버 문제로 해당 채팅방의 사용자 정보를 찾을 수 없습니다. 관리자에게 문의하세요."));
+
+            ChatMessageItemInfoProjection responseChatMessage = enqueueChatMessage(
+                    chatRoomId, memberInfo.memberId(), nickname, null, null, content, messageType);
+
+            chatRoomRecentMessageBuffer.append(chatRoomId, responseChatMessage);
+
+            chatMessageBroadcastService.broadcast(chatRoomId, chatMessageMapper.toChatMessageItemInfoDTO(responseChatMessage));
+            return;
+        }
+
         ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
                 .orElseThrow(() -> new ChatRoomNotFoundException("해당 채팅방이 존재하지 않습니다."));
 
         Member member = memberRepository.findByNickname(nickname)
                 .orElseThrow(() -> new MemberRetrievalException("해당 유저를 찾을 수 없습니다. 관리자에게 문의하세요."));
 
-        Boolean isMemberChatRoomExists = memberChatRoomRepository.existsByChatRoomIdAndMemberNickname(chatRoomId, nickname);
-        if (!isMemberChatRoomExists) {
+        if (chatRoomMembershipCache.findByNickname(chatRoomId, nickname).isEmpty()) {
             throw new MemberChatRoomRetrievalException("서버 문제로 해당 채팅방의 사용자 정보를 찾을 수 없습니다. 관리자에게 문의하세요.");
         }
 
-        String content = ChatMessageUtil.buildChatMessageContent(nickname, messageType);
-
         ChatMessage chatMessage = ChatMessage.buildChatMessage(content, messageType, member, chatRoom);
 
 //        // 성능 개선용
@@ -146,10 +175,76 @@ public class ChatMessageService {
         ChatMessageItemInfoProjection responseChatMessage = chatMessageRepository.findChatMessageById(chatMessageId)
                 .orElseThrow(() -> new ChatMessageRetrievalException("서버 문제로 해당 메세지를 찾을 수 없습니다. 관리자에게 문의하세요."));
 
+        // 같은 트랜잭션에서 채팅방 목록용 마지막 메세지 요약 갱신
+        chatRoomRepository.updateLastChatMessage(chatRoomId, responseChatMessage.id(), responseChatMessage.content(), responseChatMessage.sentAt());
+
+        // 커밋 이후 최근 메세지 버퍼에 추가
+        chatRoomRecentMessageBuffer.append(chatRoomId, responseChatMessage);
+
         ChatMessageItemInfoDTO payload = chatMessageMapper.toChatMessageItemInfoDTO(responseChatMessage);
 
         // 채팅방 구독자들에게 메시지 전송
-        messagingTemplate.convertAndSend("/ws/chat/messages/subscription/" + chatRoomId, payload);
+        chatMessageBroadcastService.broadcast(chatRoomId, payload);
+    }
+
+    /**
+     * write-behind 모드로 메세지 발행 및 채팅방에 메세지 전송
+     * 캐시된 채팅방 참여자 정보로 검증하고, 서버에서 할당한 Id와 시각으로 바로 전송한 뒤 저장은 배치로 처리
+     * 채팅방 삭제, 회원 탈퇴 시 참여자 캐시가 무효화되므로 캐시에 있는 참여자면 채팅방과 사용자가 모두 존재함
+     * 전송 이후 저장 전에 삭제되어 저장하지 못한 메세지는 dead-letter 목록에 보관됨
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param publishDTO 발행 및 전송할 메시지 내용, 메시지 발행 및 전송 사용자 닉네임
+     * @throws MemberChatRoomRetrievalException 사용자가 채팅방 참여자가 아닐 때
+     * @throws ChatMessageSaveException 저장 대기열이 가득 찼을 때
+     **/
+    private void publishMessageWriteBehind(Long chatRoomId, ChatMessageRequest.PublishDTO publishDTO) {
+
+        ChatRoomMemberInfoProjection memberInfo = chatRoomMembershipCache.findByNickname(chatRoomId, publishDTO.getNickname())
+                .orElseThrow(() -> new MemberChatRoomRetrievalException("서버 문제로 해당 채팅방의 사용자 정보를 찾을 수 없습니다. 관리자에게 문의하세요."));
+
+        ChatMessageItemInfoProjection responseChatMessage = enqueueChatMessage(
+                chatRoomId, memberInfo.memberId(), memberInfo.nickname(), memberInfo.s3SavedObjectName(), memberInfo.rank(),
+                publishDTO.getContent(), MessageType.TALK);
+
+        chatRoomRecentMessageBuffer.append(chatRoomId, responseChatMessage);
+
+        ChatMessageItemInfoDTO payload = chatMessageMapper.toChatMessageItemInfoDTO(responseChatMessage);
+
+        // 채팅방 구독자들에게 메시지 전송 (STOMP SEND)
+        chatMessageBroadcastService.broadcast(chatRoomId, payload);
+    }
+
+    /**
+     * 서버에서 Id와 전송 시각을 할당한 메세지를 저장 대기열에 추가
+     *
+     * @param chatRoomId 채팅방 Id
+     * @param memberId 메세지 발행 사용자 Id
+     * @param nickname 메세지 발행 사용자 닉네임
+     * @param s3SavedObjectName 메세지 발행 사용자 프로필 이미지 이름
+     * @param rank 메세지 발행 사용자 랭킹
+     * @param content 메세지 내용
+     * @param messageType 메세지 유형
+     * @return 클라이언트 전송용으로 변환할 메세지 프로젝션
+     **/
+    private ChatMessageItemInfoProjection enqueueChatMessage(Long chatRoomId, Long memberId, String nickname, String s3SavedObjectName,
+                                                             Integer rank, String content, MessageType messageType) {
+
+        Long chatMessageId = chatMessageWriteBehindService.nextChatMessageId();
+
+        // 커서가 밀리초 단위이므로 저장 시각도 밀리초로 맞춤
+        Instant sentAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        chatMessageWriteBehindService.enqueue(ChatMessageRequest.PersistDTO.builder()
+                .id(chatMessageId)
+                .content(content)
+                .messageType(messageType)
+                .memberId(memberId)
+                .chatRoomId(chatRoomId)
+                .createdAt(sentAt)
+                .build());
+
+        return new ChatMessageItemInfoProjection(chatMessageId, content, nickname, s3SavedObjectName, rank, messageType, sentAt);
     }
 
     /**
@@ -166,14 +261,12 @@ public class ChatMessageService {
      */
     public PageResponseDTO<ChatMessageItemInfoDTO> findInitialChatMessages(Long chatRoomId, String username) {
 
-        // 채팅방 입장 검증
-        validateChatRoomAccess(chatRoomId, username);
+        // 채팅방 입장 검증 및 입장 시각 조회
+        Instant joinedAt = validateChatRoomAccessAndGetJoinedAt(chatRoomId, username);
 
-        Instant joinedAt = findJoinedAt(chatRoomId, username);
-
-        // 페이지 조회
-        List<ChatMessageItemInfoProjection> chatMessageItemList =
-                chatMessageRepository.findInitialMessagesByChatRoomIdAndUsernameAndJoinedAt(chatRoomId, username, joinedAt);
+        // 페이지 조회 (최근 메세지 버퍼로 응답할 수 없을 때만 DB 조회)
+        List<ChatMessageItemInfoProjection> chatMessageItemList = chatRoomRecentMessageBuffer.findInitialMessages(chatRoomId, joinedAt)
+                .orElseGet(() -> chatMessageRepository.findInitialMessagesByChatRoomIdAndUsernameAndJoinedAt(chatRoomId, username, joinedAt));
 
         log.debug("1. chatMessageItemList.size(): {}", chatMessageItemList.size());
 
@@ -183,7 +276,7 @@ public class ChatMessageService {
         // 과거(older) 페이지 네이션을 위한 nextCursor 계산
         // dataList는 ASC(오래된 -> 최신) 순으로 정렬되어 있으므로,
         // 가장 오래된 메시지를 기준 커서로 사용함.
-        String nextCursor = getNextCursor(chatMessageItemList, hasMore);
+        String nextCursor = getNextCursor(chatMessageItemList, hasMore, ChatMessageCursorDirection.OLDER);
 
         log.debug("2. chatMessageItemList.size(): {}", chatMessageItemList.size());
 
@@ -205,36 +298,35 @@ public class ChatMessageService {
      *
      * @param chatRoomId 조회할 채팅방 ID
      * @param username 조회할 사용자 이름
-     * @param cursor 마지막 메시지를 가리키는 opaque cursor("sentAt_id")
+     * @param cursor 마지막 메시지를 가리키는 opaque cursor
      * @return 누락된 최신 메시지 페이징 결과 (hasMore, nextCursor 포함)
      * @throws ChatRoomNotFoundException 채팅방이 존재하지 않을 때
      * @throws ChatRoomAccessDeniedException 사용자가 채팅방에 속하지 않을 때
      * @throws ChatMessageRetrievalException 조회된 메시지가 없거나 조회에 실패할 때
+     * @throws InvalidChatMessageCursorException 커서가 없거나 형식이 올바르지 않을 때
      * @since 1.0
      * @version 2.0
      */
     public PageResponseDTO<ChatMessageItemInfoDTO> findNewerChatMessages(Long chatRoomId, String username, String cursor) {
 
-        // 채팅방 입장 검증
-        validateChatRoomAccess(chatRoomId, username);
-
-        Instant joinedAt = findJoinedAt(chatRoomId, username);
+        // 채팅방 입장 검증 및 입장 시각 조회
+        Instant joinedAt = validateChatRoomAccessAndGetJoinedAt(chatRoomId, username);
 
         // 커서 파싱
-        Pair<Instant, Long> parsed= parseCursor(cursor);
+        Pair<Instant, Long> parsed = parseCursor(cursor, ChatMessageCursorDirection.NEWER);
         Instant cursorSentAt = parsed.getFirst();
         Long cursorId = parsed.getSecond();
 
-        // 페이지 조회
-        List<ChatMessageItemInfoProjection> chatMessageItemList =
-                chatMessageRepository.findNewerMessagesByChatRoomIdAndUsernameAndJoinedAtAndCursor(
-                        chatRoomId, username, joinedAt, cursorSentAt, cursorId);
+        // 페이지 조회 (최근 메세지 버퍼로 응답할 수 없을 때만 DB 조회)
+        List<ChatMessageItemInfoProjection> chatMessageItemList = chatRoomRecentMessageBuffer.findNewerMessages(chatRoomId, joinedAt, cursorSentAt, cursorId)
+                .orElseGet(() -> chatMessageRepository.findNewerMessagesByChatRoomIdAndUsernameAndJoinedAtAndCursor(
+                        chatRoomId, username, joinedAt, cursorSentAt, cursorId));
 
         // hasMore 계산 & 목록 추출 (ASC 그대로)
         Boolean hasMore = getHasMore(chatMessageItemList.size());
 
         // nextCursor 생성 (마지막 요소 기준)
-        String nextCursor = getNextCursor(chatMessageItemList, hasMore);
+        String nextCursor = getNextCursor(chatMessageItemList, hasMore, ChatMessageCursorDirection.NEWER);
 
         List<ChatMessageItemInfoProjection> subChatMessageItemList =
                 getSubChatMessageItemInfoProjections(chatMessageItemList, hasMore);
@@ -248,23 +340,22 @@ public class ChatMessageService {
      *
      * @param chatRoomId 조회할 채팅방 ID
      * @param username 조회할 사용자 이름
-     * @param cursor 과거 조회 기준이 되는 opaque cursor("sentAt_id")
+     * @param cursor 과거 조회 기준이 되는 opaque cursor
      * @return 과거 메시지 페이징 결과 (hasMore, nextCursor 포함)
      * @throws ChatRoomNotFoundException     채팅방이 존재하지 않을 때
      * @throws ChatRoomAccessDeniedException 사용자가 채팅방에 속하지 않을 때
      * @throws ChatMessageRetrievalException 조회된 메시지가 없거나 조회에 실패할 때
+     * @throws InvalidChatMessageCursorException 커서가 없거나 형식이 올바르지 않을 때
      * @since 1.0
      * @version 2.0
      */
     public PageResponseDTO<ChatMessageItemInfoDTO> findOlderChatMessages(Long chatRoomId, String username, String cursor) {
 
-        // 채팅방 입장 검증
-        validateChatRoomAccess(chatRoomId, username);
-
-        Instant joinedAt = findJoinedAt(chatRoomId, username);
+        // 채팅방 입장 검증 및 입장 시각 조회
+        Instant joinedAt = validateChatRoomAccessAndGetJoinedAt(chatRoomId, username);
 
         // 커서 파싱
-        Pair<Instant, Long> parsed = parseCursor(cursor);
+        Pair<Instant, Long> parsed = parseCursor(cursor, ChatMessageCursorDirection.OLDER);
         Instant cursorSentAt = parsed.getFirst();
         Long cursorId = parsed.getSecond();
 
@@ -276,7 +367,7 @@ public class ChatMessageService {
         // hasMore 계산 & 목록 추출
         Boolean hasMore = getHasMore(chatMessageItemList.size());
 
-        String nextCursor = getNextCursor(chatMessageItemList, hasMore);
+        String nextCursor = getNextCursor(chatMessageItemList, hasMore, ChatMessageCursorDirection.OLDER);
 
         List<ChatMessageItemInfoProjection> subChatMessageItemList =
                 getSubChatMessageItemInfoProjections(chatMessageItemList, hasMore);
@@ -289,34 +380,28 @@ public class ChatMessageService {
     }
 
     /**
-     * 채팅방 존재 여부와 사용자 접근 권한을 검증
+     * 캐시된 채팅방 참여자 정보로 사용자 접근 권한을 검증하고 입장 시각을 반환
+     * 참여자가 아닌 경우에만 채팅방 존재 여부를 DB에서 확인하여 알맞은 예외를 발생
      *
      * @param chatRoomId 조회할 채팅방 ID
      * @param username 조회할 사용자 이름
+     * @return 사용자가 채팅방에 입장한 시각
      * @throws ChatRoomNotFoundException 채팅방이 존재하지 않을 때
      * @throws ChatRoomAccessDeniedException 사용자가 채팅방에 속하지 않을 때
+     * @throws MemberChatRoomRetrievalException 입장 시각이 null인 경우
      * @since 1.0
-     * @version 2.0
-     */
-    private void validateChatRoomAccess(Long chatRoomId, String username) {
-        if (!chatRoomRepository.existsById(chatRoomId)) {
-            throw new ChatRoomNotFoundException("입장하려는 채팅방을 찾을 수 없습니다.");
-        }
-        if (!memberChatRoomRepository.existsByChatRoomIdAndMemberUsername(chatRoomId, username)) {
-            throw new ChatRoomAccessDeniedException("해당 채팅방에 입장하지 않은 사용자입니다.");
-        }
-    }
-
-    /**
-     * 주어진 채팅방 ID와 사용자 이름으로 memberChatRoom 테이블에서 사용자의 입장 시각을 조회
-     *
-     * @param chatRoomId 조회할 채팅방 ID
-     * @param username 조회할 사용자 이름
-     * @return 사용자가 채팅방에 입장한 시각
-     * @throws MemberChatRoomRetrievalException 조회된 입장 시각이 null인 경우 발생
+     * @version 3.0
      */
-    private Instant findJoinedAt(Long chatRoomId, String username) {
-        LocalDateTime joinedAt = chatMessageRepository.findJoinedAtByChatRoomIdAndUsername(chatRoomId, username);
+    private Instant validateChatRoomAccessAndGetJoinedAt(Long chatRoomId, String username) {
+        ChatRoomMemberInfoProjection memberInfo = chatRoomMembershipCache.findByUsername(chatRoomId, username)
+                .orElseThrow(() -> {
+                    if (!chatRoomRepository.existsById(chatRoomId)) {
+                        return new ChatRoomNotFoundException("입장하려는 채팅방을 찾을 수 없습니다.");
+                    }
+                    return new ChatRoomAccessDeniedException("해당 채팅방에 입장하지 않은 사용자입니다.");
+                });
+
+        LocalDateTime joinedAt = memberInfo.joinedAt();
 
         isJoinedAtExists(joinedAt);
 
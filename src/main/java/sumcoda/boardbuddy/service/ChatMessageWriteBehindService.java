@@ -0,0 +1,301 @@
+package sumcoda.boardbuddy.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import sumcoda.boardbuddy.dto.ChatMessageRequest;
+import sumcoda.boardbuddy.dto.event.ChatMessageDeadLetterMessage;
+import sumcoda.boardbuddy.exception.ChatMessageSaveException;
+import sumcoda.boardbuddy.repository.ChatMessageJdbcRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static sumcoda.boardbuddy.util.ChatMessageUtil.CHAT_MESSAGE_DEAD_LETTER_KEY;
+import static sumcoda.boardbuddy.util.ChatMessageUtil.CHAT_MESSAGE_ID_SEQUENCE_KEY;
+
+/**
+ * 채팅 메세지를 먼저 브로드캐스트하고, 저장은 배치로 모아서 처리하는 write-behind 파이프라인
+ * 메세지 Id는 모든 인스턴스가 공유하는 Redis 시퀀스(INCR)에서 할당하므로 여러 인스턴스에서 활성화해도 Id가 겹치지 않음
+ * write-behind 를 켜고 끄는 설정은 모든 인스턴스에서 같아야 함 (꺼진 인스턴스는 DB auto increment 로 Id를 할당)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageWriteBehindService {
+
+    // Redis 시퀀스가 DB에 저장된 가장 큰 Id보다 작으면 그 값으로 올리는 스크립트 (Redis 초기화, write-behind 최초 활성화 대비)
+    private static final RedisScript<Long> SEED_CHAT_MESSAGE_ID_SEQUENCE_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "local seed = tonumber(ARGV[1]) " +
+            "if current < seed then redis.call('SET', KEYS[1], ARGV[1]) return seed end " +
+            "return current",
+            Long.class);
+
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    // write-behind 모드 활성화 여부
+    @Value("${spring.chat.write-behind.enabled:false}")
+    private boolean enabled;
+
+    // 한 번에 저장할 최대 메세지 수, 대기열이 이 크기에 도달하면 즉시 저장
+    @Value("${spring.chat.write-behind.batch-size:100}")
+    private int batchSize;
+
+    // 대기열에 쌓인 메세지를 주기적으로 저장하는 간격(ms)
+    @Value("${spring.chat.write-behind.flush-interval-millis:200}")
+    private long flushIntervalMillis;
+
+    // 저장 대기열의 최대 크기, 초과하면 메세지 발행을 거부
+    @Value("${spring.chat.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private LinkedBlockingDeque<ChatMessageRequest.PersistDTO> queue;
+
+    private ScheduledExecutorService flushExecutor;
+
+    // 즉시 저장 작업이 중복으로 예약되지 않도록 방지
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    private final AtomicLong persistedCount = new AtomicLong();
+
+    private final AtomicLong failedFlushCount = new AtomicLong();
+
+    // 제약 조건 위반으로 저장하지 못하고 dead-letter 목록으로 옮긴 메세지 수
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    // dead-letter 목록에도 보관하지 못한 메세지 수 (로그에만 남음)
+    private final AtomicLong deadLetterFailureCount = new AtomicLong();
+
+    private final AtomicLong lastFlushLatencyMillis = new AtomicLong();
+
+    private final AtomicLong lastPersistLagMillis = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+
+        queue = new LinkedBlockingDeque<>(queueCapacity);
+
+        Long startId = stringRedisTemplate.execute(SEED_CHAT_MESSAGE_ID_SEQUENCE_SCRIPT,
+                List.of(CHAT_MESSAGE_ID_SEQUENCE_KEY), String.valueOf(chatMessageJdbcRepository.findMaxChatMessageId()));
+
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-message-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+
+        log.info("[write-behind] 채팅 메세지 write-behind 활성화 | 시작 Id={} | 배치 크기={} | 저장 주기={}ms", startId, batchSize, flushIntervalMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 종료 전 대기열에 남은 메세지를 모두 저장
+        flushSafely();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 모든 인스턴스가 공유하는 Redis 시퀀스에서 새 채팅 메세지 Id를 할당
+     *
+     * @return 서버에서 할당한 채팅 메세지 Id
+     * @throws ChatMessageSaveException Redis 에서 Id를 할당받지 못했을 때
+     */
+    public Long nextChatMessageId() {
+        Long chatMessageId;
+        try {
+            chatMessageId = stringRedisTemplate.opsForValue().increment(CHAT_MESSAGE_ID_SEQUENCE_KEY);
+        } catch (DataAccessException e) {
+            log.error("[write-behind] 채팅 메세지 Id 할당 실패 | 원인={}", e.getMessage());
+            chatMessageId = null;
+        }
+
+        if (chatMessageId == null) {
+            throw new ChatMessageSaveException("서버 문제로 메세지를 저장할 수 없습니다. 관리자에게 문의하세요.");
+        }
+        return chatMessageId;
+    }
+
+    /**
+     * 채팅 메세지를 저장 대기열에 추가
+     * 대기열이 배치 크기에 도달하면 즉시 저장을 예약
+     *
+     * @param persistDTO 저장할 채팅 메세지
+     * @throws ChatMessageSaveException 대기열이 가득 차 메세지를 받을 수 없을 때
+     */
+    public void enqueue(ChatMessageRequest.PersistDTO persistDTO) {
+        if (!queue.offerLast(persistDTO)) {
+            throw new ChatMessageSaveException("서버가 혼잡하여 메세지를 저장할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        if (queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(this::flushSafely);
+        }
+    }
+
+    /**
+     * 대기열의 메세지를 배치 크기만큼 나누어 저장
+     * 일시적인 오류로 실패한 배치는 대기열 앞쪽에 다시 넣어 다음 주기에 재시도 (at-least-once, 이미 저장된 메세지는 저장소에서 제외)
+     * 제약 조건 위반으로 실패한 배치는 메세지별로 다시 저장하여 위반한 메세지만 dead-letter 목록으로 옮김
+     */
+    private synchronized void flushSafely() {
+        flushRequested.set(false);
+
+        while (!queue.isEmpty()) {
+            List<ChatMessageRequest.PersistDTO> batch = new ArrayList<>(batchSize);
+            queue.drainTo(batch, batchSize);
+
+            long startNanos = System.nanoTime();
+            int rejectedInBatch = 0;
+            try {
+                int skippedCount = chatMessageJdbcRepository.insertChatMessages(batch);
+                if (skippedCount > 0) {
+                    log.warn("[write-behind] 이미 저장된 메세지를 제외했습니다 | 제외된 메세지 수={}", skippedCount);
+                }
+            } catch (DataIntegrityViolationException e) {
+                failedFlushCount.incrementAndGet();
+                log.error("[write-behind] 채팅 메세지 배치가 제약 조건을 위반하여 메세지별로 다시 저장 | 메세지 수={} | 원인={}", batch.size(), e.getMessage());
+
+                rejectedInBatch = persistEach(batch);
+                if (rejectedInBatch < 0) {
+                    return;
+                }
+            } catch (Exception e) {
+                failedFlushCount.incrementAndGet();
+                log.error("[write-behind] 채팅 메세지 배치 저장 실패, 다음 주기에 재시도 | 메세지 수={} | 원인={}", batch.size(), e.getMessage());
+
+                requeue(batch);
+                return;
+            }
+
+            lastFlushLatencyMillis.set(Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+            lastPersistLagMillis.set(Duration.between(batch.get(0).getCreatedAt(), Instant.now()).toMillis());
+            persistedCount.addAndGet(batch.size() - rejectedInBatch);
+        }
+    }
+
+    /**
+     * 메세지를 하나씩 저장하여 제약 조건을 위반한 메세지만 dead-letter 목록으로 옮김
+     * 일시적인 오류가 발생하면 남은 메세지를 대기열에 다시 넣고 중단
+     *
+     * @param batch 제약 조건 위반으로 실패한 배치
+     * @return dead-letter 목록으로 옮긴 메세지 수, 일시적인 오류로 중단했으면 -1
+     */
+    private int persistEach(List<ChatMessageRequest.PersistDTO> batch) {
+        int rejectedInBatch = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            ChatMessageRequest.PersistDTO persistDTO = batch.get(i);
+            try {
+                chatMessageJdbcRepository.insertChatMessages(List.of(persistDTO));
+            } catch (DataIntegrityViolationException e) {
+                rejectedInBatch++;
+                rejectedCount.incrementAndGet();
+                log.error("[write-behind] 제약 조건을 위반한 메세지를 dead-letter 목록으로 옮깁니다 | 메세지 Id={} | 채팅방 Id={} | 원인={}",
+                        persistDTO.getId(), persistDTO.getChatRoomId(), e.getMessage());
+                deadLetter(persistDTO, e.getMostSpecificCause().getMessage());
+            } catch (Exception e) {
+                log.error("[write-behind] 채팅 메세지 저장 실패, 다음 주기에 재시도 | 메세지 Id={} | 원인={}", persistDTO.getId(), e.getMessage());
+                requeue(batch.subList(i, batch.size()));
+                return -1;
+            }
+        }
+        return rejectedInBatch;
+    }
+
+    /**
+     * 저장하지 못한 메세지를 Redis dead-letter 목록에 보관
+     * 구독자는 이미 받은 메세지이므로 채팅방, 사용자 문제를 해결한 뒤 목록의 메세지를 다시 저장하여 기록을 맞출 수 있음
+     * Redis 에도 보관하지 못하면 복구할 수 있도록 메세지 전체를 로그에 남김
+     *
+     * @param persistDTO 저장하지 못한 메세지
+     * @param reason 저장에 실패한 원인
+     */
+    private void deadLetter(ChatMessageRequest.PersistDTO persistDTO, String reason) {
+        ChatMessageDeadLetterMessage deadLetterMessage = new ChatMessageDeadLetterMessage(
+                persistDTO.getId(), persistDTO.getContent(), persistDTO.getMessageType(), persistDTO.getMemberId(),
+                persistDTO.getChatRoomId(), persistDTO.getCreatedAt(), reason, Instant.now());
+
+        try {
+            stringRedisTemplate.opsForList().rightPush(CHAT_MESSAGE_DEAD_LETTER_KEY, objectMapper.writeValueAsString(deadLetterMessage));
+        } catch (JsonProcessingException | DataAccessException e) {
+            deadLetterFailureCount.incrementAndGet();
+            log.error("[write-behind] dead-letter 목록에 보관하지 못했습니다 | 메세지={} | 원인={}", deadLetterMessage, e.getMessage());
+        }
+    }
+
+    private void requeue(List<ChatMessageRequest.PersistDTO> batch) {
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            if (!queue.offerFirst(batch.get(i))) {
+                log.error("[write-behind] 대기열이 가득 차 재시도 대상 메세지를 보관하지 못했습니다 | 메세지 Id={}", batch.get(i).getId());
+            }
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    public long getPersistedCount() {
+        return persistedCount.get();
+    }
+
+    public long getFailedFlushCount() {
+        return failedFlushCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getDeadLetterFailureCount() {
+        return deadLetterFailureCount.get();
+    }
+
+    public long getLastFlushLatencyMillis() {
+        return lastFlushLatencyMillis.get();
+    }
+
+    public long getLastPersistLagMillis() {
+        return lastPersistLagMillis.get();
+    }
+}
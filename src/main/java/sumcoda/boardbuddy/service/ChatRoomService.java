@@ -4,14 +4,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import sumcoda.boardbuddy.cache.ChatRoomMembershipCache;
 import sumcoda.boardbuddy.dto.ChatRoomResponse;
 import sumcoda.boardbuddy.dto.MemberChatRoomResponse;
 import sumcoda.boardbuddy.dto.client.ChatRoomInfoDTO;
 import sumcoda.boardbuddy.dto.fetch.ChatRoomInfoProjection;
+import sumcoda.boardbuddy.dto.fetch.ChatRoomMemberInfoProjection;
 import sumcoda.boardbuddy.entity.ChatRoom;
 import sumcoda.boardbuddy.entity.GatherArticle;
 import sumcoda.boardbuddy.entity.Member;
 import sumcoda.boardbuddy.entity.MemberChatRoom;
+import sumcoda.boardbuddy.entity.ProfileImage;
 import sumcoda.boardbuddy.enumerate.MemberChatRoomRole;
 import sumcoda.boardbuddy.exception.*;
 import sumcoda.boardbuddy.exception.gatherArticle.GatherArticleRetrievalException;
@@ -42,6 +45,8 @@ public class ChatRoomService {
 
     private final ChatRoomMapper chatRoomMapper;
 
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+
     /**
      * 채팅방 생성
      *
@@ -80,7 +85,9 @@ public class ChatRoomService {
             throw new AlreadyEnteredChatRoomException("해당 채팅방은 이미 입장한 채팅방입니다.");
         }
 
-        MemberChatRoom memberChatRoom = MemberChatRoom.buildMemberChatRoom(LocalDateTime.now(), MemberChatRoomRole.PARTICIPANT, member, chatRoom);
+        LocalDateTime joinedAt = LocalDateTime.now();
+
+        MemberChatRoom memberChatRoom = MemberChatRoom.buildMemberChatRoom(joinedAt, MemberChatRoomRole.PARTICIPANT, member, chatRoom);
 
         Long memberChatRoomId = memberChatRoomRepository.save(memberChatRoom).getId();
 
@@ -91,6 +98,16 @@ public class ChatRoomService {
 
         String nickname = member.getNickname();
 
+        // 커밋 이후 채팅방 참여자 캐시에 반영
+        ProfileImage profileImage = member.getProfileImage();
+        chatRoomMembershipCache.addMember(chatRoomId, new ChatRoomMemberInfoProjection(
+                member.getId(),
+                username,
+                nickname,
+                member.getRank(),
+                profileImage == null ? null : profileImage.getS3SavedObjectName(),
+                joinedAt));
+
         return Pair.of(chatRoomId, nickname);
     }
 
@@ -123,6 +140,9 @@ public class ChatRoomService {
 
         String nickname = memberChatRoomValidateDTO.getNickname();
 
+        // 커밋 이후 채팅방 참여자 캐시에서 제거
+        chatRoomMembershipCache.removeMember(chatRoomId, username);
+
         return Pair.of(chatRoomId, nickname);
     }
 
@@ -133,11 +153,9 @@ public class ChatRoomService {
      * @return 사용자가 참여하고 있는 채팅방 상세 정보 목록
      **/
     public List<ChatRoomInfoDTO> getChatRoomDetailsListByUsername(String username) {
-        Boolean isMemberExists = memberRepository.existsByUsername(username);
-        if (!isMemberExists) {
-            throw new MemberRetrievalException("서버 문제로 사용자의 정보를 찾을 수 없습니다. 관리자에게 문의하세요.");
-        }
-        List<ChatRoomInfoProjection> chatRoomDetailsListByUsername = chatRoomRepository.findChatRoomInfoProjectionsByUsername(username);
+        // 사용자 검증과 채팅방 목록 조회를 한 번의 쿼리로 처리
+        List<ChatRoomInfoProjection> chatRoomDetailsListByUsername = chatRoomRepository.findChatRoomInfoProjectionsByUsername(username)
+                .orElseThrow(() -> new MemberRetrievalException("서버 문제로 사용자의 정보를 찾을 수 없습니다. 관리자에게 문의하세요."));
 
         return chatRoomMapper.toChatRoomInfoDTOList(chatRoomDetailsListByUsername);
     }
@@ -1,9 +1,11 @@
 package sumcoda.boardbuddy.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.cloudfront.CloudFrontUtilities;
 import software.amazon.awssdk.services.cloudfront.model.CannedSignerRequest;
+import sumcoda.boardbuddy.cache.CloudFrontSignedUrlCache;
 import sumcoda.boardbuddy.config.CloudFrontConfig;
 
 import java.security.interfaces.RSAPrivateKey;
@@ -12,7 +14,6 @@ import java.time.Instant;
 import static sumcoda.boardbuddy.util.CloudFrontUtil.*;
 
 @Service
-@RequiredArgsConstructor
 public class CloudFrontSignedUrlService {
 
     private final CloudFrontUtilities cloudFrontUtilities;
@@ -21,22 +22,50 @@ public class CloudFrontSignedUrlService {
 
     private final CloudFrontConfig cloudFrontConfig;
 
+    private final CloudFrontSignedUrlCache cloudFrontSignedUrlCache;
+
+    // 서명 시간 Timer, 캐시 미스마다 조회하지 않도록 생성 시 한 번만 등록
+    private final Timer signTimer;
+
+    public CloudFrontSignedUrlService(CloudFrontUtilities cloudFrontUtilities,
+                                      RSAPrivateKey cloudFrontRSAPrivateKey,
+                                      CloudFrontConfig cloudFrontConfig,
+                                      CloudFrontSignedUrlCache cloudFrontSignedUrlCache,
+                                      MeterRegistry meterRegistry) {
+        this.cloudFrontUtilities = cloudFrontUtilities;
+        this.cloudFrontRSAPrivateKey = cloudFrontRSAPrivateKey;
+        this.cloudFrontConfig = cloudFrontConfig;
+        this.cloudFrontSignedUrlCache = cloudFrontSignedUrlCache;
+        this.signTimer = Timer.builder("boardbuddy.cloudfront.sign")
+                .description("CloudFront Signed URL 서명 시간 (캐시 미스만 기록)")
+                .register(meterRegistry);
+    }
 
     /**
      * Canned Policy 방식으로 CloudFront Signed URL을 생성
+     * 같은 리소스의 캐시된 Signed URL은 만료 시각에서 갱신 여유 시간을 뺀 시점까지 재사용
+     * 새로 서명할 때는 만료 시각을 버킷 경계로 올림하여 인스턴스가 달라도 같은 URL이 생성되도록 함
      *
      * @param requestKey CloudFront로 접근할 리소스 객체의 키 (예: "/prod/images/abc.jpg")
      * @return 설정된 만료 시간이 적용된 CloudFront Signed URL
      */
     public String generateSignedUrl(String requestKey) {
 
-        // 1. 서명 대상 URL (도메인 + 객체 경로)
-        String resourceUrl = buildResourceUrl(cloudFrontConfig.getDomain(), requestKey);
+        Instant now = Instant.now();
+
+        // 1. 캐시된 Signed URL이 갱신 시점 전이면 재사용
+        String cachedSignedUrl = cloudFrontSignedUrlCache.get(requestKey, now);
+        if (cachedSignedUrl != null) {
+            return cachedSignedUrl;
+        }
 
-        // 2. 만료 시간 계산
-        Instant expiration = calculateExpiration(cloudFrontConfig.getUrlExpirationMinutes());
+        // 2. 버킷 경계로 올림된 만료 시간 계산
+        Instant expiration = calculateBucketedExpiration(now, cloudFrontConfig.getUrlExpirationMinutes(), cloudFrontConfig.getSignedUrlExpirationBucketSeconds());
 
-        // 3. Canned policy 방식으로 Signed URL 생성
+        // 3. 서명 대상 URL (도메인 + 객체 경로)
+        String resourceUrl = buildResourceUrl(cloudFrontConfig.getDomain(), requestKey);
+
+        // 4. Canned policy 방식으로 Signed URL 생성
         CannedSignerRequest cannedSignerRequest = CannedSignerRequest.builder()
                 .resourceUrl(resourceUrl)
                 .privateKey(cloudFrontRSAPrivateKey)
@@ -44,6 +73,11 @@ public class CloudFrontSignedUrlService {
                 .expirationDate(expiration)
                 .build();
 
-        return cloudFrontUtilities.getSignedUrlWithCannedPolicy(cannedSignerRequest).url();
+        String signedUrl = signTimer.record(() -> cloudFrontUtilities.getSignedUrlWithCannedPolicy(cannedSignerRequest).url());
+
+        // 5. 생성된 Signed URL을 캐시에 저장
+        cloudFrontSignedUrlCache.put(requestKey, signedUrl, expiration);
+
+        return signedUrl;
     }
 }
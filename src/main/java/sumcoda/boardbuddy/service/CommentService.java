@@ -90,15 +90,9 @@ public class CommentService {
      */
     public List<CommentInfoDTO> getComments(Long gatherArticleId) {
 
-        boolean isGatherArticleExists = gatherArticleRepository.existsById(gatherArticleId);
-
-        // 모집글 검증
-        if (!isGatherArticleExists) {
-            throw new GatherArticleNotFoundException("존재하지 않는 모집글입니다.");
-        }
-
-        // 댓글 조회
-        List<CommentInfoProjection> projections = commentRepository.findCommentInfoProjectionsByGatherArticleId(gatherArticleId);
+        // 모집글 검증과 댓글 조회를 한 번의 쿼리로 처리
+        List<CommentInfoProjection> projections = commentRepository.findCommentInfoProjectionsByGatherArticleId(gatherArticleId)
+                .orElseThrow(() -> new GatherArticleNotFoundException("존재하지 않는 모집글입니다."));
 
         return commentMapper.toCommentInfoDTOList(projections);
     }
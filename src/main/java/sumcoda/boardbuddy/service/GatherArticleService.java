@@ -5,13 +5,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import sumcoda.boardbuddy.cache.ChatRoomMembershipCache;
+import sumcoda.boardbuddy.cache.ChatRoomRecentMessageBuffer;
+import sumcoda.boardbuddy.cache.GatherArticleDetailCache;
+import sumcoda.boardbuddy.cache.GatherArticleListCache;
+import sumcoda.boardbuddy.cache.GatherArticleSearchIndex;
 import sumcoda.boardbuddy.dto.*;
 import sumcoda.boardbuddy.dto.client.GatherArticleAuthorDTO;
 import sumcoda.boardbuddy.dto.client.GatherArticleDetailedInfoDTO;
-import sumcoda.boardbuddy.dto.fetch.GatherArticleAuthorProjection;
-import sumcoda.boardbuddy.dto.fetch.GatherArticleDetailedInfoProjection;
+import sumcoda.boardbuddy.dto.fetch.GatherArticleDetailWithAuthorProjection;
 import sumcoda.boardbuddy.entity.GatherArticle;
 import sumcoda.boardbuddy.entity.Member;
 import sumcoda.boardbuddy.entity.MemberGatherArticle;
@@ -26,14 +32,21 @@ import sumcoda.boardbuddy.exception.gatherArticle.*;
 import sumcoda.boardbuddy.exception.member.MemberRetrievalException;
 import sumcoda.boardbuddy.exception.memberGatherArticle.MemberGatherArticleRetrievalException;
 import sumcoda.boardbuddy.mapper.GatherArticleMapper;
+import sumcoda.boardbuddy.repository.GatherArticleJdbcRepository;
+import sumcoda.boardbuddy.repository.chatRoom.ChatRoomRepository;
 import sumcoda.boardbuddy.repository.gatherArticle.GatherArticleRepository;
 import sumcoda.boardbuddy.repository.member.MemberRepository;
 import sumcoda.boardbuddy.repository.memberGatherArticle.MemberGatherArticleRepository;
 import sumcoda.boardbuddy.repository.participationApplication.ParticipationApplicationRepository;
+import sumcoda.boardbuddy.util.GatherArticleCursorCodec;
+import sumcoda.boardbuddy.util.GatherArticleSearchTokenUtil;
 import sumcoda.boardbuddy.util.GatherArticleValidationUtil;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -41,10 +54,15 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class GatherArticleService {
 
+    // 검색 토큰 보정 시 한 번에 읽고 저장할 모집글 수
+    private static final int SEARCH_TOKEN_BACKFILL_BATCH_SIZE = 500;
+
     private final MemberRepository memberRepository;
 
     private final GatherArticleRepository gatherArticleRepository;
 
+    private final GatherArticleJdbcRepository gatherArticleJdbcRepository;
+
     private final MemberGatherArticleRepository memberGatherArticleRepository;
 
     /**
@@ -67,6 +85,18 @@ public class GatherArticleService {
 
     private final GatherArticleMapper gatherArticleMapper;
 
+    private final ChatRoomRepository chatRoomRepository;
+
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+
+    private final ChatRoomRecentMessageBuffer chatRoomRecentMessageBuffer;
+
+    private final GatherArticleSearchIndex gatherArticleSearchIndex;
+
+    private final GatherArticleListCache gatherArticleListCache;
+
+    private final GatherArticleDetailCache gatherArticleDetailCache;
+
     /**
      * @apiNote 현재는 사용률 저조로 비활성화된 상태
      * 추후 사용자 요청 또는 트래픽 증가시 다시 활성화될 수 있음
@@ -93,9 +123,18 @@ public class GatherArticleService {
         // 엔티티로 변환
         GatherArticle gatherArticle = createRequest.toEntity();
 
+        // 목록 조회용 작성자 정보 설정
+        gatherArticle.assignAuthor(member);
+
         // 저장
         gatherArticleRepository.save(gatherArticle);
 
+        // 커밋 이후 검색 색인에 추가
+        gatherArticleSearchIndex.add(gatherArticle.getId(), gatherArticle.getTitle(), gatherArticle.getDescription());
+
+        // 커밋 이후 해당 지역의 모집글 리스트 캐시 무효화
+        gatherArticleListCache.evictRegion(gatherArticle.getSido(), gatherArticle.getSgg());
+
         // memberGatherArticle 생성
         MemberGatherArticle memberGatherArticle = MemberGatherArticle.buildMemberGatherArticle(
                 LocalDateTime.now(),
@@ -120,6 +159,39 @@ public class GatherArticleService {
         return GatherArticleResponse.CreateDTO.builder().id(gatherArticle.getId()).build();
     }
 
+    /**
+     * 검색 토큰이 없는 기존 모집글의 키워드 검색 토큰 생성
+     * search_tokens 컬럼이 추가되기 전에 작성된 모집글도 키워드 검색에 포함되도록 애플리케이션 시작 시 실행
+     * 모든 모집글을 한 트랜잭션에 올리지 않도록 Id 범위 배치로 나누어 읽고, 배치마다 바로 저장
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void fillMissingSearchTokens() {
+        long lastId = 0;
+        int filledCount = 0;
+
+        while (true) {
+            List<GatherArticleJdbcRepository.SearchText> searchTexts =
+                    gatherArticleJdbcRepository.findSearchTextsWithoutTokens(lastId, SEARCH_TOKEN_BACKFILL_BATCH_SIZE);
+            if (searchTexts.isEmpty()) {
+                break;
+            }
+
+            Map<Long, String> searchTokensById = new LinkedHashMap<>();
+            for (GatherArticleJdbcRepository.SearchText searchText : searchTexts) {
+                searchTokensById.put(searchText.gatherArticleId(),
+                        GatherArticleSearchTokenUtil.buildSearchTokens(searchText.title(), searchText.description()));
+            }
+            gatherArticleJdbcRepository.updateSearchTokens(searchTokensById);
+
+            filledCount += searchTexts.size();
+            lastId = searchTexts.get(searchTexts.size() - 1).gatherArticleId();
+        }
+
+        if (filledCount > 0) {
+            log.info("[모집글 검색 토큰] 기존 모집글 {}건의 검색 토큰 생성", filledCount);
+        }
+    }
+
     /**
      * 모집글 상세 조회
      *
@@ -128,46 +200,35 @@ public class GatherArticleService {
      */
     public GatherArticleDetailedInfoDTO getGatherArticleDetailedInfo(Long gatherArticleId) {
 
-        // 존재하는 모집글인지 확인
-        boolean isGatherArticleExists = gatherArticleRepository.existsById(gatherArticleId);
-        if (!isGatherArticleExists) {
-            throw new GatherArticleNotFoundException("존재하지 않는 모집글입니다.");
-        }
-
-        GatherArticleDetailedInfoProjection infoProjection = gatherArticleRepository.findGatherArticleDetailedInfoByGatherArticleId(gatherArticleId)
-                .orElseThrow(() -> new GatherArticleRetrievalException("해당 모집글의 상세 정보를 찾을 수 없습니다. 관리자에게 문의하세요."));
-
-        GatherArticleAuthorProjection authorProjection = gatherArticleRepository.findGatherArticleAuthorByGatherArticleId(gatherArticleId)
-                .orElseThrow(() -> new GatherArticleAuthorRetrievalException("해당 모집글의 작성자 정보를 찾을 수 없습니다. 관리자에게 문의하세요."));
+        // 모집글 상세 정보와 작성자 정보를 캐시 또는 한 번의 쿼리로 조회, 없으면 존재하지 않는 모집글
+        GatherArticleDetailWithAuthorProjection projection = gatherArticleDetailCache.findById(gatherArticleId)
+                .orElseThrow(() -> new GatherArticleNotFoundException("존재하지 않는 모집글입니다."));
 
-        GatherArticleAuthorDTO gatherArticleAuthorDTO = gatherArticleMapper.toGatherArticleAuthorDTO(authorProjection);
+        // 프로필 이미지 Signed URL 은 캐시하지 않고 응답 시점에 생성
+        GatherArticleAuthorDTO gatherArticleAuthorDTO = gatherArticleMapper.toGatherArticleAuthorDTO(projection.author());
 
-        return gatherArticleMapper.toGatherArticleDetailedInfoDTO(infoProjection, gatherArticleAuthorDTO);
+        return gatherArticleMapper.toGatherArticleDetailedInfoDTO(projection.detail(), gatherArticleAuthorDTO);
     }
 
 
     /**
      * 모집글 참가 신청 현황 조회
+     * 정상 요청은 한 번의 쿼리로 처리하고, 결과가 없을 때만 모집글 존재 여부를 확인하여 없는 모집글과 없는 사용자를 구분
      * @param gatherArticleId 모집글 ID
      * @param username 사용자 username
      * @return 모집글에 대한 요청을 보낸 사용자의 참가 신청 현황
      */
     public GatherArticleResponse.ParticipationApplicationStatusDTO getParticipationApplicationStatus(Long gatherArticleId, String username) {
 
-        // 존재하는 모집글인지 확인
-        boolean isGatherArticleExists = gatherArticleRepository.existsById(gatherArticleId);
-        if (!isGatherArticleExists) {
-            throw new GatherArticleNotFoundException("존재하지 않는 모집글입니다.");
-        }
-
-        // 사용자 검증
-        Boolean IsUserExists = memberRepository.existsByUsername(username);
-        if (!IsUserExists){
-            throw new MemberRetrievalException("유효하지 않은 사용자입니다.");
-        }
-
+        // 모집글, 사용자 검증과 참가 신청 현황 조회를 한 번의 쿼리로 처리
         return gatherArticleRepository.findParticipationApplicationStatusDTOByGatherArticleIdAndUsername(gatherArticleId, username)
-                .orElseThrow(() -> new MemberGatherArticleRetrievalException("모집글에 대한 유저의 참가 신청 정보를 찾을 수 없습니다. 관리자에게 문의하세요."));
+                .orElseThrow(() -> {
+                    // 모집글이 존재한다면 조회되지 않은 원인은 사용자
+                    if (gatherArticleRepository.existsById(gatherArticleId)) {
+                        return new MemberRetrievalException("유효하지 않은 사용자입니다.");
+                    }
+                    return new GatherArticleNotFoundException("존재하지 않는 모집글입니다.");
+                });
     }
 
     /**
@@ -199,6 +260,13 @@ public class GatherArticleService {
         // 기존 endDateTime
         LocalDateTime originalEndDateTime = gatherArticle.getEndDateTime();
 
+        // 검색 색인 갱신을 위한 기존 제목, 설명
+        String originalTitle = gatherArticle.getTitle();
+        String originalDescription = gatherArticle.getDescription();
+
+        // 지역이 바뀌면 이전 지역의 모집글 리스트 캐시도 무효화
+        gatherArticleListCache.evictRegion(gatherArticle.getSido(), gatherArticle.getSgg());
+
         // 수정
         gatherArticle.update(updateRequest.getTitle(),
                 updateRequest.getDescription(),
@@ -215,6 +283,13 @@ public class GatherArticleService {
         // 모집글 상태 확인, 업데이트
         updateGatherArticleStatusBasedOnParticipants(gatherArticle);
 
+        // 커밋 이후 검색 색인 갱신
+        gatherArticleSearchIndex.update(gatherArticle.getId(), originalTitle, originalDescription, gatherArticle.getTitle(), gatherArticle.getDescription());
+
+        // 커밋 이후 수정된 지역의 모집글 리스트 캐시와 상세 정보 캐시 무효화
+        gatherArticleListCache.evictRegion(gatherArticle.getSido(), gatherArticle.getSgg());
+        gatherArticleDetailCache.evict(gatherArticle.getId());
+
         // endDateTime 이 바뀌었을 때만 리스케줄링 수행
         if (!originalEndDateTime.equals(updateRequest.getEndDateTime())) {
             gatherArticleStatusUpdateSchedulingService.rescheduleStatusUpdateJob(gatherArticle.getId(), gatherArticle.getEndDateTime());
@@ -232,8 +307,8 @@ public class GatherArticleService {
     @Transactional
     public GatherArticleResponse.DeleteDTO deleteGatherArticle(Long gatherArticleId, String username) {
 
-        // 존재하는 모집글인지 확인
-        GatherArticleResponse.IdDTO GatherArticleIdDTO = gatherArticleRepository.findIdDTOById(gatherArticleId)
+        // 존재하는 모집글인지 확인, 모집글 리스트 캐시 무효화를 위해 지역 정보를 함께 조회
+        GatherArticleResponse.LocationInfoDTO locationInfoDTO = gatherArticleRepository.findLocationInfoDTOById(gatherArticleId)
                 .orElseThrow(() -> new GatherArticleNotFoundException("존재하지 않는 모집글입니다."));
 
         // 사용자 검증
@@ -241,17 +316,31 @@ public class GatherArticleService {
                 .orElseThrow(() -> new MemberRetrievalException("유효하지 않은 사용자입니다."));
 
         // 작성자인지 검증
-        if (!memberGatherArticleRepository.isAuthor(GatherArticleIdDTO.getId(), memberIdDTO.getId())) {
+        if (!memberGatherArticleRepository.isAuthor(gatherArticleId, memberIdDTO.getId())) {
             throw new GatherArticleAccessDeniedException("작성자만 삭제할 수 있습니다.");
         }
 
+        // 함께 삭제되는 채팅방의 참여자 캐시와 최근 메세지 버퍼 무효화
+        chatRoomRepository.findValidateDTOByGatherArticleId(gatherArticleId)
+                .ifPresent(chatRoomValidateDTO -> {
+                    chatRoomMembershipCache.evict(chatRoomValidateDTO.getId());
+                    chatRoomRecentMessageBuffer.evict(chatRoomValidateDTO.getId());
+                });
+
         // 삭제
-        gatherArticleRepository.deleteById(GatherArticleIdDTO.getId());
+        gatherArticleRepository.deleteById(gatherArticleId);
+
+        // 커밋 이후 검색 색인에서 제외
+        gatherArticleSearchIndex.remove(gatherArticleId);
+
+        // 커밋 이후 해당 지역의 모집글 리스트 캐시와 상세 정보 캐시 무효화
+        gatherArticleListCache.evictRegion(locationInfoDTO.getSido(), locationInfoDTO.getSgg());
+        gatherArticleDetailCache.evict(gatherArticleId);
 
         // 스케줄링 작업 취소
-        gatherArticleStatusUpdateSchedulingService.unscheduleStatusUpdateJob(GatherArticleIdDTO.getId());
+        gatherArticleStatusUpdateSchedulingService.unscheduleStatusUpdateJob(gatherArticleId);
 
-        return GatherArticleResponse.DeleteDTO.builder().id(GatherArticleIdDTO.getId()).build();
+        return GatherArticleResponse.DeleteDTO.builder().id(gatherArticleId).build();
     }
 
     // 수정된 maxParticipants 에 따라 모집글 상태 변경
@@ -359,7 +448,10 @@ public class GatherArticleService {
      * @apiNote V2 - 사용자가 지정한 지역 기반 모집글 리스트 조회
      * 모집글 리스트 조회 (검색 포함)
      *
-     * @param page      페이지 번호
+     * cursor 가 있으면 page 대신 커서 다음 위치부터 조회하여 페이지 깊이와 관계없이 같은 비용으로 조회
+     *
+     * @param page      페이지 번호 (cursor 가 없을 때 사용)
+     * @param cursor    이전 페이지 응답의 nextCursor (옵션)
      * @param sido      시도
      * @param sgg       시군구
      * @param status    모집 상태 (옵션)
@@ -369,6 +461,7 @@ public class GatherArticleService {
      */
     public GatherArticleResponse.ReadListDTO getGatherArticlesV2(
             Integer page,
+            String cursor,
             String sido,
             String sgg,
             String status,
@@ -391,21 +484,56 @@ public class GatherArticleService {
             throw new GatherArticleSearchLengthException("검색어는 두 글자 이상이어야 합니다.");
         }
 
-        // 페이징 정보 생성
-        Pageable pageable = PageRequest.of(page, 10);
-        // AUTHOR 로 필터하기 위한 역할 선언
-        MemberGatherArticleRole role = MemberGatherArticleRole.AUTHOR;
+        // 커서 검증 및 기준 모집글 추출
+        Pair<LocalDateTime, Long> cursorPosition = cursor != null ? GatherArticleCursorCodec.decode(cursor, sort) : null;
+
+        // 페이징 정보 생성, 커서로 조회할 때는 페이지 번호를 사용하지 않음
+        Pageable pageable = PageRequest.of(cursorPosition != null || page == null ? 0 : page, 10);
+
+        // 검색어 없는 첫 페이지는 지역, 상태, 정렬 조합별 캐시로 응답
+        boolean isCacheableFirstPage = keyword == null && cursorPosition == null && pageable.getPageNumber() == 0;
+        long listCacheGeneration = gatherArticleListCache.getGeneration();
+        if (isCacheableFirstPage) {
+            Optional<GatherArticleResponse.ReadListDTO> cachedFirstPage = gatherArticleListCache.get(sido, sgg, status, sort);
+            if (cachedFirstPage.isPresent()) {
+                return cachedFirstPage.get();
+            }
+        }
+
+        // 인메모리 검색 색인으로 키워드 후보 조회, 색인을 사용할 수 없으면 null 로 두어 FULLTEXT 색인으로 검색
+        List<Long> keywordCandidateIds = keyword == null ? null : gatherArticleSearchIndex.search(keyword).orElse(null);
+
+        // 후보가 없으면 커밋 직후 아직 색인에 반영되지 않은 모집글이 있을 수 있으므로 빈 결과 대신 FULLTEXT 색인으로 검색
+        if (keywordCandidateIds != null && keywordCandidateIds.isEmpty()) {
+            keywordCandidateIds = null;
+        }
 
         // 모집글 리스트 조회
         Slice<GatherArticleResponse.ReadSliceDTO> result = gatherArticleRepository.findReadSliceDTOByLocationV2AndStatusAndSortAndKeyword(
-                sido, sgg, status, sort, keyword, role, pageable);
+                sido, sgg, status, sort, keyword, keywordCandidateIds,
+                cursorPosition != null ? cursorPosition.getFirst() : null,
+                cursorPosition != null ? cursorPosition.getSecond() : null,
+                pageable);
+
+        // 다음 페이지가 있으면 현재 페이지의 마지막 모집글로 커서 생성
+        String nextCursor = null;
+        if (result.hasNext()) {
+            GatherArticleResponse.ReadSliceDTO lastPost = result.getContent().get(result.getNumberOfElements() - 1);
+            nextCursor = GatherArticleCursorCodec.encode(sort, lastPost.getStartDateTime(), lastPost.getId());
+        }
 
-        // 모집글 리스트 DTO 생성 및 반환
-        return GatherArticleResponse.ReadListDTO.builder()
+        // 모집글 리스트 DTO 생성
+        GatherArticleResponse.ReadListDTO readListDTO = GatherArticleResponse.ReadListDTO.builder()
                 .posts(result.getContent())
                 .last(result.isLast())
+                .nextCursor(nextCursor)
                 .build();
 
+        if (isCacheableFirstPage) {
+            gatherArticleListCache.put(sido, sgg, status, sort, readListDTO, listCacheGeneration);
+        }
+
+        return readListDTO;
     }
 
     /**
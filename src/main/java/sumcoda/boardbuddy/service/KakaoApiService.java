@@ -1,5 +1,7 @@
 package sumcoda.boardbuddy.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -42,6 +44,8 @@ public class KakaoApiService {
     // kakao API 를 호출하기 위한 클라이언트 모듈
     private final RestTemplate restTemplate;
 
+    private final MeterRegistry meterRegistry;
+
     /**
      * 키워드로 장소 검색 API 요청 처리 메서드
      *
@@ -71,8 +75,8 @@ public class KakaoApiService {
                 HttpEntity<?> httpEntity = new HttpEntity<>(headers);
 
                 // Kakao API 호출 및 응답 받기
-                KakaoApiResponse.KeywordSearchDTO response = restTemplate.exchange(
-                        uri, HttpMethod.GET, httpEntity, KakaoApiResponse.KeywordSearchDTO.class).getBody();
+                KakaoApiResponse.KeywordSearchDTO response = kakaoApiTimer("keyword-search").record(() -> restTemplate.exchange(
+                        uri, HttpMethod.GET, httpEntity, KakaoApiResponse.KeywordSearchDTO.class).getBody());
 
                 // 응답이 null 인 경우 예외 처리
                 if (response == null) {
@@ -133,8 +137,8 @@ public class KakaoApiService {
         HttpEntity<?> httpEntity = new HttpEntity<>(headers);
 
         // Kakao API 호출 및 응답 받기
-        KakaoApiResponse.CoordinateToRegionDTO response = restTemplate.exchange(
-                uri, HttpMethod.GET, httpEntity, KakaoApiResponse.CoordinateToRegionDTO.class).getBody();
+        KakaoApiResponse.CoordinateToRegionDTO response = kakaoApiTimer("coord-to-region").record(() -> restTemplate.exchange(
+                uri, HttpMethod.GET, httpEntity, KakaoApiResponse.CoordinateToRegionDTO.class).getBody());
 
         // 응답이 null 인 경우 예외 처리
         if (response == null) {
@@ -156,4 +160,17 @@ public class KakaoApiService {
         // 행정구역 정보 반환
         return regionDTO;
     }
+
+    /**
+     * Kakao API 호출 지연 시간을 기록할 Timer 조회
+     *
+     * @param api 호출한 API 이름
+     * @return API 이름 태그가 붙은 Timer
+     */
+    private Timer kakaoApiTimer(String api) {
+        return Timer.builder("boardbuddy.kakao.api")
+                .description("Kakao API 호출 지연 시간")
+                .tag("api", api)
+                .register(meterRegistry);
+    }
 }
@@ -5,6 +5,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import sumcoda.boardbuddy.cache.ChatRoomMembershipCache;
+import sumcoda.boardbuddy.cache.ChatRoomRecentMessageBuffer;
+import sumcoda.boardbuddy.cache.GatherArticleDetailCache;
+import sumcoda.boardbuddy.cache.GatherArticleListCache;
+import sumcoda.boardbuddy.cache.GatherArticleSearchIndex;
 import sumcoda.boardbuddy.dto.*;
 import sumcoda.boardbuddy.dto.client.MemberSummaryDTO;
 import sumcoda.boardbuddy.dto.fetch.MemberSummaryProjection;
@@ -30,6 +35,16 @@ public class MemberService {
 
     private final GatherArticleRepository gatherArticleRepository;
 
+    private final GatherArticleListCache gatherArticleListCache;
+
+    private final GatherArticleDetailCache gatherArticleDetailCache;
+
+    private final GatherArticleSearchIndex gatherArticleSearchIndex;
+
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+
+    private final ChatRoomRecentMessageBuffer chatRoomRecentMessageBuffer;
+
 //    private final NearPublicDistrictService nearPublicDistrictService;
 
 //    private final PublicDistrictRedisService publicDistrictRedisService;
@@ -504,6 +519,17 @@ public class MemberService {
 
         memberRepository.delete(member);
 
+        // 여러 지역의 모집글이 함께 삭제될 수 있으므로 커밋 이후 모집글 리스트 캐시 전체 무효화
+        if (!deleteGatherArticleIds.isEmpty()) {
+            gatherArticleListCache.evictAll();
+            deleteGatherArticleIds.forEach(gatherArticleDetailCache::evict);
+            deleteGatherArticleIds.forEach(gatherArticleSearchIndex::remove);
+        }
+
+        // 탈퇴한 사용자의 참여 정보와 메세지가 캐시에 남지 않도록 커밋 이후 무효화
+        chatRoomMembershipCache.evictByUsername(username);
+        chatRoomRecentMessageBuffer.evictByNickname(member.getNickname());
+
         // 삭제 확인
         boolean isExists = memberRepository.existsById(member.getId());
         if (isExists) {
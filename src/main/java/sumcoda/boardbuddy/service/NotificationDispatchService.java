@@ -0,0 +1,362 @@
+package sumcoda.boardbuddy.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sumcoda.boardbuddy.dto.event.BulkNotificationCreatedEvent;
+import sumcoda.boardbuddy.dto.event.NotificationCreatedEvent;
+import sumcoda.boardbuddy.dto.fetch.NotificationRecipientProjection;
+import sumcoda.boardbuddy.enumerate.EventName;
+import sumcoda.boardbuddy.repository.NotificationJdbcRepository;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커밋된 알림 이벤트를 전용 스레드에서 배치로 저장하고 SSE 로 전송하는 파이프라인
+ * 요청 트랜잭션과 API 응답이 알림 저장과 SSE 전송을 기다리지 않음
+ * SSE 전송은 유저별로 순서를 지키며 가상 스레드에서 처리하므로 느린 클라이언트가 다른 유저의 알림을 막지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationDispatchService {
+
+    // 일시적인 오류로 대기열에 되돌린 알림의 저장 결과 표시 (JDBC 행 수로 쓰이지 않는 값)
+    private static final int ROW_RETRY_PENDING = Integer.MIN_VALUE;
+
+    private final NotificationJdbcRepository notificationJdbcRepository;
+
+    private final NotificationService notificationService;
+
+    // 한 번에 저장할 최대 알림 수, 대기열이 이 크기에 도달하면 즉시 처리
+    @Value("${spring.notification.dispatch.batch-size:100}")
+    private int batchSize;
+
+    // 대기열에 쌓인 알림을 주기적으로 처리하는 간격(ms)
+    @Value("${spring.notification.dispatch.flush-interval-millis:100}")
+    private long flushIntervalMillis;
+
+    // 처리 대기열의 최대 크기, 초과한 알림은 버림
+    @Value("${spring.notification.dispatch.queue-capacity:10000}")
+    private int queueCapacity;
+
+    // 일시적인 오류로 저장에 실패한 알림의 최대 재시도 횟수, 초과하면 버림
+    @Value("${spring.notification.dispatch.max-retries:5}")
+    private int maxRetries;
+
+    private LinkedBlockingDeque<PendingNotification> queue;
+
+    private ScheduledExecutorService dispatchExecutor;
+
+    // 여러 유저에게 보내는 알림을 저장하는 전용 스레드, 큰 일괄 저장이 유저별 알림의 주기 처리를 막지 않도록 분리
+    private ExecutorService bulkDispatchExecutor;
+
+    // 유저별 알림을 병렬로 전송하는 실행기 (SSE 전송은 소켓 I/O 대기가 대부분이므로 가상 스레드 사용)
+    private ExecutorService pushExecutor;
+
+    // 유저별 마지막 전송 작업, 같은 유저의 알림은 이전 전송이 끝난 뒤에 전송하여 순서를 유지
+    private final Map<String, CompletableFuture<Void>> pushChains = new ConcurrentHashMap<>();
+
+    // 즉시 처리 작업이 중복으로 예약되지 않도록 방지
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    private final AtomicLong dispatchedCount = new AtomicLong();
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private final AtomicLong failedFlushCount = new AtomicLong();
+
+    private final AtomicLong lastDispatchLagMillis = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        queue = new LinkedBlockingDeque<>(queueCapacity);
+
+        dispatchExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatchExecutor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+
+        bulkDispatchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-bulk-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        pushExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("notification-push-", 0).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 일괄 저장에 실패한 알림이 유저별 대기열로 옮겨질 수 있으므로 먼저 종료
+        bulkDispatchExecutor.shutdown();
+        dispatchExecutor.shutdown();
+        try {
+            bulkDispatchExecutor.awaitTermination(5, TimeUnit.SECONDS);
+            dispatchExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 종료 전 대기열에 남은 알림을 모두 처리
+        flushSafely();
+
+        pushExecutor.close();
+    }
+
+    /**
+     * 알림을 만든 트랜잭션이 커밋된 이후에 알림을 처리 대기열에 추가
+     * 롤백된 트랜잭션의 알림은 저장, 전송되지 않음
+     * 트랜잭션 밖에서 발행된 알림은 바로 대기열에 추가
+     *
+     * @param event 알림 생성 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        // 커밋 이후라 예외를 던져도 호출한 쪽에서 처리할 수 없으므로 기록만 남김
+        if (!queue.offerLast(new PendingNotification(event, 0))) {
+            droppedCount.incrementAndGet();
+            log.error("[notification-dispatch] 대기열이 가득 차 알림을 버렸습니다 | 받는 유저={} | 이벤트={}", event.username(), event.eventName());
+            return;
+        }
+
+        if (queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            dispatchExecutor.execute(this::flushSafely);
+        }
+    }
+
+    /**
+     * 여러 유저에게 보내는 알림을 트랜잭션 커밋 이후 일괄 처리 전용 스레드에서 처리하도록 예약
+     * 받는 유저가 많아도 저장 배치 한 번과 병렬 전송으로 처리되므로 대기열을 거치지 않음
+     * 유저별 알림을 처리하는 스레드와 분리되어 있어 큰 일괄 저장이 유저별 알림을 지연시키지 않음
+     *
+     * @param event 여러 유저에게 보내는 알림 생성 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkNotificationCreated(BulkNotificationCreatedEvent event) {
+        bulkDispatchExecutor.execute(() -> dispatchBulk(event));
+    }
+
+    /**
+     * 모든 받는 유저의 알림을 한 번의 배치로 저장한 뒤 연결된 emitter 로 전송을 맡기고 기다리지 않음
+     * 전송은 유저별 전송 순서를 따르므로 같은 유저에게 먼저 저장된 알림보다 앞서 전송되지 않음
+     *
+     * @param event 여러 유저에게 보내는 알림 생성 이벤트
+     */
+    private void dispatchBulk(BulkNotificationCreatedEvent event) {
+        List<NotificationRecipientProjection> recipients = event.recipients();
+
+        try {
+            notificationJdbcRepository.insertNotificationsForMembers(
+                    recipients.stream().map(NotificationRecipientProjection::memberId).toList(),
+                    event.message(),
+                    event.createdAt());
+        } catch (Exception e) {
+            failedFlushCount.incrementAndGet();
+            log.error("[notification-dispatch] 알림 일괄 저장 실패, 유저별 대기열로 옮겨 재시도 | 이벤트={} | 받는 유저 수={} | 원인={}", event.eventName(), recipients.size(), e.getMessage());
+
+            // 일괄 저장은 하나의 트랜잭션이라 저장된 알림이 없으므로 유저별 알림으로 나누어 다시 처리
+            recipients.forEach(recipient -> onNotificationCreated(
+                    new NotificationCreatedEvent(recipient.username(), event.message(), event.eventName(), event.createdAt())));
+            return;
+        }
+
+        recipients.forEach(recipient -> pushAsync(recipient.username(), event.message(), event.eventName()));
+
+        lastDispatchLagMillis.set(Duration.between(event.createdAt(), LocalDateTime.now()).toMillis());
+    }
+
+    /**
+     * 대기열의 알림을 배치 크기만큼 나누어 저장한 뒤 SSE 로 전송
+     * 제약 조건 위반으로 실패한 배치는 알림별로 다시 저장하여 위반한 알림만 버림
+     * 일시적인 오류로 실패한 알림은 대기열 앞쪽에 다시 넣어 다음 주기에 재시도하고, 최대 재시도 횟수를 넘으면 버림
+     * 저장 이후에 전송하므로 알림을 받은 클라이언트가 바로 목록을 조회해도 새 알림이 포함됨
+     */
+    private synchronized void flushSafely() {
+        flushRequested.set(false);
+
+        while (!queue.isEmpty()) {
+            List<PendingNotification> batch = new ArrayList<>(batchSize);
+            queue.drainTo(batch, batchSize);
+
+            int[] insertedCounts;
+            try {
+                insertedCounts = notificationJdbcRepository.insertNotifications(toEvents(batch));
+            } catch (DataIntegrityViolationException e) {
+                failedFlushCount.incrementAndGet();
+                log.error("[notification-dispatch] 알림 배치가 제약 조건을 위반하여 알림별로 다시 저장 | 알림 수={} | 원인={}", batch.size(), e.getMessage());
+
+                insertedCounts = insertEach(batch);
+            } catch (Exception e) {
+                failedFlushCount.incrementAndGet();
+                log.error("[notification-dispatch] 알림 배치 저장 실패, 다음 주기에 재시도 | 알림 수={} | 원인={}", batch.size(), e.getMessage());
+
+                retryLater(batch);
+                return;
+            }
+
+            boolean retryPending = false;
+            for (int i = 0; i < batch.size(); i++) {
+                NotificationCreatedEvent event = batch.get(i).event();
+                int insertedCount = i < insertedCounts.length ? insertedCounts[i] : Statement.SUCCESS_NO_INFO;
+
+                // 재시도 대상이거나 저장하지 못하고 버린 알림은 전송하지 않음
+                if (insertedCount == ROW_RETRY_PENDING) {
+                    retryPending = true;
+                    continue;
+                }
+                if (insertedCount == Statement.EXECUTE_FAILED) {
+                    continue;
+                }
+
+                // 알림 생성 이후 탈퇴한 유저라면 저장된 알림이 없으므로 전송하지 않음
+                if (insertedCount == 0) {
+                    droppedCount.incrementAndGet();
+                    log.warn("[notification-dispatch] 알림을 받을 유저가 존재하지 않습니다 | 받는 유저={}", event.username());
+                    continue;
+                }
+
+                pushAsync(event.username(), event.message(), event.eventName());
+            }
+
+            lastDispatchLagMillis.set(Duration.between(batch.get(0).event().createdAt(), LocalDateTime.now()).toMillis());
+
+            // 일시적인 오류로 되돌린 알림은 다음 주기에 재시도
+            if (retryPending) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 알림을 하나씩 저장하여 제약 조건을 위반한 알림만 버림
+     * 일시적인 오류가 발생하면 남은 알림을 대기열에 다시 넣고 중단
+     *
+     * @param batch 제약 조건 위반으로 실패한 배치
+     * @return 알림별 저장된 행 수, 버린 알림은 Statement.EXECUTE_FAILED, 다시 넣은 알림은 ROW_RETRY_PENDING
+     */
+    private int[] insertEach(List<PendingNotification> batch) {
+        int[] insertedCounts = new int[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            NotificationCreatedEvent event = batch.get(i).event();
+            try {
+                int[] counts = notificationJdbcRepository.insertNotifications(List.of(event));
+                insertedCounts[i] = counts.length == 0 ? Statement.SUCCESS_NO_INFO : counts[0];
+            } catch (DataIntegrityViolationException e) {
+                insertedCounts[i] = Statement.EXECUTE_FAILED;
+                droppedCount.incrementAndGet();
+                log.error("[notification-dispatch] 제약 조건을 위반한 알림을 버립니다 | 받는 유저={} | 이벤트={} | 원인={}",
+                        event.username(), event.eventName(), e.getMessage());
+            } catch (Exception e) {
+                log.error("[notification-dispatch] 알림 저장 실패, 다음 주기에 재시도 | 받는 유저={} | 원인={}", event.username(), e.getMessage());
+
+                retryLater(batch.subList(i, batch.size()));
+                Arrays.fill(insertedCounts, i, batch.size(), ROW_RETRY_PENDING);
+                break;
+            }
+        }
+        return insertedCounts;
+    }
+
+    /**
+     * 저장에 실패한 알림을 같은 순서로 대기열 앞쪽에 다시 넣음
+     * 최대 재시도 횟수를 넘은 알림은 다른 알림을 계속 막지 않도록 버림
+     *
+     * @param batch 저장에 실패한 알림 목록
+     */
+    private void retryLater(List<PendingNotification> batch) {
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            PendingNotification pending = batch.get(i);
+            NotificationCreatedEvent event = pending.event();
+
+            if (pending.attempts() >= maxRetries) {
+                droppedCount.incrementAndGet();
+                log.error("[notification-dispatch] 최대 재시도 횟수를 넘어 알림을 버립니다 | 받는 유저={} | 이벤트={} | 시도 횟수={}",
+                        event.username(), event.eventName(), pending.attempts() + 1);
+                continue;
+            }
+
+            if (!queue.offerFirst(new PendingNotification(event, pending.attempts() + 1))) {
+                droppedCount.incrementAndGet();
+                log.error("[notification-dispatch] 대기열이 가득 차 재시도 대상 알림을 보관하지 못했습니다 | 받는 유저={}", event.username());
+            }
+        }
+    }
+
+    /**
+     * 유저의 알림 전송을 가상 스레드에 맡기고 기다리지 않음
+     * 같은 유저의 알림은 이전 전송이 끝난 뒤에 전송하므로 유저별 순서가 유지되고, 느린 유저가 다른 유저의 전송을 막지 않음
+     */
+    private void pushAsync(String username, String message, EventName eventName) {
+        CompletableFuture<Void> pushed = pushChains.compute(username, (key, previous) -> previous == null
+                ? CompletableFuture.runAsync(() -> push(username, message, eventName), pushExecutor)
+                : previous.thenRunAsync(() -> push(username, message, eventName), pushExecutor));
+
+        // 마지막 전송이 끝나면 유저의 전송 작업을 정리 (그 사이에 새 전송이 이어졌다면 유지)
+        pushed.whenComplete((result, e) -> pushChains.remove(username, pushed));
+    }
+
+    private static List<NotificationCreatedEvent> toEvents(List<PendingNotification> batch) {
+        return batch.stream().map(PendingNotification::event).toList();
+    }
+
+    /**
+     * 유저의 연결된 emitter 로 알림을 전송
+     * 예약 작업에서 예외가 새어 나가면 이후 주기가 실행되지 않으므로 여기서 처리
+     */
+    private void push(String username, String message, EventName eventName) {
+        try {
+            notificationService.sendNotification(username, message, eventName);
+            dispatchedCount.incrementAndGet();
+        } catch (Exception e) {
+            log.error("[notification-dispatch] 알림 전송 실패 | 받는 유저={} | 원인={}", username, e.getMessage());
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    public long getDispatchedCount() {
+        return dispatchedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getFailedFlushCount() {
+        return failedFlushCount.get();
+    }
+
+    public long getLastDispatchLagMillis() {
+        return lastDispatchLagMillis.get();
+    }
+
+    /**
+     * 처리 대기중인 알림과 저장에 실패한 횟수
+     */
+    private record PendingNotification(NotificationCreatedEvent event, int attempts) {}
+}
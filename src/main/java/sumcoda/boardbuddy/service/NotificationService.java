@@ -1,17 +1,32 @@
 package sumcoda.boardbuddy.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import sumcoda.boardbuddy.dto.CommentResponse;
 import sumcoda.boardbuddy.dto.GatherArticleResponse;
 import sumcoda.boardbuddy.dto.MemberResponse;
 import sumcoda.boardbuddy.dto.NotificationResponse;
-import sumcoda.boardbuddy.entity.Member;
-import sumcoda.boardbuddy.entity.Notification;
+import sumcoda.boardbuddy.dto.event.BulkNotificationCreatedEvent;
+import sumcoda.boardbuddy.dto.event.NotificationCreatedEvent;
+import sumcoda.boardbuddy.dto.event.NotificationDeliveryMessage;
+import sumcoda.boardbuddy.dto.fetch.NotificationRecipientProjection;
+import sumcoda.boardbuddy.dto.fetch.SseEventCacheProjection;
 import sumcoda.boardbuddy.enumerate.EventName;
+import sumcoda.boardbuddy.enumerate.NotificationDeliveryMode;
 import sumcoda.boardbuddy.exception.gatherArticle.GatherArticleNotFoundException;
 import sumcoda.boardbuddy.exception.gatherArticle.GatherArticleRetrievalException;
 import sumcoda.boardbuddy.exception.member.MemberNotFoundException;
@@ -29,10 +44,14 @@ import sumcoda.boardbuddy.util.NotificationMessageUtil;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static sumcoda.boardbuddy.util.NotificationMessageUtil.NOTIFICATION_EVENT_ID_SEQUENCE_KEY;
+import static sumcoda.boardbuddy.util.NotificationMessageUtil.buildNotificationChannel;
 
 @Service
 @RequiredArgsConstructor
@@ -40,6 +59,15 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class NotificationService {
 
+    // Redis 서버 시각(밀리초)과 공유 순번으로 이벤트 Id({생성 epoch 밀리초}_{순번})를 발급하는 스크립트
+    // 모든 인스턴스가 같은 시계와 순번을 사용하므로 인스턴스 간 시계 차이가 있어도 발급 순서대로 정렬되고 Id가 겹치지 않음
+    private static final RedisScript<String> NEXT_EVENT_ID_SCRIPT = new DefaultRedisScript<>(
+            "local now = redis.call('TIME') " +
+            "local millis = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000) " +
+            "local sequence = redis.call('INCR', KEYS[1]) " +
+            "return string.format('%d_%d', millis, sequence)",
+            String.class);
+
     private final MemberRepository memberRepository;
 
     private final SseEmitterRepository sseEmitterRepository;
@@ -54,26 +82,40 @@ public class NotificationService {
 
     private final NotificationMessageUtil notificationMessageUtil;
 
-    // SSE Emitter와 이벤트 캐시를 위한 저장소
-    private static final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    // 알림 전송 모드 (LOCAL: 현재 인스턴스의 emitter 로만 전송, REDIS: Redis pub/sub 으로 모든 인스턴스에 중계)
+    @Value("${spring.notification.delivery.mode:LOCAL}")
+    private NotificationDeliveryMode notificationDeliveryMode;
 
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
 
+    // SSE 알림 전송 실패 횟수
+    private final AtomicLong sendFailureCount = new AtomicLong();
+
     /**
      * 유저 로그인 시 SSE Emitter 구독 요청 캐치
+     * 재연결 요청이면 마지막으로 받은 이벤트 이후의 알림을 재전송 버퍼에서 다시 전송
      *
 //     * @param nickname 알람 구독 요청 사용자 닉네임
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 Id (Last-Event-ID 헤더, 최초 연결이면 빈 문자열)
      **/
     @Transactional
-    public SseEmitter subscribe(String username) {
+    public SseEmitter subscribe(String username, String lastEventId) {
 
 //        MemberResponse.UsernameDTO usernameDTO = memberRepository.findUsernameDTOByNickname(nickname)
 //                .orElseThrow(() -> new MemberNotFoundException("존재하지 않는 유저입니다."));
 //
 //        String username = usernameDTO.getUsername();
 
-        // 매 연결마다 고유 Id 부여
-        String emitterId = username + "_" + System.currentTimeMillis();
+        // 매 연결마다 고유 Id 부여 (같은 사용자가 여러 탭에서 동시에 연결할 수 있음)
+        String emitterId = username + "_" + UUID.randomUUID();
 
         // SseEmitter 인스턴스 생성
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
@@ -86,12 +128,30 @@ public class NotificationService {
             throw new SseEmitterSubscribeErrorException("서버 문제로 알림 구독을 실패했습니다. 관리자에게 문의하세요.");
         }
 
-        emitters.put(username, emitter);
+        // 알림 전송 완료, 타임 아웃, 연결 오류 시 emitter 삭제 처리
+        emitter.onCompletion(() -> sseEmitterRepository.deleteEmitter(username, emitterId));
+        emitter.onTimeout(() -> sseEmitterRepository.deleteEmitter(username, emitterId));
+        emitter.onError(e -> sseEmitterRepository.deleteEmitter(username, emitterId));
+
+        // 사용자당 최대 연결 수를 넘어 밀려난 가장 오래된 연결은 종료
+        List<SseEmitter> evictedEmitters = sseEmitterRepository.save(username, emitterId, emitter);
+        evictedEmitters.forEach(SseEmitter::complete);
         log.info("SSE Emitter for user {} added with ID: {}", username, emitterId);
 
-        // 알림 전송 완료, 타임 아웃 시 emitter 삭제 처리
-        emitter.onCompletion(() -> sseEmitterRepository.deleteEmitterById(emitterId));
-        emitter.onTimeout(() -> sseEmitterRepository.deleteEmitterById(emitterId));
+        // emitter 등록 이후에 재전송하므로 그 사이의 알림은 중복될 수 있으나 유실되지 않음 (클라이언트는 이벤트 Id로 중복 제거)
+        List<SseEventCacheProjection> missedEvents = sseEmitterRepository.findEventCachesAfter(username, lastEventId);
+        try {
+            for (SseEventCacheProjection missedEvent : missedEvents) {
+                emitter.send(SseEmitter.event()
+                        .id(missedEvent.eventId())
+                        .name(missedEvent.eventName())
+                        .data(missedEvent.message()));
+            }
+        } catch (IOException e) {
+            sendFailureCount.incrementAndGet();
+            sseEmitterRepository.deleteEmitter(username, emitterId);
+            log.error("알림 재전송 에러: {}. emitter 제거.", e.getMessage());
+        }
 
         return emitter;
     }
@@ -178,6 +238,7 @@ public class NotificationService {
 
     /**
      * 모집글 상태가 completed로 변경되면 모든 참가자에게 리뷰 요청 알림 보내기
+     * 참가자 수와 관계없이 참가자 조회 한 번, 저장 배치 한 번으로 처리
      *
      * @param gatherArticleId 해당 모집글 Id
      **/
@@ -187,11 +248,15 @@ public class NotificationService {
         String message = notificationMessageUtil.formatReviewRequestMessage(
                 getTitle(gatherArticleId));
 
-        // 모든 참가자들의 아이디 조회
-        List<MemberResponse.UsernameDTO> participants = memberGatherArticleRepository.findParticipantsByGatherArticleId(gatherArticleId);
+        // 모든 참가자들의 Id와 아이디를 한 번에 조회
+        List<NotificationRecipientProjection> participants = memberGatherArticleRepository.findParticipantsByGatherArticleId(gatherArticleId);
+
+        if (participants.isEmpty()) {
+            return;
+        }
 
-        // 모든 참가자에게 알림 전송
-        participants.forEach(userNameDTO -> saveNotification(userNameDTO.getUsername(), message, EventName.REVIEW_REQUEST));
+        // 모든 참가자에게 알림 전송 (커밋 이후 배치로 저장하고 병렬로 전송)
+        applicationEventPublisher.publishEvent(new BulkNotificationCreatedEvent(participants, message, EventName.REVIEW_REQUEST, LocalDateTime.now()));
     }
 
     /**
@@ -277,61 +342,113 @@ public class NotificationService {
      * @return 알림 응답 DTO
      **/
     public List<NotificationResponse.NotificationDTO> getNotifications(String username) {
-        Boolean isMemberExists = memberRepository.existsByUsername(username);
-
-        if (!isMemberExists) {
-            throw new MemberNotFoundException("해당 유저를 찾을 수 없습니다.");
-        }
-
-        //DB에서 해당 유저의 알림을 최신순으로 조회
-        return notificationRepository.findNotificationByMemberUsername(username);
+        //DB에서 유저 존재 여부 확인과 함께 해당 유저의 알림을 최신순으로 조회
+        return notificationRepository.findNotificationByMemberUsername(username)
+                .orElseThrow(() -> new MemberNotFoundException("해당 유저를 찾을 수 없습니다."));
     }
 
     /**
-     * 알림 생성 시 DB에 저장하는 메서드
+     * 알림 생성 이벤트를 발행하는 메서드
+     * 저장과 SSE 전송은 트랜잭션 커밋 이후 NotificationDispatchService 에서 배치로 처리
      *
      * @param username 알림을 받는 유저의 아이디
      * @param message 알림 메세지
      * @param eventName 알림 이벤트 이름
      **/
     public void saveNotification(String username, String message, EventName eventName) {
-        Member member = memberRepository.findByUsername(username)
-                .orElseThrow(() -> new MemberRetrievalException("유저를 찾을 수 없습니다. 관리자에게 문의하세요."));
-
-        Notification notification = Notification.buildNotification(message, LocalDateTime.now(), member);
-        notificationRepository.save(notification);
-
-        sendNotification(username, message, eventName);
+        applicationEventPublisher.publishEvent(new NotificationCreatedEvent(username, message, eventName, LocalDateTime.now()));
     }
 
     /**
-     * 유저가 SSE Emitter에 등록되어 있는지 확인하고 알림을 보내는 메서드
+     * 유저의 연결된 모든 탭에 알림을 보내는 메서드
+     * REDIS 모드에서는 유저별 Redis 채널로 발행하고, 각 인스턴스의 구독자가 자신에게 연결된 emitter 로 전달
+     * DB를 사용하지 않으므로 트랜잭션(커넥션) 없이 실행
      *
      * @param username 알림을 받는 유저의 아이디
      * @param message 알림 메세지
      * @param eventName 알림 이벤트 이름
+     * @throws SseEmitterSendErrorException Redis 채널 발행용 직렬화에 실패했을 때
      **/
-    private void sendNotification(String username, String message, EventName eventName) {
-        // 작성자가 SSE 이벤트 수신을 위해 등록되어 있는지 확인
-        if (emitters.containsKey(username)) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void sendNotification(String username, String message, EventName eventName) {
+        // 모든 인스턴스의 재전송 버퍼가 같은 이벤트 Id를 갖도록 발행하는 쪽에서 Id 발급
+        NotificationDeliveryMessage deliveryMessage = new NotificationDeliveryMessage(
+                nextEventId(), String.valueOf(eventName), message);
+
+        long startNanos = System.nanoTime();
+        try {
+            if (notificationDeliveryMode == NotificationDeliveryMode.LOCAL) {
+                sendToLocalEmitters(username, deliveryMessage);
+                return;
+            }
 
-            // 작성자의 SSE Emitter 객체를 가져옴
-            SseEmitter sseEmitterReceiver = emitters.get(username);
+            stringRedisTemplate.convertAndSend(buildNotificationChannel(username), objectMapper.writeValueAsString(deliveryMessage));
+        } catch (JsonProcessingException e) {
+            throw new SseEmitterSendErrorException("서버 문제로 알림을 전송할 수 없습니다. 관리자에게 문의하세요.");
+        } catch (DataAccessException e) {
+            // Redis 에 발행할 수 없으면 최소한 현재 인스턴스에 연결된 탭에는 전송
+            log.error("[Redis 중계] 알림 발행 실패, 현재 인스턴스에만 전송 | 받는 유저={} | 원인={}", username, e.getMessage());
+            sendToLocalEmitters(username, deliveryMessage);
+        } finally {
+            // 전송 모드별 알림 발행 지연 시간
+            Timer.builder("boardbuddy.notification.publish")
+                    .description("SSE 알림 발행 지연 시간")
+                    .tag("mode", notificationDeliveryMode.name())
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
 
+    /**
+     * 새 SSE 이벤트 Id를 발급
+     * REDIS 모드에서는 유저가 어느 인스턴스로 재연결해도 Last-Event-ID 이후의 알림을 빠짐없이 찾을 수 있도록 Redis 에서 발급
+     * Redis 에서 발급받지 못하면 현재 인스턴스에만 전송하게 되므로 현재 인스턴스의 순번으로 발급
+     *
+     * @return 발급된 이벤트 Id ({생성 epoch 밀리초}_{순번})
+     */
+    private String nextEventId() {
+        if (notificationDeliveryMode == NotificationDeliveryMode.LOCAL) {
+            return sseEmitterRepository.nextEventId();
+        }
+
+        String eventId;
+        try {
+            eventId = stringRedisTemplate.execute(NEXT_EVENT_ID_SCRIPT, List.of(NOTIFICATION_EVENT_ID_SEQUENCE_KEY));
+        } catch (DataAccessException e) {
+            log.error("[Redis 중계] 이벤트 Id 발급 실패, 현재 인스턴스에서 발급 | 원인={}", e.getMessage());
+            eventId = null;
+        }
+
+        return eventId != null ? eventId : sseEmitterRepository.nextEventId();
+    }
+
+    /**
+     * 현재 인스턴스에 연결된 유저의 모든 탭에 알림을 보내는 메서드
+     *
+     * @param username 알림을 받는 유저의 아이디
+     * @param deliveryMessage 전송할 알림
+     **/
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void sendToLocalEmitters(String username, NotificationDeliveryMessage deliveryMessage) {
+        // 연결이 끊긴 동안의 알림도 재연결 시 다시 보낼 수 있도록 먼저 재전송 버퍼에 저장
+        sseEmitterRepository.saveEventCache(username, deliveryMessage.eventId(), deliveryMessage.eventName(), deliveryMessage.message());
+
+        // 작성자가 SSE 이벤트 수신을 위해 등록한 모든 연결로 전송
+        sseEmitterRepository.findEmittersByUsername(username).forEach((emitterId, sseEmitterReceiver) -> {
             try {
                 // 알림 메세지를 SSE Emitter를 통해 전송
-                sseEmitterReceiver.send(SseEmitter.event().name(String.valueOf(eventName)).data(message));
-
-                // 이벤트 캐시에 알림 메세지를 저장
-                String eventCacheId = username + "_" + System.currentTimeMillis();
-                sseEmitterRepository.saveEventCache(eventCacheId, message);
+                sseEmitterReceiver.send(SseEmitter.event()
+                        .id(deliveryMessage.eventId())
+                        .name(deliveryMessage.eventName())
+                        .data(deliveryMessage.message()));
 
             } catch (IllegalStateException | SseEmitterSendErrorException | IOException e) {
-                // 전송 중 오류 발생 시, 작성자의 SSE Emitter를 제거
-                emitters.remove(username);
+                // 전송 중 오류 발생 시, 해당 연결의 SSE Emitter만 제거
+                sendFailureCount.incrementAndGet();
+                sseEmitterRepository.deleteEmitter(username, emitterId);
                 log.error("알림 전송 에러: {}. emitter 제거.", e.getMessage());
             }
-        }
+        });
     }
 
     /**
@@ -373,4 +490,8 @@ public class NotificationService {
                 .orElseThrow(() -> new MemberRetrievalException("서버 문제로 해당 유저를 찾을 수 없습니다. 관리자에게 문의하세요."));
         return userNameDTO.getUsername();
     }
+
+    public long getSendFailureCount() {
+        return sendFailureCount.get();
+    }
 }
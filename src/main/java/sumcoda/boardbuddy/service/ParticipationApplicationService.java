@@ -3,6 +3,8 @@ package sumcoda.boardbuddy.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import sumcoda.boardbuddy.cache.GatherArticleDetailCache;
+import sumcoda.boardbuddy.cache.GatherArticleListCache;
 import sumcoda.boardbuddy.dto.MemberResponse;
 import sumcoda.boardbuddy.dto.client.ParticipationApplicationInfoDTO;
 import sumcoda.boardbuddy.dto.fetch.ParticipationApplicationInfoProjection;
@@ -43,6 +45,10 @@ public class ParticipationApplicationService {
 
     private final ParticipationApplicationMapper participationApplicationMapper;
 
+    private final GatherArticleListCache gatherArticleListCache;
+
+    private final GatherArticleDetailCache gatherArticleDetailCache;
+
     /**
      * 모집글 참가 신청 처리
      *
@@ -177,6 +183,10 @@ public class ParticipationApplicationService {
         // 모집글 상태 확인, 업데이트
         gatherArticle.updateGatherArticleStatusBasedOnParticipants(newParticipantsCount);
 
+        // 커밋 이후 참가 인원, 상태가 바뀐 지역의 모집글 리스트 캐시와 상세 정보 캐시 무효화
+        gatherArticleListCache.evictRegion(gatherArticle.getSido(), gatherArticle.getSgg());
+        gatherArticleDetailCache.evict(gatherArticle.getId());
+
         MemberResponse.UsernameDTO userNameDTO = memberRepository.findUsernameDTOByNickname(applicantNickname).orElseThrow(() -> new MemberNotFoundException("참가 승인할 사용자의 정보를 찾을 수 없습니다."));
 
         return userNameDTO.getUsername();
@@ -191,14 +201,11 @@ public class ParticipationApplicationService {
      **/
     @Transactional
     public void rejectParticipationApplication(Long gatherArticleId, Long participationApplicationId, String username) {
-        boolean isGatherArticleExists = gatherArticleRepository.existsById(gatherArticleId);
-        if (!isGatherArticleExists) {
-            throw new GatherArticleRetrievalException("서버 문제로 해당 모집글을 찾을 수 없습니다. 관리자에게 문의하세요.");
-        }
-
-        Boolean isMemberAuthorOfGatherArticle = gatherArticleRepository.isMemberAuthorOfGatherArticle(gatherArticleId, username);
+        // 모집글 존재 여부와 작성자 여부를 한 번의 쿼리로 확인
+        String authorUsername = gatherArticleRepository.findAuthorUsernameById(gatherArticleId)
+                .orElseThrow(() -> new GatherArticleRetrievalException("서버 문제로 해당 모집글을 찾을 수 없습니다. 관리자에게 문의하세요."));
 
-        if (!isMemberAuthorOfGatherArticle) {
+        if (!authorUsername.equals(username)) {
             throw new GatherArticleAccessDeniedException("해당 모집글의 작성자가 아니므로 참가신청 거절 권한이 없습니다.");
         }
 
@@ -286,6 +293,10 @@ public class ParticipationApplicationService {
 
             // 모집글 상태 확인, 업데이트
             gatherArticle.updateGatherArticleStatusBasedOnParticipants(newParticipantsCount);
+
+            // 커밋 이후 참가 인원, 상태가 바뀐 지역의 모집글 리스트 캐시와 상세 정보 캐시 무효화
+            gatherArticleListCache.evictRegion(gatherArticle.getSido(), gatherArticle.getSgg());
+            gatherArticleDetailCache.evict(gatherArticle.getId());
         }
 
         return isMemberParticipant;
@@ -299,16 +310,11 @@ public class ParticipationApplicationService {
      * @return 모집글의 모든 참가 신청 목록
      **/
     public List<ParticipationApplicationInfoDTO> getParticipationAppliedMemberList(Long gatherArticleId, String username) {
-        // 모집글 조회
-        boolean isGatherArticleExists = gatherArticleRepository.existsById(gatherArticleId);
-        if (!isGatherArticleExists) {
-            throw new GatherArticleRetrievalException("서버문제로 해당 모집글을 찾을 수 없습니다. 관리자에게 문의하세요.");
-        }
+        // 모집글 존재 여부와 작성자 여부를 한 번의 쿼리로 확인
+        String authorUsername = gatherArticleRepository.findAuthorUsernameById(gatherArticleId)
+                .orElseThrow(() -> new GatherArticleRetrievalException("서버문제로 해당 모집글을 찾을 수 없습니다. 관리자에게 문의하세요."));
 
-        // 작성자인지 확인
-        Boolean isMemberAuthorOfGatherArticle = gatherArticleRepository.isMemberAuthorOfGatherArticle(gatherArticleId, username);
-
-        if (!isMemberAuthorOfGatherArticle) {
+        if (!authorUsername.equals(username)) {
             throw new GatherArticleAccessDeniedException("해당 모집글의 작성자가 아니므로 참가신청 목록을 조회할 수 없습니다.");
         }
 
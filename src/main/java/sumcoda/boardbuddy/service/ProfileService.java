@@ -6,6 +6,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import sumcoda.boardbuddy.cache.ChatRoomMembershipCache;
+import sumcoda.boardbuddy.cache.ChatRoomRecentMessageBuffer;
+import sumcoda.boardbuddy.cache.GatherArticleDetailCache;
+import sumcoda.boardbuddy.cache.GatherArticleListCache;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
@@ -29,6 +33,7 @@ import sumcoda.boardbuddy.mapper.BadgeImageMapper;
 import sumcoda.boardbuddy.mapper.MemberMapper;
 import sumcoda.boardbuddy.repository.profileImage.ProfileImageRepository;
 import sumcoda.boardbuddy.repository.badgeImage.BadgeImageRepository;
+import sumcoda.boardbuddy.repository.gatherArticle.GatherArticleRepository;
 import sumcoda.boardbuddy.repository.member.MemberRepository;
 
 import java.io.IOException;
@@ -49,10 +54,20 @@ public class ProfileService {
 
     private final ProfileImageRepository profileImageRepository;
 
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+
+    private final ChatRoomRecentMessageBuffer chatRoomRecentMessageBuffer;
+
     private final BadgeImageRepository badgeImageRepository;
 
     private final MemberRepository memberRepository;
 
+    private final GatherArticleRepository gatherArticleRepository;
+
+    private final GatherArticleListCache gatherArticleListCache;
+
+    private final GatherArticleDetailCache gatherArticleDetailCache;
+
     // 비밀번호를 암호화 하기 위한 필드
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
 
@@ -96,9 +111,22 @@ public class ProfileService {
         Member member = memberRepository.findByUsername(username)
                 .orElseThrow(() -> new MemberRetrievalException("유저를 찾을 수 없습니다. 관리자에게 문의하세요."));
 
+        // 닉네임, 프로필 이미지 변경이 채팅방 참여자 캐시와 최근 메세지 버퍼에 반영되도록 커밋 이후 무효화
+        chatRoomMembershipCache.evictByUsername(username);
+        chatRoomRecentMessageBuffer.evictByNickname(member.getNickname());
+
+        // 닉네임, 자기소개, 프로필 이미지 변경이 모집글 상세 정보 캐시에 반영되도록 커밋 이후 무효화
+        gatherArticleDetailCache.evictByAuthorNickname(member.getNickname());
+
         // 닉네임이 null이 아니면 업데이트
         if (updateProfileDTO.getNickname() != null) {
             member.assignNickname(updateProfileDTO.getNickname());
+
+            // 모집글에 비정규화된 작성자 닉네임 동기화
+            gatherArticleRepository.updateAuthorNicknameByAuthorId(member.getId(), updateProfileDTO.getNickname());
+
+            // 모집글 리스트 캐시에 담긴 작성자 닉네임 무효화
+            gatherArticleListCache.evictAll();
         }
 
         // 비밀번호가 null이 아니면 암호화 후 업데이트
@@ -5,11 +5,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import sumcoda.boardbuddy.cache.ChatRoomMembershipCache;
+import sumcoda.boardbuddy.cache.ChatRoomRecentMessageBuffer;
+import sumcoda.boardbuddy.cache.GatherArticleDetailCache;
+import sumcoda.boardbuddy.cache.GatherArticleListCache;
 import sumcoda.boardbuddy.dto.client.MemberRankingDTO;
 import sumcoda.boardbuddy.dto.fetch.MemberRankingProjection;
 import sumcoda.boardbuddy.entity.Member;
 import sumcoda.boardbuddy.enumerate.RankScorePoints;
 import sumcoda.boardbuddy.mapper.RankingMapper;
+import sumcoda.boardbuddy.repository.GatherArticleJdbcRepository;
 import sumcoda.boardbuddy.repository.MemberJdbcRepository;
 import sumcoda.boardbuddy.repository.member.MemberRepository;
 import sumcoda.boardbuddy.repository.comment.CommentRepository;
@@ -40,10 +45,20 @@ public class RankingService {
 
     private final MemberJdbcRepository memberJdbcRepository;
 
+    private final GatherArticleJdbcRepository gatherArticleJdbcRepository;
+
     private final BadgeImageService badgeImageService;
 
     private final RankingMapper rankingMapper;
 
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+
+    private final ChatRoomRecentMessageBuffer chatRoomRecentMessageBuffer;
+
+    private final GatherArticleListCache gatherArticleListCache;
+
+    private final GatherArticleDetailCache gatherArticleDetailCache;
+
 
     /**
      * 랭킹 TOP3 조회
@@ -103,6 +118,15 @@ public class RankingService {
         // 랭킹 업데이트
         memberJdbcRepository.updateMemberRanks(rankUpdateMap);
 
+        // 모집글에 비정규화된 작성자 랭킹 동기화
+        gatherArticleJdbcRepository.syncAuthorRanks();
+        gatherArticleListCache.evictAll();
+        gatherArticleDetailCache.evictAll();
+
+        // 채팅방 참여자 캐시와 최근 메세지 버퍼에 담긴 랭킹 정보 무효화
+        chatRoomMembershipCache.evictAll();
+        chatRoomRecentMessageBuffer.evictAll();
+
         // 후기 카운트, 보낸 리뷰 카운트 초기화
         memberJdbcRepository.resetMonthlyCounts();
 
@@ -0,0 +1,117 @@
+package sumcoda.boardbuddy.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sumcoda.boardbuddy.repository.sseEmitter.SseEmitterRepository;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 연결된 모든 SSE emitter 에 주기적으로 heartbeat 주석을 보내고, 전송에 실패한 연결을 한 번에 정리
+ * 클라이언트가 알림 없이 연결을 끊은 경우 onCompletion, onTimeout 이 늦게 호출되거나 호출되지 않으므로 직접 확인
+ * heartbeat 는 중간 프록시가 유휴 연결을 끊지 않도록 하는 역할도 함
+ * 느린 연결이 공용 스케줄러 스레드를 붙잡지 않도록 전송은 전용 가상 스레드에서 병렬로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SseEmitterHeartbeatService {
+
+    private final SseEmitterRepository sseEmitterRepository;
+
+    // heartbeat 전송 실행기 (SSE 전송은 소켓 I/O 대기가 대부분이므로 가상 스레드 사용)
+    private ExecutorService heartbeatExecutor;
+
+    // 이전 heartbeat 가 끝나지 않았으면 다음 주기를 건너뛰어 전송이 겹치지 않도록 방지
+    private final AtomicBoolean heartbeatRunning = new AtomicBoolean(false);
+
+    // heartbeat 로 정리한 연결 수
+    private final AtomicLong reapedCount = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        heartbeatExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-heartbeat-", 0).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    /**
+     * 공용 스케줄러 스레드에서는 heartbeat 작업을 전용 실행기에 넘기기만 하고 바로 반환
+     */
+    @Scheduled(fixedDelayString = "${spring.notification.sse.heartbeat-interval-millis:30000}")
+    public void scheduleHeartbeat() {
+        if (!heartbeatRunning.compareAndSet(false, true)) {
+            log.warn("[SSE heartbeat] 이전 heartbeat 가 아직 진행중이라 이번 주기를 건너뜁니다");
+            return;
+        }
+
+        heartbeatExecutor.execute(() -> {
+            try {
+                sendHeartbeat();
+            } catch (Exception e) {
+                log.error("[SSE heartbeat] heartbeat 전송 실패 | 원인={}", e.getMessage());
+            } finally {
+                heartbeatRunning.set(false);
+            }
+        });
+    }
+
+    /**
+     * 모든 연결에 heartbeat 를 병렬로 보내고 끊어진 연결을 정리
+     * 연결마다 하나의 가상 스레드에서 전송하므로 응답이 느린 연결이 다른 연결의 heartbeat 를 지연시키지 않음
+     */
+    public void sendHeartbeat() {
+        Queue<DeadEmitter> deadEmitters = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<Void>> sends = new ArrayList<>();
+
+        for (Map.Entry<String, Map<String, SseEmitter>> entry : sseEmitterRepository.findAllEmitters().entrySet()) {
+            String username = entry.getKey();
+            entry.getValue().forEach((emitterId, emitter) -> sends.add(CompletableFuture.runAsync(() -> {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    deadEmitters.add(new DeadEmitter(username, emitterId, emitter));
+                }
+            }, heartbeatExecutor)));
+        }
+
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+
+        if (deadEmitters.isEmpty()) {
+            return;
+        }
+
+        for (DeadEmitter deadEmitter : deadEmitters) {
+            sseEmitterRepository.deleteEmitter(deadEmitter.username(), deadEmitter.emitterId());
+            deadEmitter.emitter().complete();
+        }
+        reapedCount.addAndGet(deadEmitters.size());
+
+        log.info("[SSE heartbeat] 끊어진 연결 정리 | 정리된 연결 수={} | 남은 연결 수={}",
+                deadEmitters.size(), sseEmitterRepository.countEmitters());
+    }
+
+    public long getReapedCount() {
+        return reapedCount.get();
+    }
+
+    private record DeadEmitter(String username, String emitterId, SseEmitter emitter) {}
+}
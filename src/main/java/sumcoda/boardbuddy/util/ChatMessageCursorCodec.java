@@ -0,0 +1,152 @@
+package sumcoda.boardbuddy.util;
+
+import org.springframework.data.util.Pair;
+import sumcoda.boardbuddy.enumerate.ChatMessageCursorDirection;
+import sumcoda.boardbuddy.exception.InvalidChatMessageCursorException;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.zip.CRC32;
+
+/**
+ * 채팅 메세지 페이지네이션용 opaque 커서 인코더/디코더
+ * [버전 1B][방향 1B][전송 시각 epochMilli 8B][메세지 Id 8B][CRC32 4B] 22바이트를 패딩 없는 URL-safe Base64(30자)로 표현
+ */
+public class ChatMessageCursorCodec {
+
+    private static final byte VERSION = 1;
+
+    private static final int PAYLOAD_LENGTH = 18;
+
+    private static final int BINARY_LENGTH = PAYLOAD_LENGTH + 4;
+
+    // 22바이트를 패딩 없이 Base64로 인코딩한 길이
+    private static final int ENCODED_LENGTH = 30;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    // URL-safe Base64 문자 → 6비트 값, 허용되지 않는 문자는 -1
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE_TABLE[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private static final String INVALID_CURSOR_MESSAGE = "유효하지 않은 커서입니다. 채팅 메세지를 처음부터 다시 조회해주세요.";
+
+    private ChatMessageCursorCodec() {}
+
+    /**
+     * 메세지 전송 시각, Id, 조회 방향으로 커서를 생성
+     *
+     * @param sentAt 기준 메세지 전송 시각
+     * @param chatMessageId 기준 메세지 Id
+     * @param direction 커서로 이어서 조회할 방향
+     * @return URL-safe 커서 문자열
+     */
+    public static String encode(Instant sentAt, Long chatMessageId, ChatMessageCursorDirection direction) {
+        byte[] bytes = new byte[BINARY_LENGTH];
+        bytes[0] = VERSION;
+        bytes[1] = (byte) direction.ordinal();
+        writeLong(bytes, 2, sentAt.toEpochMilli());
+        writeLong(bytes, 10, chatMessageId);
+        writeInt(bytes, PAYLOAD_LENGTH, checksum(bytes));
+
+        return ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * 커서를 검증하고 기준 메세지 전송 시각과 Id를 추출
+     * 길이, 문자, 버전, 방향, 체크섬 중 하나라도 맞지 않으면 거부
+     *
+     * @param cursor 클라이언트가 전달한 커서 문자열
+     * @param expectedDirection 요청한 조회 방향
+     * @return 기준 메세지 전송 시각과 Id
+     * @throws InvalidChatMessageCursorException 커서가 없거나 형식이 올바르지 않을 때
+     */
+    public static Pair<Instant, Long> decode(String cursor, ChatMessageCursorDirection expectedDirection) {
+        if (cursor == null || cursor.length() != ENCODED_LENGTH) {
+            throw new InvalidChatMessageCursorException(INVALID_CURSOR_MESSAGE);
+        }
+
+        byte[] bytes = new byte[BINARY_LENGTH];
+        int byteIndex = 0;
+        int buffer = 0;
+        int bufferedBits = 0;
+        for (int i = 0; i < ENCODED_LENGTH; i++) {
+            char c = cursor.charAt(i);
+            int value = c < DECODE_TABLE.length ? DECODE_TABLE[c] : -1;
+            if (value < 0) {
+                throw new InvalidChatMessageCursorException(INVALID_CURSOR_MESSAGE);
+            }
+
+            buffer = (buffer << 6) | value;
+            bufferedBits += 6;
+            if (bufferedBits >= 8) {
+                bufferedBits -= 8;
+                bytes[byteIndex++] = (byte) (buffer >> bufferedBits);
+                buffer &= (1 << bufferedBits) - 1;
+            }
+        }
+
+        // 마지막 문자에 남은 비트는 0이어야 정규화된 인코딩
+        if (buffer != 0) {
+            throw new InvalidChatMessageCursorException(INVALID_CURSOR_MESSAGE);
+        }
+
+        if (readInt(bytes, PAYLOAD_LENGTH) != checksum(bytes)
+                || bytes[0] != VERSION
+                || bytes[1] != (byte) expectedDirection.ordinal()) {
+            throw new InvalidChatMessageCursorException(INVALID_CURSOR_MESSAGE);
+        }
+
+        long epochMilli = readLong(bytes, 2);
+        long chatMessageId = readLong(bytes, 10);
+        if (epochMilli < 0 || chatMessageId <= 0) {
+            throw new InvalidChatMessageCursorException(INVALID_CURSOR_MESSAGE);
+        }
+
+        return Pair.of(Instant.ofEpochMilli(epochMilli), chatMessageId);
+    }
+
+    private static int checksum(byte[] bytes) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(bytes, 0, PAYLOAD_LENGTH);
+        return (int) crc32.getValue();
+    }
+
+    private static void writeLong(byte[] bytes, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        for (int i = 3; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
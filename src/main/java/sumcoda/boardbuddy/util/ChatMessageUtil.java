@@ -4,6 +4,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.data.util.Pair;
 import sumcoda.boardbuddy.dto.fetch.ChatMessageItemInfoProjection;
+import sumcoda.boardbuddy.enumerate.ChatMessageCursorDirection;
 import sumcoda.boardbuddy.enumerate.MessageType;
 
 import java.time.Instant;
@@ -19,6 +20,21 @@ public class ChatMessageUtil {
 
     public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
 
+    // 채팅방 구독 경로 접두사
+    public static final String CHAT_ROOM_SUBSCRIPTION_PREFIX = "/ws/chat/messages/subscription/";
+
+    // 채팅방 메세지 중계용 Redis 채널 접두사
+    public static final String CHAT_ROOM_CHANNEL_PREFIX = "chat:room:";
+
+    // 모든 채팅방 메세지 중계 채널을 구독하기 위한 패턴
+    public static final String CHAT_ROOM_CHANNEL_PATTERN = CHAT_ROOM_CHANNEL_PREFIX + "*";
+
+    // write-behind 모드에서 모든 인스턴스가 공유하는 채팅 메세지 Id 시퀀스 키
+    public static final String CHAT_MESSAGE_ID_SEQUENCE_KEY = "chat:message:id-sequence";
+
+    // write-behind 모드에서 저장하지 못한 채팅 메세지를 보관하는 Redis 목록 키
+    public static final String CHAT_MESSAGE_DEAD_LETTER_KEY = "chat:message:dead-letter";
+
 
     /**
      * 페이지 크기에 따라 메시지 프로젝션 리스트에서 일부 항목을 반환
@@ -50,22 +66,17 @@ public class ChatMessageUtil {
     }
 
     /**
-     * opaque 커서 문자열을 분해해 sentAt과 id 추출
+     * opaque 커서를 검증하고 sentAt과 id 추출
      *
-     * @param cursor ISO_LOCAL_DATE_TIME 형식의 날짜와 '_' 구분자 결합된 메시지 ID
-     * @return 분해된 전송 시각(LocalDateTime)과 메시지 ID(Long) Pair
+     * @param cursor ChatMessageCursorCodec 으로 인코딩된 커서
+     * @param direction 요청한 조회 방향
+     * @return 전송 시각(Instant)과 메시지 ID(Long) Pair
+     * @throws sumcoda.boardbuddy.exception.InvalidChatMessageCursorException 커서가 없거나 형식이 올바르지 않을 때
      * @since 1.0
-     * @version 2.0
+     * @version 3.0
      */
-    public static Pair<Instant, Long> parseCursor(String cursor) {
-        String[] parts = cursor.split("_");
-
-        // long → Instant
-        Instant cursorSentAt = Instant.ofEpochMilli(Long.parseLong(parts[0]));
-
-        Long cursorId = Long.valueOf(parts[1]);
-
-        return Pair.of(cursorSentAt, cursorId);
+    public static Pair<Instant, Long> parseCursor(String cursor, ChatMessageCursorDirection direction) {
+        return ChatMessageCursorCodec.decode(cursor, direction);
     }
 
     /**
@@ -73,24 +84,24 @@ public class ChatMessageUtil {
      *
      * @param dataList  ASC(오래된→최신) 순으로 정렬된 메시지 프로젝션 리스트
      * @param hasMore   추가로 가져올 메시지가 있는지 여부
+     * @param direction 다음 페이지 조회 방향
      * @return 다음 조회 커서 문자열 또는 더 이상 없으면 null
      * @since 1.0
-     * @version 2.0
+     * @version 3.0
      */
     @Nullable
     public static String getNextCursor(
             List<ChatMessageItemInfoProjection> dataList,
-            Boolean hasMore
+            Boolean hasMore,
+            ChatMessageCursorDirection direction
     ) {
         if (hasMore) {
             // hasMore == true 이므로 list.size() >= pageSize+1
             // 여기서만 커서를 계산
             ChatMessageItemInfoProjection message
                     = dataList.get(CHAT_MESSAGE_PAGE_SIZE - 1);
-            Long epochMilli = message.sentAt().toEpochMilli();
-            Long id = message.id();
 
-            return epochMilli + "_" + id;
+            return ChatMessageCursorCodec.encode(message.sentAt(), message.id(), direction);
         }
 
         return null;
@@ -115,4 +126,32 @@ public class ChatMessageUtil {
 
         return content;
     }
+
+    /**
+     * 채팅방 메세지를 중계할 Redis 채널 이름을 생성
+     *
+     * @param chatRoomId 채팅방 Id
+     * @return "chat:room:{chatRoomId}" 형식의 채널 이름
+     */
+    public static String buildChatRoomChannel(Long chatRoomId) {
+        return CHAT_ROOM_CHANNEL_PREFIX + chatRoomId;
+    }
+
+    /**
+     * Redis 채널 이름에서 채팅방 Id를 추출
+     *
+     * @param channel "chat:room:{chatRoomId}" 형식의 채널 이름
+     * @return 채팅방 Id, 형식이 맞지 않으면 null
+     */
+    @Nullable
+    public static Long parseChatRoomIdFromChannel(String channel) {
+        if (channel == null || !channel.startsWith(CHAT_ROOM_CHANNEL_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(channel.substring(CHAT_ROOM_CHANNEL_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
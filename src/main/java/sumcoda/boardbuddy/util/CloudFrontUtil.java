@@ -43,6 +43,26 @@ public final class CloudFrontUtil {
         return Instant.now().plus(minutes, ChronoUnit.MINUTES);
     }
 
+    /**
+     * 기준 시각에 지정된 분(minutes)만큼 더한 만료 시간을 버킷 경계로 올림하여 반환
+     * 같은 버킷 안에서 생성된 Signed URL은 인스턴스가 달라도 동일한 만료 시각(동일한 URL)을 가짐
+     *
+     * @param now 기준 시각
+     * @param minutes URL 유효 기간(분 단위)
+     * @param bucketSeconds 만료 시각을 올림할 버킷 크기(초 단위)
+     * @return 버킷 경계로 올림된 만료 시각
+     */
+    public static Instant calculateBucketedExpiration(Instant now, int minutes, long bucketSeconds) {
+        long expirationEpochSecond = now.plus(minutes, ChronoUnit.MINUTES).getEpochSecond();
+
+        if (bucketSeconds <= 1) {
+            return Instant.ofEpochSecond(expirationEpochSecond);
+        }
+
+        long bucketedEpochSecond = ((expirationEpochSecond + bucketSeconds - 1) / bucketSeconds) * bucketSeconds;
+
+        return Instant.ofEpochSecond(bucketedEpochSecond);
+    }
 
     /**
      * 주어진 시크릿 이름(secretName)을 기반으로 Secrets Manager에서 시크릿 값을 가져오기 위한
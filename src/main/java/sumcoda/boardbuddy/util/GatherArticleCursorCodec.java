@@ -0,0 +1,114 @@
+package sumcoda.boardbuddy.util;
+
+import org.springframework.data.util.Pair;
+import sumcoda.boardbuddy.enumerate.GatherArticleStatus;
+import sumcoda.boardbuddy.exception.gatherArticle.GatherArticleCursorException;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.zip.CRC32;
+
+/**
+ * 모집글 리스트 keyset 페이지네이션용 opaque 커서 인코더/디코더
+ * [버전 1B][정렬 1B][시작 시각 epochSecond 8B][시작 시각 nano 4B][모집글 Id 8B][CRC32 4B] 26바이트를 패딩 없는 URL-safe Base64로 표현
+ * 정렬 기준을 함께 담아 다른 정렬로 발급된 커서는 거부
+ */
+public class GatherArticleCursorCodec {
+
+    // 2: 마감 임박순의 동률 정렬을 Id 오름차순으로 변경 (이전 버전 커서는 거부하여 처음부터 다시 조회)
+    private static final byte VERSION = 2;
+
+    // 최신순 (기본 정렬)
+    private static final byte SORT_LATEST = 0;
+
+    // 마감 임박순
+    private static final byte SORT_SOON = 1;
+
+    private static final int PAYLOAD_LENGTH = 22;
+
+    private static final int BINARY_LENGTH = PAYLOAD_LENGTH + 4;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private static final String INVALID_CURSOR_MESSAGE = "유효하지 않은 커서입니다. 모집글 리스트를 처음부터 다시 조회해주세요.";
+
+    private GatherArticleCursorCodec() {}
+
+    /**
+     * 페이지의 마지막 모집글로 다음 페이지 조회용 커서를 생성
+     *
+     * @param sort 정렬 기준 (null 이면 최신순)
+     * @param startDateTime 마지막 모집글의 시작 시각
+     * @param gatherArticleId 마지막 모집글 Id
+     * @return URL-safe 커서 문자열
+     */
+    public static String encode(String sort, LocalDateTime startDateTime, Long gatherArticleId) {
+        ByteBuffer buffer = ByteBuffer.allocate(BINARY_LENGTH);
+        buffer.put(VERSION)
+                .put(toSortCode(sort))
+                .putLong(startDateTime.toEpochSecond(ZoneOffset.UTC))
+                .putInt(startDateTime.getNano())
+                .putLong(gatherArticleId)
+                .putInt(checksum(buffer.array()));
+
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    /**
+     * 커서를 검증하고 기준 모집글의 시작 시각과 Id를 추출
+     * 길이, 문자, 버전, 정렬, 체크섬 중 하나라도 맞지 않으면 거부
+     *
+     * @param cursor 클라이언트가 전달한 커서 문자열
+     * @param sort 요청한 정렬 기준 (null 이면 최신순)
+     * @return 기준 모집글의 시작 시각과 Id
+     * @throws GatherArticleCursorException 커서 형식이 올바르지 않을 때
+     */
+    public static Pair<LocalDateTime, Long> decode(String cursor, String sort) {
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new GatherArticleCursorException(INVALID_CURSOR_MESSAGE);
+        }
+
+        if (bytes.length != BINARY_LENGTH) {
+            throw new GatherArticleCursorException(INVALID_CURSOR_MESSAGE);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        byte sortCode = buffer.get();
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        long gatherArticleId = buffer.getLong();
+        int storedChecksum = buffer.getInt();
+
+        if (storedChecksum != checksum(bytes)
+                || version != VERSION
+                || sortCode != toSortCode(sort)
+                || nano < 0 || nano > 999_999_999
+                || gatherArticleId <= 0) {
+            throw new GatherArticleCursorException(INVALID_CURSOR_MESSAGE);
+        }
+
+        try {
+            return Pair.of(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC), gatherArticleId);
+        } catch (RuntimeException e) {
+            throw new GatherArticleCursorException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+
+    private static byte toSortCode(String sort) {
+        return GatherArticleStatus.SOON.getValue().equals(sort) ? SORT_SOON : SORT_LATEST;
+    }
+
+    private static int checksum(byte[] bytes) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(bytes, 0, PAYLOAD_LENGTH);
+        return (int) crc32.getValue();
+    }
+}
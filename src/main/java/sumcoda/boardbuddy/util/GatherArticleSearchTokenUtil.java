@@ -0,0 +1,97 @@
+package sumcoda.boardbuddy.util;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 모집글 키워드 검색용 FULLTEXT 토큰 생성
+ * MariaDB InnoDB 는 ngram 파서를 지원하지 않으므로, 공백을 제거하고 소문자로 바꾼 본문의 연속된 두 글자(bigram)를
+ * 16진수 토큰으로 만들어 search_tokens 컬럼에 저장하고 기본 FULLTEXT 파서로 색인
+ * 16진수로 표현하면 토큰이 항상 영숫자 8자이므로 최소 토큰 길이, 구두점 분리, 불용어의 영향을 받지 않음
+ */
+public final class GatherArticleSearchTokenUtil {
+
+    // bigram 을 만들 수 있는 최소 키워드 길이
+    public static final int MINIMUM_TOKEN_KEYWORD_LENGTH = 2;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private GatherArticleSearchTokenUtil() {}
+
+    /**
+     * 모집글 제목과 설명으로 search_tokens 컬럼 값을 생성
+     * 제목과 설명의 경계를 넘는 bigram 은 만들지 않음
+     *
+     * @param title 모집글 제목
+     * @param description 모집글 설명
+     * @return 공백으로 구분된 중복 없는 bigram 토큰 문자열
+     */
+    public static String buildSearchTokens(String title, String description) {
+        Set<String> tokens = new LinkedHashSet<>();
+        addBigramTokens(normalize(title), tokens);
+        addBigramTokens(normalize(description), tokens);
+
+        return String.join(" ", tokens);
+    }
+
+    /**
+     * 검색 키워드로 MATCH ... AGAINST 의 boolean mode 검색식을 생성
+     * 키워드의 모든 bigram 을 필수(+) 조건으로 연결
+     *
+     * @param keyword 검색 키워드
+     * @return boolean mode 검색식, 공백 제거 후 길이가 2 미만이면 null
+     */
+    public static String buildBooleanModeQuery(String keyword) {
+        String normalizedKeyword = normalize(keyword);
+        if (normalizedKeyword.length() < MINIMUM_TOKEN_KEYWORD_LENGTH) {
+            return null;
+        }
+
+        Set<String> tokens = new LinkedHashSet<>();
+        addBigramTokens(normalizedKeyword, tokens);
+
+        StringBuilder query = new StringBuilder(tokens.size() * 10);
+        for (String token : tokens) {
+            if (!query.isEmpty()) {
+                query.append(' ');
+            }
+            query.append('+').append(token);
+        }
+
+        return query.toString();
+    }
+
+    /**
+     * 검색과 동일한 기준으로 문자열을 정규화 (모든 공백 제거, 소문자 변환)
+     *
+     * @param text 원본 문자열
+     * @return 정규화된 문자열, 입력이 null 이면 빈 문자열
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replaceAll("\\s", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static void addBigramTokens(String normalizedText, Set<String> tokens) {
+        for (int i = 0; i + 1 < normalizedText.length(); i++) {
+            tokens.add(toHexToken(normalizedText.charAt(i), normalizedText.charAt(i + 1)));
+        }
+    }
+
+    private static String toHexToken(char first, char second) {
+        char[] token = new char[8];
+        writeHex(token, 0, first);
+        writeHex(token, 4, second);
+        return new String(token);
+    }
+
+    private static void writeHex(char[] token, int offset, char c) {
+        token[offset] = HEX_DIGITS[(c >> 12) & 0xF];
+        token[offset + 1] = HEX_DIGITS[(c >> 8) & 0xF];
+        token[offset + 2] = HEX_DIGITS[(c >> 4) & 0xF];
+        token[offset + 3] = HEX_DIGITS[c & 0xF];
+    }
+}
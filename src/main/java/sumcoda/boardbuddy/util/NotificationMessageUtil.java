@@ -1,9 +1,20 @@
 package sumcoda.boardbuddy.util;
 
+import org.jetbrains.annotations.Nullable;
 import org.springframework.stereotype.Component;
 
 @Component
 public class NotificationMessageUtil {
+
+    // 유저별 알림 중계용 Redis 채널 접두사
+    public static final String NOTIFICATION_CHANNEL_PREFIX = "notification:user:";
+
+    // 모든 유저의 알림 중계 채널을 구독하기 위한 패턴
+    public static final String NOTIFICATION_CHANNEL_PATTERN = NOTIFICATION_CHANNEL_PREFIX + "*";
+
+    // 모든 인스턴스가 공유하는 SSE 이벤트 Id 순번 Redis 키
+    public static final String NOTIFICATION_EVENT_ID_SEQUENCE_KEY = "notification:event-id-sequence";
+
     public String formatApplyParticipationMessage(String appliedNickname, String gatherArticleTitle) {
         return String.format("%s 님이 '%s'에 참가 신청을 했습니다.", appliedNickname, formatTitle(gatherArticleTitle));
     }
@@ -39,4 +50,28 @@ public class NotificationMessageUtil {
     private String formatTitle(String title) {
         return title.length() > 9 ? title.substring(0, 9) + "..." : title;
     }
+
+    /**
+     * 유저의 알림을 중계할 Redis 채널 이름을 생성
+     *
+     * @param username 알림을 받는 유저 아이디
+     * @return "notification:user:{username}" 형식의 채널 이름
+     */
+    public static String buildNotificationChannel(String username) {
+        return NOTIFICATION_CHANNEL_PREFIX + username;
+    }
+
+    /**
+     * Redis 채널 이름에서 알림을 받는 유저 아이디를 추출
+     *
+     * @param channel "notification:user:{username}" 형식의 채널 이름
+     * @return 유저 아이디, 형식이 맞지 않으면 null
+     */
+    @Nullable
+    public static String parseUsernameFromChannel(String channel) {
+        if (channel == null || !channel.startsWith(NOTIFICATION_CHANNEL_PREFIX) || channel.length() == NOTIFICATION_CHANNEL_PREFIX.length()) {
+            return null;
+        }
+        return channel.substring(NOTIFICATION_CHANNEL_PREFIX.length());
+    }
 }
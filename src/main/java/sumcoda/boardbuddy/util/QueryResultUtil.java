@@ -0,0 +1,31 @@
+package sumcoda.boardbuddy.util;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+public final class QueryResultUtil {
+
+    private QueryResultUtil() {
+        /* 유틸 클래스라 인스턴스화 금지 */
+    }
+
+    /**
+     * 부모 엔티티에서 자식 엔티티를 left join 한 조회 결과를 부모 존재 여부와 자식 목록으로 변환
+     * 조회된 행이 없으면 부모가 존재하지 않는 것이고, 자식 컬럼이 null 인 행(sentinel)은 자식이 없는 부모를 의미
+     * 존재 여부 확인 쿼리와 목록 조회 쿼리를 한 번의 쿼리로 합칠 때 사용
+     *
+     * @param rows 부모 기준 left join 조회 결과
+     * @param isSentinel 자식이 없는 부모의 행인지 판별하는 조건
+     * @return 자식 목록, 부모가 존재하지 않으면 Optional.empty()
+     */
+    public static <T> Optional<List<T>> toChildListIfParentExists(List<T> rows, Predicate<T> isSentinel) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(rows.stream()
+                .filter(isSentinel.negate())
+                .toList());
+    }
+}
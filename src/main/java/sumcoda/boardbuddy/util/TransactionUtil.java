@@ -0,0 +1,31 @@
+package sumcoda.boardbuddy.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtil {
+
+    private TransactionUtil() {
+        /* 유틸 클래스라 인스턴스화 금지 */
+    }
+
+    /**
+     * 트랜잭션이 진행중이면 커밋 이후에, 아니면 즉시 작업을 실행
+     * 롤백된 트랜잭션의 변경 사항이 캐시에 반영되지 않도록 할 때 사용
+     *
+     * @param task 실행할 작업
+     */
+    public static void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
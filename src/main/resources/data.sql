@@ -5084,4 +5084,51 @@ INSERT INTO `public_district` VALUES
 
 UNLOCK TABLES;
 
-SET FOREIGN_KEY_CHECKS = 1;
\ No newline at end of file
+SET FOREIGN_KEY_CHECKS = 1;
+
+-- 모집글 키워드 검색용 FULLTEXT 색인 (search_tokens: 제목, 설명의 bigram 토큰)
+ALTER TABLE gather_article ADD COLUMN IF NOT EXISTS search_tokens TEXT NULL;
+
+ALTER TABLE gather_article ADD FULLTEXT INDEX IF NOT EXISTS ft_gather_article_search_tokens (search_tokens);
+
+-- 모집글 목록 조회용 복합 인덱스 (지역, 상태 필터 + 정렬 순서)
+CREATE INDEX IF NOT EXISTS idx_gather_article_sido_sgg_status_id ON gather_article (sido, sgg, gather_article_status, id);
+
+CREATE INDEX IF NOT EXISTS idx_gather_article_sido_sgg_status_start_date_time_id ON gather_article (sido, sgg, gather_article_status, start_date_time, id);
+
+CREATE INDEX IF NOT EXISTS idx_gather_article_sido_sgg_id ON gather_article (sido, sgg, id);
+
+CREATE INDEX IF NOT EXISTS idx_gather_article_sido_sgg_start_date_time_id ON gather_article (sido, sgg, start_date_time, id);
+
+-- 모집글 작성자 조인용 커버링 인덱스
+CREATE INDEX IF NOT EXISTS idx_member_gather_article_gather_article_id_role_member_id ON member_gather_article (gather_article_id, member_gather_article_role, member_id);
+
+-- 모집글 작성자 비정규화 컬럼 (목록 조회 시 member_gather_article, member 조인 제거)
+ALTER TABLE gather_article ADD COLUMN IF NOT EXISTS author_id BIGINT NULL;
+
+ALTER TABLE gather_article ADD COLUMN IF NOT EXISTS author_nickname VARCHAR(255) NULL;
+
+ALTER TABLE gather_article ADD COLUMN IF NOT EXISTS author_rank INT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_gather_article_author_id ON gather_article (author_id);
+
+-- 컬럼이 추가되기 전에 작성된 모집글의 작성자 정보 채우기
+UPDATE gather_article ga
+    JOIN member_gather_article mga ON mga.gather_article_id = ga.id AND mga.member_gather_article_role = 'AUTHOR'
+    JOIN member m ON m.id = mga.member_id
+SET ga.author_id = m.id, ga.author_nickname = m.nickname, ga.author_rank = m.rank
+WHERE ga.author_id IS NULL;
+
+-- 채팅방 목록 조회용 마지막 메세지 비정규화 컬럼 (목록 조회 시 chat_message 최신 메세지 서브쿼리 제거)
+ALTER TABLE chat_room ADD COLUMN IF NOT EXISTS last_chat_message_id BIGINT NULL;
+
+ALTER TABLE chat_room ADD COLUMN IF NOT EXISTS last_chat_message_content VARCHAR(255) NULL;
+
+ALTER TABLE chat_room ADD COLUMN IF NOT EXISTS last_chat_message_sent_at DATETIME(6) NULL;
+
+-- 컬럼이 추가되기 전에 저장된 메세지로 채팅방의 마지막 메세지 채우기
+UPDATE chat_room cr
+    JOIN (SELECT chat_room_id, MAX(id) AS last_id FROM chat_message GROUP BY chat_room_id) lm ON lm.chat_room_id = cr.id
+    JOIN chat_message cm ON cm.id = lm.last_id
+SET cr.last_chat_message_id = cm.id, cr.last_chat_message_content = cm.content, cr.last_chat_message_sent_at = cm.created_at
+WHERE cr.last_chat_message_id IS NULL;
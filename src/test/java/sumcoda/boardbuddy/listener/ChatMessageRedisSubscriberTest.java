@@ -0,0 +1,123 @@
+package sumcoda.boardbuddy.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import sumcoda.boardbuddy.config.ChatMessageBrokerConfig;
+import sumcoda.boardbuddy.dto.client.ChatMessageItemInfoDTO;
+import sumcoda.boardbuddy.enumerate.ChatBrokerMode;
+import sumcoda.boardbuddy.enumerate.MessageType;
+import sumcoda.boardbuddy.service.ChatMessageBroadcastService;
+import sumcoda.boardbuddy.support.RedisContainerSupport;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static sumcoda.boardbuddy.util.ChatMessageUtil.CHAT_ROOM_SUBSCRIPTION_PREFIX;
+
+/**
+ * redis 브로커 모드에서 한 인스턴스가 발행한 채팅 메세지가 다른 인스턴스의 채팅방 구독자에게 전달되는지 검증
+ * 인스턴스마다 연결, 리스너 컨테이너, 구독자를 따로 만들어 두 대의 서버를 흉내냄
+ */
+class ChatMessageRedisSubscriberTest extends RedisContainerSupport {
+
+    private static final long DELIVERY_TIMEOUT_MILLIS = 5_000;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private ChatInstance publisher;
+
+    private ChatInstance receiver;
+
+    @BeforeEach
+    void startInstances() {
+        publisher = new ChatInstance(objectMapper);
+        receiver = new ChatInstance(objectMapper);
+    }
+
+    @AfterEach
+    void stopInstances() {
+        publisher.stop();
+        receiver.stop();
+    }
+
+    @Test
+    @DisplayName("한 인스턴스가 발행한 메세지는 다른 인스턴스의 같은 채팅방 구독자에게 전달된다")
+    void deliversToOtherInstance() {
+        ChatMessageItemInfoDTO payload = ChatMessageItemInfoDTO.builder()
+                .id(1L)
+                .content("안녕하세요")
+                .nickname("보드버디")
+                .rank(1)
+                .messageType(MessageType.TALK)
+                .sentAt(LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_000_000))
+                .cursor("cursor")
+                .build();
+
+        publisher.broadcastService.broadcast(10L, payload);
+
+        verify(receiver.messagingTemplate, timeout(DELIVERY_TIMEOUT_MILLIS))
+                .convertAndSend(CHAT_ROOM_SUBSCRIPTION_PREFIX + 10L, payload);
+        // 발행한 인스턴스도 Redis 를 거쳐 자신의 구독자에게 한 번만 전달
+        verify(publisher.messagingTemplate, timeout(DELIVERY_TIMEOUT_MILLIS))
+                .convertAndSend(CHAT_ROOM_SUBSCRIPTION_PREFIX + 10L, payload);
+        verify(publisher.messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("채팅방 채널이 아닌 메세지와 역직렬화할 수 없는 메세지는 전달하지 않는다")
+    void ignoresForeignChannelAndMalformedPayload() {
+        publisher.redisTemplate.convertAndSend("chat:room:not-a-number", "{}");
+        publisher.redisTemplate.convertAndSend("chat:room:10", "not-json");
+
+        // 정상 메세지가 전달된 뒤에도 앞의 두 메세지는 전달되지 않아야 함
+        ChatMessageItemInfoDTO payload = ChatMessageItemInfoDTO.builder().id(2L).content("확인").messageType(MessageType.TALK).build();
+        publisher.broadcastService.broadcast(10L, payload);
+
+        verify(receiver.messagingTemplate, timeout(DELIVERY_TIMEOUT_MILLIS))
+                .convertAndSend(CHAT_ROOM_SUBSCRIPTION_PREFIX + 10L, payload);
+        verify(receiver.messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    /**
+     * 하나의 서버 인스턴스에 해당하는 Redis 연결, 발행 서비스, 구독 리스너 묶음
+     */
+    private static class ChatInstance {
+
+        private final LettuceConnectionFactory connectionFactory = newConnectionFactory();
+
+        private final StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+
+        private final ChatMessageBroadcastService broadcastService;
+
+        private final RedisMessageListenerContainer listenerContainer;
+
+        private ChatInstance(ObjectMapper objectMapper) {
+            broadcastService = new ChatMessageBroadcastService(messagingTemplate, redisTemplate, objectMapper, new SimpleMeterRegistry());
+            ReflectionTestUtils.setField(broadcastService, "chatBrokerMode", ChatBrokerMode.REDIS);
+
+            listenerContainer = new ChatMessageBrokerConfig().chatMessageListenerContainer(
+                    connectionFactory, new ChatMessageRedisSubscriber(broadcastService, objectMapper));
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+        }
+
+        private void stop() {
+            listenerContainer.stop();
+            connectionFactory.destroy();
+        }
+    }
+}
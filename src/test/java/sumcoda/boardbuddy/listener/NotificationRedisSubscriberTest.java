@@ -0,0 +1,169 @@
+package sumcoda.boardbuddy.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import sumcoda.boardbuddy.config.NotificationDeliveryConfig;
+import sumcoda.boardbuddy.dto.fetch.SseEventCacheProjection;
+import sumcoda.boardbuddy.enumerate.EventName;
+import sumcoda.boardbuddy.enumerate.NotificationDeliveryMode;
+import sumcoda.boardbuddy.repository.comment.CommentRepository;
+import sumcoda.boardbuddy.repository.gatherArticle.GatherArticleRepository;
+import sumcoda.boardbuddy.repository.member.MemberRepository;
+import sumcoda.boardbuddy.repository.memberGatherArticle.MemberGatherArticleRepository;
+import sumcoda.boardbuddy.repository.notification.NotificationRepository;
+import sumcoda.boardbuddy.repository.sseEmitter.SseEmitterRepositoryImpl;
+import sumcoda.boardbuddy.service.NotificationService;
+import sumcoda.boardbuddy.support.RedisContainerSupport;
+import sumcoda.boardbuddy.util.NotificationMessageUtil;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * redis 전송 모드에서 한 인스턴스가 보낸 알림이 유저가 연결된 다른 인스턴스로 전달되고
+ * 모든 인스턴스의 재전송 버퍼가 공유 순번으로 발급된 같은 이벤트 Id를 갖는지 검증
+ */
+class NotificationRedisSubscriberTest extends RedisContainerSupport {
+
+    private static final long DELIVERY_TIMEOUT_MILLIS = 5_000;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private NotificationInstance first;
+
+    private NotificationInstance second;
+
+    @BeforeEach
+    void startInstances() {
+        first = new NotificationInstance(objectMapper);
+        second = new NotificationInstance(objectMapper);
+    }
+
+    @AfterEach
+    void stopInstances() {
+        first.stop();
+        second.stop();
+    }
+
+    @Test
+    @DisplayName("한 인스턴스에서 보낸 알림은 유저가 연결된 다른 인스턴스의 emitter 로 전달된다")
+    void deliversToEmitterOnOtherInstance() throws IOException {
+        SseEmitter emitter = mock(SseEmitter.class);
+        second.sseEmitterRepository.save("relay-user", "relay-user_tab", emitter);
+
+        first.notificationService.sendNotification("relay-user", "새 댓글이 달렸습니다", EventName.WRITE_COMMENT);
+
+        verify(emitter, timeout(DELIVERY_TIMEOUT_MILLIS)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("모든 인스턴스의 재전송 버퍼가 같은 이벤트 Id를 저장한다")
+    void buffersSameEventIdOnEveryInstance() {
+        first.notificationService.sendNotification("replay-user", "참가 신청이 승인되었습니다", EventName.APPROVE_PARTICIPATION);
+
+        List<SseEventCacheProjection> firstBuffered = awaitBuffered(first, "replay-user", 1);
+        List<SseEventCacheProjection> secondBuffered = awaitBuffered(second, "replay-user", 1);
+
+        assertThat(firstBuffered.get(0).eventId()).isEqualTo(secondBuffered.get(0).eventId());
+    }
+
+    @Test
+    @DisplayName("서로 다른 인스턴스가 발급한 이벤트 Id는 겹치지 않고 발급 순서대로 재전송된다")
+    void ordersEventIdsAcrossInstances() {
+        first.notificationService.sendNotification("order-user", "첫 번째 알림", EventName.WRITE_COMMENT);
+        String firstEventId = awaitBuffered(second, "order-user", 1).get(0).eventId();
+
+        second.notificationService.sendNotification("order-user", "두 번째 알림", EventName.WRITE_COMMENT);
+        List<SseEventCacheProjection> buffered = awaitBuffered(first, "order-user", 2);
+        awaitBuffered(second, "order-user", 2);
+
+        // 첫 번째 알림을 받은 유저가 어느 인스턴스로 재연결해도 두 번째 알림만 다시 받음
+        assertThat(buffered).extracting(SseEventCacheProjection::eventId).doesNotHaveDuplicates();
+        assertThat(first.sseEmitterRepository.findEventCachesAfter("order-user", firstEventId))
+                .extracting(SseEventCacheProjection::message)
+                .containsExactly("두 번째 알림");
+        assertThat(second.sseEmitterRepository.findEventCachesAfter("order-user", firstEventId))
+                .extracting(SseEventCacheProjection::message)
+                .containsExactly("두 번째 알림");
+    }
+
+    /**
+     * 인스턴스의 재전송 버퍼에 알림이 count 개 쌓일 때까지 기다림 (Redis 중계는 비동기)
+     */
+    private static List<SseEventCacheProjection> awaitBuffered(NotificationInstance instance, String username, int count) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DELIVERY_TIMEOUT_MILLIS);
+        List<SseEventCacheProjection> events;
+        do {
+            events = instance.sseEmitterRepository.findEventCachesAfter(username, "0_0");
+            if (events.size() >= count) {
+                break;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+        } while (System.nanoTime() < deadline);
+
+        assertThat(events).hasSize(count);
+        return events;
+    }
+
+    /**
+     * 하나의 서버 인스턴스에 해당하는 Redis 연결, 알림 서비스, emitter 저장소, 구독 리스너 묶음
+     */
+    private static class NotificationInstance {
+
+        private final LettuceConnectionFactory connectionFactory = newConnectionFactory();
+
+        private final SseEmitterRepositoryImpl sseEmitterRepository = new SseEmitterRepositoryImpl();
+
+        private final NotificationService notificationService;
+
+        private final RedisMessageListenerContainer listenerContainer;
+
+        private NotificationInstance(ObjectMapper objectMapper) {
+            ReflectionTestUtils.setField(sseEmitterRepository, "capacity", 50);
+            ReflectionTestUtils.setField(sseEmitterRepository, "ttlSeconds", 600L);
+            ReflectionTestUtils.setField(sseEmitterRepository, "maxUsers", 100);
+            ReflectionTestUtils.setField(sseEmitterRepository, "maxConnectionsPerUser", 5);
+
+            notificationService = new NotificationService(
+                    mock(MemberRepository.class),
+                    sseEmitterRepository,
+                    mock(GatherArticleRepository.class),
+                    mock(MemberGatherArticleRepository.class),
+                    mock(NotificationRepository.class),
+                    mock(CommentRepository.class),
+                    mock(NotificationMessageUtil.class),
+                    mock(ApplicationEventPublisher.class),
+                    new StringRedisTemplate(connectionFactory),
+                    objectMapper,
+                    new SimpleMeterRegistry());
+            ReflectionTestUtils.setField(notificationService, "notificationDeliveryMode", NotificationDeliveryMode.REDIS);
+
+            listenerContainer = new NotificationDeliveryConfig().notificationListenerContainer(
+                    connectionFactory, new NotificationRedisSubscriber(notificationService, objectMapper));
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+        }
+
+        private void stop() {
+            listenerContainer.stop();
+            connectionFactory.destroy();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package sumcoda.boardbuddy.metrics;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트에서 작업 하나가 실행한 SQL statement 수를 SqlStatistics 로 측정
+ * SqlStatisticsDataSource 는 통계 수집 중에 얻은 Connection 만 감싸므로
+ * 트랜잭션 밖에서 호출하여 작업 안에서 Connection 을 얻도록 해야 함 (테스트 클래스는 트랜잭션 없이 실행)
+ */
+public final class SqlStatementCounter {
+
+    private SqlStatementCounter() {}
+
+    /**
+     * 작업을 실행하는 동안 현재 스레드에서 실행된 SQL statement 수를 측정
+     *
+     * @param action 측정할 작업
+     * @return 실행된 statement 수 (batch 실행은 1회)
+     */
+    public static int countStatements(Runnable action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("이미 열린 트랜잭션의 Connection 은 측정되지 않으므로 트랜잭션 밖에서 호출해야 합니다.");
+        }
+
+        SqlStatistics.begin();
+        SqlStatistics statistics;
+        try {
+            action.run();
+        } finally {
+            statistics = SqlStatistics.end();
+        }
+
+        return statistics.getStatementCount();
+    }
+
+    /**
+     * 작업이 실행한 statement 수가 예산 이내인지 검증하고 작업 결과를 반환
+     * 측정이 동작하지 않아 0으로 통과하는 일이 없도록 최소 한 번은 실행되어야 함
+     *
+     * @param budget 허용하는 최대 statement 수
+     * @param action 측정할 작업
+     * @return 작업 결과
+     */
+    public static <T> T assertStatementBudget(int budget, Supplier<T> action) {
+        Object[] result = new Object[1];
+        int statementCount = countStatements(() -> result[0] = action.get());
+
+        assertThat(statementCount)
+                .as("SQL statement 수 (예산 %d)", budget)
+                .isBetween(1, budget);
+
+        @SuppressWarnings("unchecked")
+        T typedResult = (T) result[0];
+        return typedResult;
+    }
+}
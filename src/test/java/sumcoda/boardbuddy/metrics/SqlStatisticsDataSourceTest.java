@@ -0,0 +1,139 @@
+package sumcoda.boardbuddy.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.sql.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * SqlStatisticsDataSource 가 통계 수집 중인 스레드의 statement 실행 수, 조회 행 수를 기록하고
+ * SqlStatisticsRecorder 가 이를 handler 태그 지표로 남기는지 검증 (JDBC 객체는 mock 으로 대체)
+ */
+class SqlStatisticsDataSourceTest {
+
+    private final DataSource targetDataSource = mock(DataSource.class);
+
+    private final Connection connection = mock(Connection.class);
+
+    private final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+    private final ResultSet resultSet = mock(ResultSet.class);
+
+    private final SqlStatisticsDataSource dataSource = new SqlStatisticsDataSource(targetDataSource);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+    }
+
+    @AfterEach
+    void clearStatistics() {
+        SqlStatistics.end();
+    }
+
+    @Test
+    @DisplayName("통계 수집 중이 아닌 스레드에는 Connection 을 감싸지 않고 그대로 반환한다")
+    void returnsTargetConnectionWhenInactive() throws SQLException {
+        assertThat(dataSource.getConnection()).isSameAs(connection);
+    }
+
+    @Test
+    @DisplayName("통계 수집 중에는 statement 실행 수와 ResultSet 으로 읽은 행 수를 기록한다")
+    void recordsStatementsAndRows() throws SQLException {
+        SqlStatistics.begin();
+
+        try (Connection wrapped = dataSource.getConnection();
+             PreparedStatement statement = wrapped.prepareStatement("SELECT 1");
+             ResultSet rows = statement.executeQuery()) {
+            while (rows.next()) {
+                // 모든 행을 읽음
+            }
+            statement.executeBatch();
+        }
+
+        SqlStatistics statistics = SqlStatistics.end();
+        assertThat(statistics.getStatementCount()).isEqualTo(2);
+        assertThat(statistics.getRowCount()).isEqualTo(2);
+        verify(preparedStatement).executeBatch();
+    }
+
+    @Test
+    @DisplayName("실행에 실패한 statement 도 기록하고 원래 SQLException 을 그대로 던진다")
+    void recordsFailedStatementAndRethrowsCause() throws SQLException {
+        SQLException failure = new SQLException("실패");
+        when(preparedStatement.executeUpdate()).thenThrow(failure);
+        SqlStatistics.begin();
+
+        Connection wrapped = dataSource.getConnection();
+        PreparedStatement statement = wrapped.prepareStatement("UPDATE member SET rank = 1");
+
+        assertThatThrownBy(statement::executeUpdate).isSameAs(failure);
+        assertThat(SqlStatistics.end().getStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("감싼 객체의 equals, hashCode 는 감싼 객체 자신을 기준으로 동작한다")
+    void proxyIdentity() throws SQLException {
+        SqlStatistics.begin();
+
+        Connection wrapped = dataSource.getConnection();
+
+        assertThat(wrapped).isEqualTo(wrapped).isNotEqualTo(connection);
+        assertThat(wrapped.hashCode()).isEqualTo(System.identityHashCode(wrapped));
+    }
+
+    @Test
+    @DisplayName("수집한 통계를 handler 태그 지표로 기록하고 수집 상태를 정리한다")
+    void recorderPublishesMetrics() throws SQLException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SqlStatisticsRecorder recorder = newRecorder(meterRegistry, true);
+
+        recorder.begin();
+        try (Connection wrapped = dataSource.getConnection();
+             ResultSet rows = wrapped.prepareStatement("SELECT 1").executeQuery()) {
+            while (rows.next()) {
+                // 모든 행을 읽음
+            }
+        }
+        recorder.end("GET /api/test");
+
+        assertThat(meterRegistry.get("boardbuddy.sql.statements").tag("handler", "GET /api/test").summary().totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get("boardbuddy.sql.rows").tag("handler", "GET /api/test").summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get("boardbuddy.sql.jdbc.time").tag("handler", "GET /api/test").timer().count()).isEqualTo(1);
+        assertThat(SqlStatistics.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 수집하지 않고 지표도 기록하지 않는다")
+    void disabledRecorderSkipsCollection() throws SQLException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SqlStatisticsRecorder recorder = newRecorder(meterRegistry, false);
+
+        recorder.begin();
+        assertThat(dataSource.getConnection()).isSameAs(connection);
+        recorder.end("GET /api/test");
+
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    private static SqlStatisticsRecorder newRecorder(SimpleMeterRegistry meterRegistry, boolean enabled) {
+        SqlStatisticsRecorder recorder = new SqlStatisticsRecorder(meterRegistry);
+        ReflectionTestUtils.setField(recorder, "enabled", enabled);
+        ReflectionTestUtils.setField(recorder, "statementBudget", 20);
+        ReflectionTestUtils.setField(recorder, "jdbcTimeBudgetMillis", 200L);
+        return recorder;
+    }
+}
@@ -0,0 +1,134 @@
+package sumcoda.boardbuddy.repository.gatherArticle;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import sumcoda.boardbuddy.config.QueryDslConfig;
+import sumcoda.boardbuddy.entity.Member;
+import sumcoda.boardbuddy.enumerate.GatherArticleStatus;
+import sumcoda.boardbuddy.support.ExecutedSqlRecorder;
+import sumcoda.boardbuddy.support.ExecutedSqlRecorder.ExecutedSql;
+import sumcoda.boardbuddy.support.MariaDbContainerSupport;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sumcoda.boardbuddy.support.TestEntityFactory.gatherArticle;
+import static sumcoda.boardbuddy.support.TestEntityFactory.member;
+
+/**
+ * 마감 임박순 모집글 목록 쿼리의 실행 계획 검증
+ * 정렬 방향이 (sido, sgg, start_date_time, id) 색인과 어긋나면 filesort 가 생기므로 첫 페이지와 커서 페이지 모두 확인
+ * 목록 조회 메서드가 실제로 실행한 SQL 과 바인딩된 파라미터를 기록하여 그대로 EXPLAIN 하므로 쿼리가 바뀌어도 검증이 따라감
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, ExecutedSqlRecorder.Config.class})
+// ANALYZE TABLE 이 테스트 트랜잭션에 묶이지 않고, 목록 조회가 기록 중에 Connection 을 얻도록 트랜잭션 없이 실행
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GatherArticleSoonSortIndexTest extends MariaDbContainerSupport {
+
+    private static final String SOON_SORT_INDEX = "idx_gather_article_sido_sgg_start_date_time_id";
+
+    private static final String[][] REGIONS = {
+            {"서울특별시", "종로구"},
+            {"서울특별시", "중구"},
+            {"부산광역시", "해운대구"},
+            {"대구광역시", "수성구"}
+    };
+
+    private static final int ARTICLES_PER_REGION = 100;
+
+    private static final String SOON = GatherArticleStatus.SOON.getValue();
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+
+    private static boolean seeded;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GatherArticleRepository gatherArticleRepository;
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Member author = member();
+            entityManager.persist(author);
+
+            LocalDateTime base = LocalDateTime.now().plusDays(1);
+            for (String[] region : REGIONS) {
+                for (int i = 0; i < ARTICLES_PER_REGION; i++) {
+                    entityManager.persist(gatherArticle(author, region[0], region[1], base.plusMinutes((i * 37L) % ARTICLES_PER_REGION)));
+                }
+            }
+        });
+
+        // 옵티마이저가 실제 데이터 분포로 색인을 선택하도록 통계 갱신
+        jdbcTemplate.execute("ANALYZE TABLE gather_article");
+        seeded = true;
+    }
+
+    @Test
+    @DisplayName("마감 임박순 첫 페이지는 지역 + 시작 시각 색인 순서대로 읽고 filesort 하지 않는다")
+    void firstPageUsesSoonSortIndex() {
+        ExecutedSql query = ExecutedSqlRecorder.recordLast(() -> gatherArticleRepository.findReadSliceDTOByLocationV2AndStatusAndSortAndKeyword(
+                "서울특별시", "종로구", null, SOON, null, null, null, null, FIRST_PAGE));
+
+        Map<String, Object> plan = explain(query);
+
+        assertThat(plan.get("key")).isEqualTo(SOON_SORT_INDEX);
+        assertThat(String.valueOf(plan.get("Extra"))).doesNotContainIgnoringCase("filesort");
+    }
+
+    @Test
+    @DisplayName("마감 임박순 커서 페이지도 같은 색인에서 커서 위치부터 읽고 filesort 하지 않는다")
+    void cursorPageUsesSoonSortIndex() {
+        LocalDateTime cursorStartDateTime = LocalDateTime.now().plusDays(1).plusMinutes(30);
+
+        ExecutedSql query = ExecutedSqlRecorder.recordLast(() -> gatherArticleRepository.findReadSliceDTOByLocationV2AndStatusAndSortAndKeyword(
+                "서울특별시", "종로구", null, SOON, null, null, cursorStartDateTime, 1L, FIRST_PAGE));
+
+        Map<String, Object> plan = explain(query);
+
+        assertThat(plan.get("key")).isEqualTo(SOON_SORT_INDEX);
+        assertThat(String.valueOf(plan.get("Extra"))).doesNotContainIgnoringCase("filesort");
+    }
+
+    /**
+     * 기록된 SQL 을 같은 파라미터로 EXPLAIN
+     */
+    private Map<String, Object> explain(ExecutedSql query) {
+        assertThat(query.sql()).containsIgnoringCase("from gather_article");
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + query.sql(), query.parameters().toArray());
+
+        assertThat(rows).hasSize(1);
+        return rows.get(0);
+    }
+}
@@ -0,0 +1,359 @@
+package sumcoda.boardbuddy.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import sumcoda.boardbuddy.dto.event.BulkNotificationCreatedEvent;
+import sumcoda.boardbuddy.dto.event.NotificationCreatedEvent;
+import sumcoda.boardbuddy.dto.fetch.NotificationRecipientProjection;
+import sumcoda.boardbuddy.enumerate.EventName;
+import sumcoda.boardbuddy.repository.NotificationJdbcRepository;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 알림 처리 파이프라인의 커밋 이후 처리, 배치 저장, 저장 실패 시 재시도와 실패한 알림 격리, 유저별 전송 순서, 여러 유저에게 보내는 알림의 일괄 처리 검증
+ * SSE 전송은 가상 스레드에서 비동기로 일어나므로 전송 검증은 시간 제한을 두고 기다림
+ * 주기 처리 간격을 길게 두어 배치 크기에 도달했을 때의 즉시 처리와 직접 호출한 처리만 일어나도록 함
+ */
+@SpringJUnitConfig(classes = {NotificationDispatchService.class, NotificationDispatchServiceTest.TransactionConfig.class})
+@TestPropertySource(properties = {
+        "spring.notification.dispatch.batch-size=3",
+        "spring.notification.dispatch.flush-interval-millis=600000",
+        "spring.notification.dispatch.queue-capacity=10",
+        "spring.notification.dispatch.max-retries=2"
+})
+class NotificationDispatchServiceTest {
+
+    private static final long DISPATCH_TIMEOUT_MILLIS = 5_000;
+
+    @Autowired
+    private NotificationDispatchService notificationDispatchService;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private NotificationJdbcRepository notificationJdbcRepository;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        // 받는 유저가 모두 존재하여 알림마다 한 행씩 저장된 것으로 응답
+        when(notificationJdbcRepository.insertNotifications(anyList()))
+                .thenAnswer(invocation -> filledCounts(invocation.<List<?>>getArgument(0).size(), 1));
+    }
+
+    @Test
+    @DisplayName("알림은 트랜잭션이 커밋된 이후에 대기열에 추가된다")
+    void enqueuesAfterCommit() {
+        NotificationCreatedEvent event = event("committed-user");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            applicationEventPublisher.publishEvent(event);
+            assertThat(notificationDispatchService.getQueueDepth()).isZero();
+        });
+        assertThat(notificationDispatchService.getQueueDepth()).isEqualTo(1);
+
+        flush();
+
+        verify(notificationJdbcRepository).insertNotifications(List.of(event));
+        verify(notificationService, timeout(DISPATCH_TIMEOUT_MILLIS)).sendNotification(event.username(), event.message(), event.eventName());
+        assertThat(notificationDispatchService.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 알림은 저장, 전송되지 않는다")
+    void discardsOnRollback() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            applicationEventPublisher.publishEvent(event("rolled-back-user"));
+            status.setRollbackOnly();
+        });
+
+        flush();
+
+        assertThat(notificationDispatchService.getQueueDepth()).isZero();
+        verifyNoInteractions(notificationJdbcRepository, notificationService);
+    }
+
+    @Test
+    @DisplayName("대기열이 배치 크기에 도달하면 한 번의 배치로 저장한 뒤 모든 받는 유저에게 전송한다")
+    void flushesFullBatchImmediately() {
+        List<NotificationCreatedEvent> events = List.of(event("user-1"), event("user-2"), event("user-3"));
+
+        // 트랜잭션 밖에서 발행된 알림은 바로 대기열에 추가됨
+        events.forEach(applicationEventPublisher::publishEvent);
+
+        verify(notificationJdbcRepository, timeout(DISPATCH_TIMEOUT_MILLIS)).insertNotifications(events);
+        for (NotificationCreatedEvent event : events) {
+            verify(notificationService, timeout(DISPATCH_TIMEOUT_MILLIS))
+                    .sendNotification(event.username(), event.message(), event.eventName());
+        }
+        verify(notificationJdbcRepository, times(1)).insertNotifications(anyList());
+    }
+
+    @Test
+    @DisplayName("배치 저장에 실패하면 같은 순서로 대기열 앞쪽에 되돌려 다음 처리에서 재시도한다")
+    void requeuesFailedBatchInOrder() {
+        NotificationCreatedEvent first = event("retry-user-1");
+        NotificationCreatedEvent second = event("retry-user-2");
+        when(notificationJdbcRepository.insertNotifications(anyList()))
+                .thenThrow(new IllegalStateException("DB 연결 실패"))
+                .thenAnswer(invocation -> filledCounts(invocation.<List<?>>getArgument(0).size(), 1));
+        long failedFlushCount = notificationDispatchService.getFailedFlushCount();
+
+        applicationEventPublisher.publishEvent(first);
+        applicationEventPublisher.publishEvent(second);
+        flush();
+
+        assertThat(notificationDispatchService.getFailedFlushCount()).isEqualTo(failedFlushCount + 1);
+        assertThat(notificationDispatchService.getQueueDepth()).isEqualTo(2);
+        verifyNoInteractions(notificationService);
+
+        flush();
+
+        verify(notificationJdbcRepository, times(2)).insertNotifications(List.of(first, second));
+        verify(notificationService, timeout(DISPATCH_TIMEOUT_MILLIS)).sendNotification(first.username(), first.message(), first.eventName());
+        verify(notificationService, timeout(DISPATCH_TIMEOUT_MILLIS)).sendNotification(second.username(), second.message(), second.eventName());
+        assertThat(notificationDispatchService.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("일시적인 오류가 최대 재시도 횟수를 넘어 계속되면 알림을 버려 뒤의 알림을 막지 않는다")
+    void dropsAfterMaxRetries() {
+        NotificationCreatedEvent event = event("exhausted-user");
+        when(notificationJdbcRepository.insertNotifications(anyList()))
+                .thenThrow(new IllegalStateException("DB 연결 실패"));
+        long droppedCount = notificationDispatchService.getDroppedCount();
+
+        applicationEventPublisher.publishEvent(event);
+
+        // 최초 시도 + 최대 재시도 2회
+        flush();
+        flush();
+        assertThat(notificationDispatchService.getQueueDepth()).isEqualTo(1);
+        flush();
+
+        verify(notificationJdbcRepository, times(3)).insertNotifications(List.of(event));
+        assertThat(notificationDispatchService.getQueueDepth()).isZero();
+        assertThat(notificationDispatchService.getDroppedCount()).isEqualTo(droppedCount + 1);
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    @DisplayName("배치가 제약 조건을 위반하면 알림별로 다시 저장하여 위반한 알림만 버리고 나머지는 전송한다")
+    void isolatesConstraintViolatingRow() {
+        NotificationCreatedEvent valid = event("valid-user");
+        NotificationCreatedEvent invalid = event("invalid-user");
+        NotificationCreatedEvent another = event("another-user");
+        when(notificationJdbcRepository.insertNotifications(List.of(valid, invalid, another)))
+                .thenThrow(new DataIntegrityViolationException("Data too long for column 'message'"));
+        when(notificationJdbcRepository.insertNotifications(List.of(invalid)))
+                .thenThrow(new DataIntegrityViolationException("Data too long for column 'message'"));
+        long droppedCount = notificationDispatchService.getDroppedCount();
+
+        notificationDispatchService.onNotificationCreated(valid);
+        notificationDispatchService.onNotificationCreated(invalid);
+        notificationDispatchService.onNotificationCreated(another);
+        flush();
+
+        verify(notificationJdbcRepository).insertNotifications(List.of(valid));
+        verify(notificationJdbcRepository).insertNotifications(List.of(invalid));
+        verify(notificationJdbcRepository).insertNotifications(List.of(another));
+        verify(notificationService, timeout(DISPATCH_TIMEOUT_MILLIS)).sendNotification(valid.username(), valid.message(), valid.eventName());
+        verify(notificationService, timeout(DISPATCH_TIMEOUT_MILLIS)).sendNotification(another.username(), another.message(), another.eventName());
+        verify(notificationService, never()).sendNotification(eq(invalid.username()), anyString(), any());
+
+        // 버린 알림은 재시도하지 않음
+        assertThat(notificationDispatchService.getQueueDepth()).isZero();
+        assertThat(notificationDispatchService.getDroppedCount()).isEqualTo(droppedCount + 1);
+    }
+
+    @Test
+    @DisplayName("같은 유저의 알림은 앞선 전송이 느려도 저장된 순서대로 전송하고, 다른 유저의 전송은 기다리지 않는다")
+    void keepsPushOrderPerUser() throws InterruptedException {
+        NotificationCreatedEvent slowFirst = event("ordered-user");
+        NotificationCreatedEvent slowSecond = new NotificationCreatedEvent(slowFirst.username(), "두 번째 알림", EventName.WRITE_COMMENT, LocalDateTime.now());
+        NotificationCreatedEvent other = event("other-user");
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(DISPATCH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(notificationService).sendNotification(slowFirst.username(), slowFirst.message(), slowFirst.eventName());
+
+        notificationDispatchService.onNotificationCreated(slowFirst);
+        notificationDispatchService.onNotificationCreated(slowSecond);
+        notificationDispatchService.onNotificationCreated(other);
+        flush();
+
+        // 첫 알림의 전송이 끝나지 않아도 처리 스레드와 다른 유저의 전송은 진행됨
+        verify(notificationService, timeout(DISPATCH_TIMEOUT_MILLIS)).sendNotification(other.username(), other.message(), other.eventName());
+        verify(notificationService, never()).sendNotification(slowSecond.username(), slowSecond.message(), slowSecond.eventName());
+
+        release.countDown();
+
+        var inOrder = inOrder(notificationService);
+        inOrder.verify(notificationService, timeout(DISPATCH_TIMEOUT_MILLIS)).sendNotification(slowFirst.username(), slowFirst.message(), slowFirst.eventName());
+        inOrder.verify(notificationService, timeout(DISPATCH_TIMEOUT_MILLIS)).sendNotification(slowSecond.username(), slowSecond.message(), slowSecond.eventName());
+    }
+
+    @Test
+    @DisplayName("저장된 행이 없는 알림(탈퇴한 유저)은 전송하지 않는다")
+    void skipsPushWhenRecipientMissing() {
+        NotificationCreatedEvent withdrawn = event("withdrawn-user");
+        NotificationCreatedEvent active = event("active-user");
+        when(notificationJdbcRepository.insertNotifications(anyList())).thenReturn(new int[]{0, 1});
+
+        applicationEventPublisher.publishEvent(withdrawn);
+        applicationEventPublisher.publishEvent(active);
+        flush();
+
+        verify(notificationService, timeout(DISPATCH_TIMEOUT_MILLIS)).sendNotification(active.username(), active.message(), active.eventName());
+        verify(notificationService, never()).sendNotification(eq(withdrawn.username()), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("여러 유저에게 보내는 알림은 커밋 이후 한 번의 배치로 저장하고 모든 받는 유저에게 전송한다")
+    void dispatchesBulkAfterCommit() {
+        BulkNotificationCreatedEvent event = bulkEvent(
+                new NotificationRecipientProjection(1L, "bulk-user-1"),
+                new NotificationRecipientProjection(2L, "bulk-user-2"),
+                new NotificationRecipientProjection(3L, "bulk-user-3"),
+                new NotificationRecipientProjection(4L, "bulk-user-4"));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> applicationEventPublisher.publishEvent(event));
+
+        verify(notificationJdbcRepository, timeout(DISPATCH_TIMEOUT_MILLIS))
+                .insertNotificationsForMembers(List.of(1L, 2L, 3L, 4L), event.message(), event.createdAt());
+        for (NotificationRecipientProjection recipient : event.recipients()) {
+            verify(notificationService, timeout(DISPATCH_TIMEOUT_MILLIS))
+                    .sendNotification(recipient.username(), event.message(), event.eventName());
+        }
+        // 일괄 알림은 유저별 대기열을 거치지 않음
+        verify(notificationJdbcRepository, never()).insertNotifications(anyList());
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 여러 유저 알림은 저장, 전송되지 않는다")
+    void discardsBulkOnRollback() throws InterruptedException {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            applicationEventPublisher.publishEvent(bulkEvent(new NotificationRecipientProjection(1L, "bulk-rolled-back-user")));
+            status.setRollbackOnly();
+        });
+
+        // 일괄 처리 스레드에 예약된 작업이 있었다면 실행될 시간을 줌
+        awaitBulkDispatchThread();
+
+        verifyNoInteractions(notificationJdbcRepository, notificationService);
+    }
+
+    @Test
+    @DisplayName("일괄 저장에 실패하면 유저별 알림으로 나누어 대기열에서 다시 처리한다")
+    void fallsBackToPerUserQueueOnBulkFailure() throws InterruptedException {
+        BulkNotificationCreatedEvent event = bulkEvent(
+                new NotificationRecipientProjection(1L, "fallback-user-1"),
+                new NotificationRecipientProjection(2L, "fallback-user-2"));
+        doThrow(new IllegalStateException("DB 연결 실패"))
+                .when(notificationJdbcRepository).insertNotificationsForMembers(anyList(), anyString(), any());
+
+        applicationEventPublisher.publishEvent(event);
+        awaitBulkDispatchThread();
+
+        assertThat(notificationDispatchService.getQueueDepth()).isEqualTo(2);
+        verifyNoInteractions(notificationService);
+
+        flush();
+
+        verify(notificationJdbcRepository).insertNotifications(List.of(
+                new NotificationCreatedEvent("fallback-user-1", event.message(), event.eventName(), event.createdAt()),
+                new NotificationCreatedEvent("fallback-user-2", event.message(), event.eventName(), event.createdAt())));
+        verify(notificationService, timeout(DISPATCH_TIMEOUT_MILLIS)).sendNotification("fallback-user-1", event.message(), event.eventName());
+        verify(notificationService, timeout(DISPATCH_TIMEOUT_MILLIS)).sendNotification("fallback-user-2", event.message(), event.eventName());
+    }
+
+    private void flush() {
+        ReflectionTestUtils.invokeMethod(notificationDispatchService, "flushSafely");
+    }
+
+    /**
+     * 일괄 처리 스레드는 하나이므로 빈 작업이 끝날 때까지 기다리면 앞서 예약된 작업도 모두 끝난 것
+     */
+    private void awaitBulkDispatchThread() throws InterruptedException {
+        ExecutorService bulkDispatchExecutor = (ExecutorService) ReflectionTestUtils.getField(notificationDispatchService, "bulkDispatchExecutor");
+        CountDownLatch latch = new CountDownLatch(1);
+        bulkDispatchExecutor.execute(latch::countDown);
+        assertThat(latch.await(DISPATCH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    private static BulkNotificationCreatedEvent bulkEvent(NotificationRecipientProjection... recipients) {
+        return new BulkNotificationCreatedEvent(List.of(recipients), "새 모집글이 등록되었습니다", EventName.WRITE_GATHER_ARTICLE, LocalDateTime.now());
+    }
+
+    private static NotificationCreatedEvent event(String username) {
+        return new NotificationCreatedEvent(username, username + " 에게 보내는 알림", EventName.WRITE_COMMENT, LocalDateTime.now());
+    }
+
+    private static int[] filledCounts(int size, int count) {
+        int[] counts = new int[size];
+        Arrays.fill(counts, count);
+        return counts;
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TransactionConfig {
+
+        /**
+         * 실제 자원 없이 트랜잭션 동기화(커밋, 롤백 콜백)만 동작하는 트랜잭션 매니저
+         */
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new AbstractPlatformTransactionManager() {
+                @Override
+                protected Object doGetTransaction() {
+                    return new Object();
+                }
+
+                @Override
+                protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+                @Override
+                protected void doCommit(DefaultTransactionStatus status) {}
+
+                @Override
+                protected void doRollback(DefaultTransactionStatus status) {}
+            };
+        }
+    }
+}
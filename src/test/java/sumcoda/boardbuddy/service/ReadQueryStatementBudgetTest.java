@@ -0,0 +1,264 @@
+package sumcoda.boardbuddy.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import sumcoda.boardbuddy.cache.*;
+import sumcoda.boardbuddy.config.QueryDslConfig;
+import sumcoda.boardbuddy.config.SqlStatisticsConfig;
+import sumcoda.boardbuddy.dto.GatherArticleResponse;
+import sumcoda.boardbuddy.dto.NotificationResponse;
+import sumcoda.boardbuddy.dto.client.ChatRoomInfoDTO;
+import sumcoda.boardbuddy.dto.client.CommentInfoDTO;
+import sumcoda.boardbuddy.dto.client.ParticipationApplicationInfoDTO;
+import sumcoda.boardbuddy.entity.*;
+import sumcoda.boardbuddy.enumerate.MemberChatRoomRole;
+import sumcoda.boardbuddy.enumerate.MemberGatherArticleRole;
+import sumcoda.boardbuddy.enumerate.ParticipationApplicationStatus;
+import sumcoda.boardbuddy.exception.gatherArticle.GatherArticleNotFoundException;
+import sumcoda.boardbuddy.exception.member.MemberNotFoundException;
+import sumcoda.boardbuddy.exception.member.MemberRetrievalException;
+import sumcoda.boardbuddy.generator.CloudFrontSignedUrlGenerator;
+import sumcoda.boardbuddy.mapper.ChatRoomMapper;
+import sumcoda.boardbuddy.mapper.CommentMapper;
+import sumcoda.boardbuddy.mapper.GatherArticleMapper;
+import sumcoda.boardbuddy.mapper.ParticipationApplicationMapper;
+import sumcoda.boardbuddy.repository.GatherArticleJdbcRepository;
+import sumcoda.boardbuddy.repository.sseEmitter.SseEmitterRepositoryImpl;
+import sumcoda.boardbuddy.support.MariaDbContainerSupport;
+import sumcoda.boardbuddy.util.NotificationMessageUtil;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static sumcoda.boardbuddy.metrics.SqlStatementCounter.assertStatementBudget;
+import static sumcoda.boardbuddy.metrics.SqlStatementCounter.countStatements;
+import static sumcoda.boardbuddy.support.TestEntityFactory.gatherArticle;
+import static sumcoda.boardbuddy.support.TestEntityFactory.member;
+
+/**
+ * 존재 여부 확인을 조회 쿼리에 합친 읽기 API(댓글, 알림, 채팅방 목록, 참가 신청 현황, 참가 신청 목록)의 SQL statement 예산 검증
+ * 자식 행이 여러 개여도 statement 수가 늘지 않는지(N+1 이 아닌지), 부모가 없을 때 몇 번의 쿼리로 판단하는지 확인
+ * 캐시, 매퍼 등은 실제 빈을 사용하고 외부 시스템(CloudFront, Redis, Quartz)에 연결되는 협력 객체만 대체
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, SqlStatisticsConfig.class, ReadQueryStatementBudgetTest.InfrastructureConfig.class,
+        CommentService.class, CommentMapper.class,
+        NotificationService.class, NotificationMessageUtil.class, SseEmitterRepositoryImpl.class,
+        ChatRoomService.class, ChatRoomMapper.class,
+        GatherArticleService.class, GatherArticleMapper.class,
+        ParticipationApplicationService.class, ParticipationApplicationMapper.class,
+        LocalCacheEvictionRelay.class, ChatRoomMembershipCache.class, ChatRoomRecentMessageBuffer.class,
+        GatherArticleSearchIndex.class, GatherArticleJdbcRepository.class, GatherArticleListCache.class, GatherArticleDetailCache.class})
+// 측정할 쿼리가 테스트 트랜잭션의 Connection 을 재사용하지 않도록 트랜잭션 없이 실행
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadQueryStatementBudgetTest extends MariaDbContainerSupport {
+
+    private static final int CHILD_COUNT = 5;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private ChatRoomService chatRoomService;
+
+    @Autowired
+    private GatherArticleService gatherArticleService;
+
+    @Autowired
+    private ParticipationApplicationService participationApplicationService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 외부 시스템에 연결되는 협력 객체 (측정하는 읽기 API 에서는 호출되지 않거나 DB를 사용하지 않음)
+    @MockitoBean
+    private CloudFrontSignedUrlGenerator cloudFrontSignedUrlGenerator;
+
+    @MockitoBean
+    private CloudFrontSignedUrlService cloudFrontSignedUrlService;
+
+    @MockitoBean
+    private StringRedisTemplate stringRedisTemplate;
+
+    @MockitoBean
+    private GatherArticleStatusUpdateSchedulingService gatherArticleStatusUpdateSchedulingService;
+
+    @Test
+    @DisplayName("댓글 목록은 댓글 수와 관계없이 한 번의 쿼리로 조회한다")
+    void commentsInOneStatement() {
+        GatherArticle article = inTransaction(() -> {
+            Member author = persist(member());
+            GatherArticle gatherArticle = persist(gatherArticle(author, "서울특별시", "종로구", LocalDateTime.now().plusDays(1)));
+            for (int i = 0; i < CHILD_COUNT; i++) {
+                Comment parent = persist(Comment.buildComment("댓글 " + i, persist(member()), gatherArticle, null));
+                persist(Comment.buildComment("답글 " + i, author, gatherArticle, parent));
+            }
+            return gatherArticle;
+        });
+
+        List<CommentInfoDTO> comments = assertStatementBudget(1, () -> commentService.getComments(article.getId()));
+
+        assertThat(comments).hasSize(CHILD_COUNT)
+                .allSatisfy(comment -> assertThat(comment.children()).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("댓글이 없는 모집글과 존재하지 않는 모집글도 한 번의 쿼리로 구분한다")
+    void commentsParentCheckInOneStatement() {
+        GatherArticle article = inTransaction(() -> persist(gatherArticle(persist(member()), "서울특별시", "종로구", LocalDateTime.now().plusDays(1))));
+
+        List<CommentInfoDTO> comments = assertStatementBudget(1, () -> commentService.getComments(article.getId()));
+        int missingArticleStatements = countStatements(() -> assertThatThrownBy(() -> commentService.getComments(Long.MAX_VALUE))
+                .isInstanceOf(GatherArticleNotFoundException.class));
+
+        assertThat(comments).isEmpty();
+        assertThat(missingArticleStatements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("알림 목록은 알림 수와 관계없이 한 번의 쿼리로 조회하고, 없는 사용자도 같은 쿼리로 판단한다")
+    void notificationsInOneStatement() {
+        Member receiver = inTransaction(() -> {
+            Member member = persist(member());
+            for (int i = 0; i < CHILD_COUNT; i++) {
+                persist(Notification.buildNotification("알림 " + i, LocalDateTime.now().minusMinutes(i), member));
+            }
+            return member;
+        });
+
+        List<NotificationResponse.NotificationDTO> notifications = assertStatementBudget(1, () -> notificationService.getNotifications(receiver.getUsername()));
+        int missingMemberStatements = countStatements(() -> assertThatThrownBy(() -> notificationService.getNotifications("missing-user"))
+                .isInstanceOf(MemberNotFoundException.class));
+
+        assertThat(notifications).hasSize(CHILD_COUNT);
+        assertThat(missingMemberStatements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("채팅방 목록은 채팅방 수와 관계없이 한 번의 쿼리로 조회하고, 없는 사용자도 같은 쿼리로 판단한다")
+    void chatRoomListInOneStatement() {
+        Member participant = inTransaction(() -> {
+            Member member = persist(member());
+            for (int i = 0; i < CHILD_COUNT; i++) {
+                GatherArticle gatherArticle = persist(gatherArticle(member, "서울특별시", "종로구", LocalDateTime.now().plusDays(1)));
+                ChatRoom chatRoom = persist(ChatRoom.buildChatRoom(gatherArticle));
+                persist(MemberChatRoom.buildMemberChatRoom(LocalDateTime.now(), MemberChatRoomRole.HOST, member, chatRoom));
+            }
+            return member;
+        });
+
+        List<ChatRoomInfoDTO> chatRooms = assertStatementBudget(1, () -> chatRoomService.getChatRoomDetailsListByUsername(participant.getUsername()));
+        int missingMemberStatements = countStatements(() -> assertThatThrownBy(() -> chatRoomService.getChatRoomDetailsListByUsername("missing-user"))
+                .isInstanceOf(MemberRetrievalException.class));
+
+        assertThat(chatRooms).hasSize(CHILD_COUNT);
+        assertThat(missingMemberStatements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("참가 신청 현황은 모집글, 사용자 확인을 포함하여 한 번의 쿼리로 조회하고, 실패하면 한 번 더 확인하여 없는 모집글과 없는 사용자를 구분한다")
+    void participationStatusInOneStatement() {
+        ArticleMember fixture = inTransaction(() -> {
+            GatherArticle gatherArticle = persist(gatherArticle(persist(member()), "서울특별시", "종로구", LocalDateTime.now().plusDays(1)));
+            Member applicant = persist(member());
+            MemberGatherArticle memberGatherArticle = persist(MemberGatherArticle.buildMemberGatherArticle(
+                    LocalDateTime.now(), MemberGatherArticleRole.NONE, 0, applicant, gatherArticle));
+            persist(ParticipationApplication.buildParticipationApplication(0, ParticipationApplicationStatus.PENDING, memberGatherArticle));
+            return new ArticleMember(gatherArticle, applicant);
+        });
+
+        GatherArticleResponse.ParticipationApplicationStatusDTO status = assertStatementBudget(1,
+                () -> gatherArticleService.getParticipationApplicationStatus(fixture.article().getId(), fixture.member().getUsername()));
+        int missingArticleStatements = countStatements(() -> assertThatThrownBy(
+                () -> gatherArticleService.getParticipationApplicationStatus(Long.MAX_VALUE, fixture.member().getUsername()))
+                .isInstanceOf(GatherArticleNotFoundException.class));
+        int missingMemberStatements = countStatements(() -> assertThatThrownBy(
+                () -> gatherArticleService.getParticipationApplicationStatus(fixture.article().getId(), "missing-user"))
+                .isInstanceOf(MemberRetrievalException.class));
+
+        assertThat(status.getParticipationApplicationStatus()).isEqualTo(ParticipationApplicationStatus.PENDING);
+        assertThat(missingArticleStatements).isEqualTo(2);
+        assertThat(missingMemberStatements).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("참가 신청 목록은 작성자 확인 한 번과 목록 조회 한 번으로 처리한다")
+    void applicantsInTwoStatements() {
+        ArticleMember fixture = inTransaction(() -> {
+            Member author = persist(member());
+            GatherArticle gatherArticle = persist(gatherArticle(author, "서울특별시", "종로구", LocalDateTime.now().plusDays(1)));
+            persist(MemberGatherArticle.buildMemberGatherArticle(LocalDateTime.now(), MemberGatherArticleRole.AUTHOR, 0, author, gatherArticle));
+            for (int i = 0; i < CHILD_COUNT; i++) {
+                MemberGatherArticle memberGatherArticle = persist(MemberGatherArticle.buildMemberGatherArticle(
+                        LocalDateTime.now(), MemberGatherArticleRole.NONE, 0, persist(member()), gatherArticle));
+                persist(ParticipationApplication.buildParticipationApplication(0, ParticipationApplicationStatus.PENDING, memberGatherArticle));
+            }
+            return new ArticleMember(gatherArticle, author);
+        });
+
+        List<ParticipationApplicationInfoDTO> applicants = assertStatementBudget(2,
+                () -> participationApplicationService.getParticipationAppliedMemberList(fixture.article().getId(), fixture.member().getUsername()));
+
+        assertThat(applicants).hasSize(CHILD_COUNT);
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        List<T> result = new ArrayList<>(1);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> result.add(action.get()));
+        return result.get(0);
+    }
+
+    /**
+     * 모집글과 그 모집글에 관련된 사용자(작성자 또는 신청자)
+     */
+    private record ArticleMember(GatherArticle article, Member member) {}
+
+    /**
+     * DataJpaTest 에 포함되지 않는 공통 빈
+     */
+    @TestConfiguration
+    static class InfrastructureConfig {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().findAndRegisterModules();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package sumcoda.boardbuddy.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * 테스트에서 작업이 실제로 실행한 SQL 과 바인딩된 파라미터를 기록
+ * 쿼리 빌더(QueryDSL, Hibernate)가 생성한 SQL 을 손으로 옮겨 적지 않고 그대로 EXPLAIN 하기 위해 사용
+ * 기록 중이 아닌 스레드에서는 Connection 을 감싸지 않고 그대로 반환
+ * 기록 중에 Connection 을 얻어야 하므로 트랜잭션 밖에서 호출해야 함
+ */
+public final class ExecutedSqlRecorder {
+
+    private static final ThreadLocal<List<ExecutedSql>> RECORDING = new ThreadLocal<>();
+
+    private ExecutedSqlRecorder() {}
+
+    /**
+     * 작업을 실행하는 동안 현재 스레드에서 실행된 PreparedStatement 를 실행 순서대로 기록
+     *
+     * @param action 기록할 작업
+     * @return 실행된 SQL 과 파라미터 목록
+     */
+    public static List<ExecutedSql> record(Runnable action) {
+        List<ExecutedSql> executed = new ArrayList<>();
+        RECORDING.set(executed);
+        try {
+            action.run();
+        } finally {
+            RECORDING.remove();
+        }
+        return executed;
+    }
+
+    /**
+     * 작업이 마지막으로 실행한 SQL 을 기록
+     *
+     * @param action 기록할 작업
+     * @return 마지막으로 실행된 SQL 과 파라미터
+     */
+    public static ExecutedSql recordLast(Runnable action) {
+        List<ExecutedSql> executed = record(action);
+        if (executed.isEmpty()) {
+            throw new IllegalStateException("기록된 SQL 이 없습니다. 트랜잭션 밖에서 호출했는지 확인해야 합니다.");
+        }
+        return executed.get(executed.size() - 1);
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        List<ExecutedSql> executed = RECORDING.get();
+        if (executed == null) {
+            return connection;
+        }
+
+        return (Connection) Proxy.newProxyInstance(
+                ExecutedSqlRecorder.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object identity = handleIdentity(proxy, method, args);
+                    if (identity != null) {
+                        return identity;
+                    }
+
+                    Object result = invoke(connection, method, args);
+
+                    // prepareStatement, prepareCall 이 반환하는 Statement 만 SQL 을 알 수 있으므로 감쌈
+                    if (result instanceof PreparedStatement statement && method.getName().startsWith("prepare")) {
+                        return wrapStatement(statement, (String) args[0], method.getReturnType(), executed);
+                    }
+                    return result;
+                });
+    }
+
+    private static Object wrapStatement(PreparedStatement statement, String sql, Class<?> statementType, List<ExecutedSql> executed) {
+        // 파라미터 위치 → 바인딩된 값
+        Map<Integer, Object> parameters = new TreeMap<>();
+
+        return Proxy.newProxyInstance(
+                ExecutedSqlRecorder.class.getClassLoader(),
+                new Class<?>[]{statementType},
+                (proxy, method, args) -> {
+                    Object identity = handleIdentity(proxy, method, args);
+                    if (identity != null) {
+                        return identity;
+                    }
+
+                    String name = method.getName();
+                    if (name.equals("setNull") && args[0] instanceof Integer index) {
+                        parameters.put(index, null);
+                    } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        parameters.put(index, args[1]);
+                    } else if (name.equals("clearParameters")) {
+                        parameters.clear();
+                    } else if (name.startsWith("execute")) {
+                        executed.add(new ExecutedSql(sql, Collections.unmodifiableList(new ArrayList<>(parameters.values()))));
+                    }
+
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * proxy 의 equals, hashCode 는 proxy 자신을 기준으로 처리
+     *
+     * @return 처리했으면 결과, equals, hashCode 가 아니면 null
+     */
+    private static Object handleIdentity(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    /**
+     * 실행된 SQL 과 위치 순서대로 정렬된 바인딩 파라미터
+     */
+    public record ExecutedSql(String sql, List<Object> parameters) {}
+
+    /**
+     * 애플리케이션의 DataSource 를 실행된 SQL 을 기록하는 DataSource 로 감쌈
+     */
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        public static BeanPostProcessor executedSqlRecorderPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof RecordingDataSource)) {
+                        return new RecordingDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    private static class RecordingDataSource extends DelegatingDataSource {
+
+        private RecordingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrapConnection(obtainTargetDataSource().getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+        }
+    }
+}
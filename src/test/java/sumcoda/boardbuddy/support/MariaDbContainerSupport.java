@@ -0,0 +1,28 @@
+package sumcoda.boardbuddy.support;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MariaDBContainer;
+
+/**
+ * 운영과 같은 MariaDB 에서 실행해야 하는 테스트의 공통 상위 클래스
+ * 컨테이너는 JVM 당 한 번만 시작하여 캐시된 Spring 테스트 컨텍스트들이 함께 사용
+ * 스키마는 엔티티로 생성하고 data.sql(지역 데이터)은 실행하지 않음
+ */
+public abstract class MariaDbContainerSupport {
+
+    protected static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4");
+
+    static {
+        MARIADB.start();
+    }
+
+    @DynamicPropertySource
+    static void mariaDbProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MARIADB::getJdbcUrl);
+        registry.add("spring.datasource.username", MARIADB::getUsername);
+        registry.add("spring.datasource.password", MARIADB::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.sql.init.mode", () -> "never");
+    }
+}
@@ -0,0 +1,31 @@
+package sumcoda.boardbuddy.support;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Redis pub/sub 중계를 여러 인스턴스로 검증하는 테스트의 공통 상위 클래스
+ * 컨테이너는 JVM 당 한 번만 시작하고, 인스턴스마다 별도의 연결을 만들어 서로 다른 서버처럼 사용
+ */
+public abstract class RedisContainerSupport {
+
+    protected static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    static {
+        REDIS.start();
+    }
+
+    /**
+     * 테스트 컨테이너에 연결하는 새 연결 팩토리를 생성 (호출한 쪽에서 destroy 해야 함)
+     */
+    protected static LettuceConnectionFactory newConnectionFactory() {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        return connectionFactory;
+    }
+}
@@ -0,0 +1,73 @@
+package sumcoda.boardbuddy.support;
+
+import sumcoda.boardbuddy.entity.GatherArticle;
+import sumcoda.boardbuddy.entity.Member;
+import sumcoda.boardbuddy.enumerate.GatherArticleStatus;
+import sumcoda.boardbuddy.enumerate.MemberType;
+import sumcoda.boardbuddy.enumerate.Role;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 엔티티 생성
+ * 테스트끼리 데이터를 공유하는 DB에서도 충돌하지 않도록 아이디, 닉네임 등 고유 값에 일련번호를 붙임
+ */
+public final class TestEntityFactory {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private TestEntityFactory() {}
+
+    public static Member member() {
+        int sequence = SEQUENCE.incrementAndGet();
+
+        return Member.buildMember(
+                "test-user-" + sequence,
+                "password",
+                "test-nickname-" + sequence,
+                "test-user-" + sequence + "@boardbuddy.test",
+                String.format("010%08d", sequence),
+                50.0,
+                0,
+                0,
+                0,
+                0,
+                0,
+                0,
+                0,
+                0,
+                0,
+                null,
+                null,
+                0.0,
+                MemberType.REGULAR,
+                Role.USER,
+                null);
+    }
+
+    /**
+     * 작성자 정보가 비정규화된 모집글 생성 (작성자는 이미 저장되어 Id가 있어야 함)
+     */
+    public static GatherArticle gatherArticle(Member author, String sido, String sgg, LocalDateTime startDateTime) {
+        int sequence = SEQUENCE.incrementAndGet();
+
+        GatherArticle gatherArticle = GatherArticle.buildGatherArticle(
+                "테스트 모집글 " + sequence,
+                1,
+                4,
+                GatherArticleStatus.OPEN,
+                "테스트 모집글 설명 " + sequence,
+                startDateTime,
+                startDateTime.plusHours(3),
+                sido,
+                sgg,
+                "테스트동",
+                "테스트 장소",
+                127.0,
+                37.5);
+        gatherArticle.assignAuthor(author);
+
+        return gatherArticle;
+    }
+}
@@ -0,0 +1,117 @@
+package sumcoda.boardbuddy.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.util.Pair;
+import sumcoda.boardbuddy.enumerate.ChatMessageCursorDirection;
+import sumcoda.boardbuddy.exception.InvalidChatMessageCursorException;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatMessageCursorCodecTest {
+
+    private static final Instant SENT_AT = Instant.ofEpochMilli(1_792_345_678_123L);
+
+    private static final long CHAT_MESSAGE_ID = 987_654_321L;
+
+    @ParameterizedTest
+    @EnumSource(ChatMessageCursorDirection.class)
+    @DisplayName("인코딩한 커서를 같은 방향으로 디코딩하면 전송 시각과 메세지 Id가 그대로 복원된다")
+    void roundTrip(ChatMessageCursorDirection direction) {
+        String cursor = ChatMessageCursorCodec.encode(SENT_AT, CHAT_MESSAGE_ID, direction);
+
+        Pair<Instant, Long> decoded = ChatMessageCursorCodec.decode(cursor, direction);
+
+        assertThat(cursor).hasSize(30).matches("[A-Za-z0-9_-]+");
+        assertThat(decoded.getFirst()).isEqualTo(SENT_AT);
+        assertThat(decoded.getSecond()).isEqualTo(CHAT_MESSAGE_ID);
+    }
+
+    @Test
+    @DisplayName("한 글자라도 바뀐 커서는 체크섬이 맞지 않아 거부된다")
+    void rejectTamperedCursor() {
+        String cursor = ChatMessageCursorCodec.encode(SENT_AT, CHAT_MESSAGE_ID, ChatMessageCursorDirection.OLDER);
+
+        for (int i = 0; i < cursor.length(); i++) {
+            char replacement = cursor.charAt(i) == 'A' ? 'B' : 'A';
+            String tampered = cursor.substring(0, i) + replacement + cursor.substring(i + 1);
+
+            assertThatThrownBy(() -> ChatMessageCursorCodec.decode(tampered, ChatMessageCursorDirection.OLDER))
+                    .isInstanceOf(InvalidChatMessageCursorException.class);
+        }
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"AAAAAAAAAAAAAAAAAAAAAAAAAAAAA", "AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA", "1792345678123_987654321"})
+    @DisplayName("길이가 다른 커서와 이전 형식(epochMilli_id) 커서는 거부된다")
+    void rejectWrongLength(String cursor) {
+        assertThatThrownBy(() -> ChatMessageCursorCodec.decode(cursor, ChatMessageCursorDirection.OLDER))
+                .isInstanceOf(InvalidChatMessageCursorException.class);
+    }
+
+    @Test
+    @DisplayName("URL-safe Base64 가 아닌 문자가 포함된 커서는 거부된다")
+    void rejectInvalidCharacters() {
+        String cursor = ChatMessageCursorCodec.encode(SENT_AT, CHAT_MESSAGE_ID, ChatMessageCursorDirection.OLDER);
+        String invalid = "+" + cursor.substring(1);
+
+        assertThatThrownBy(() -> ChatMessageCursorCodec.decode(invalid, ChatMessageCursorDirection.OLDER))
+                .isInstanceOf(InvalidChatMessageCursorException.class);
+    }
+
+    @Test
+    @DisplayName("체크섬이 맞더라도 지원하지 않는 버전의 커서는 거부된다")
+    void rejectWrongVersion() {
+        String cursor = encodeRaw((byte) 2, (byte) ChatMessageCursorDirection.OLDER.ordinal(), SENT_AT.toEpochMilli(), CHAT_MESSAGE_ID);
+
+        assertThatThrownBy(() -> ChatMessageCursorCodec.decode(cursor, ChatMessageCursorDirection.OLDER))
+                .isInstanceOf(InvalidChatMessageCursorException.class);
+    }
+
+    @Test
+    @DisplayName("다른 방향으로 발급된 커서는 거부된다")
+    void rejectWrongDirection() {
+        String cursor = ChatMessageCursorCodec.encode(SENT_AT, CHAT_MESSAGE_ID, ChatMessageCursorDirection.NEWER);
+
+        assertThatThrownBy(() -> ChatMessageCursorCodec.decode(cursor, ChatMessageCursorDirection.OLDER))
+                .isInstanceOf(InvalidChatMessageCursorException.class);
+    }
+
+    @Test
+    @DisplayName("체크섬이 맞더라도 메세지 Id가 양수가 아니거나 전송 시각이 음수면 거부된다")
+    void rejectOutOfRangeValues() {
+        byte direction = (byte) ChatMessageCursorDirection.OLDER.ordinal();
+        String zeroId = encodeRaw((byte) 1, direction, SENT_AT.toEpochMilli(), 0L);
+        String negativeSentAt = encodeRaw((byte) 1, direction, -1L, CHAT_MESSAGE_ID);
+
+        assertThatThrownBy(() -> ChatMessageCursorCodec.decode(zeroId, ChatMessageCursorDirection.OLDER))
+                .isInstanceOf(InvalidChatMessageCursorException.class);
+        assertThatThrownBy(() -> ChatMessageCursorCodec.decode(negativeSentAt, ChatMessageCursorDirection.OLDER))
+                .isInstanceOf(InvalidChatMessageCursorException.class);
+    }
+
+    /**
+     * 코덱과 같은 배치로 임의의 필드 값을 담고 올바른 체크섬을 붙인 커서를 생성
+     */
+    private static String encodeRaw(byte version, byte direction, long epochMilli, long chatMessageId) {
+        ByteBuffer buffer = ByteBuffer.allocate(22);
+        buffer.put(version).put(direction).putLong(epochMilli).putLong(chatMessageId);
+
+        CRC32 crc32 = new CRC32();
+        crc32.update(buffer.array(), 0, 18);
+        buffer.putInt((int) crc32.getValue());
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+}
@@ -0,0 +1,122 @@
+package sumcoda.boardbuddy.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.util.Pair;
+import sumcoda.boardbuddy.exception.gatherArticle.GatherArticleCursorException;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GatherArticleCursorCodecTest {
+
+    private static final LocalDateTime START_DATE_TIME = LocalDateTime.of(2026, 10, 18, 19, 30, 15, 123_456_789);
+
+    private static final long GATHER_ARTICLE_ID = 12_345L;
+
+    private static final byte SORT_LATEST = 0;
+
+    private static final byte SORT_SOON = 1;
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = "soon")
+    @DisplayName("인코딩한 커서를 같은 정렬로 디코딩하면 시작 시각(나노초 포함)과 모집글 Id가 그대로 복원된다")
+    void roundTrip(String sort) {
+        String cursor = GatherArticleCursorCodec.encode(sort, START_DATE_TIME, GATHER_ARTICLE_ID);
+
+        Pair<LocalDateTime, Long> decoded = GatherArticleCursorCodec.decode(cursor, sort);
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+        assertThat(decoded.getFirst()).isEqualTo(START_DATE_TIME);
+        assertThat(decoded.getSecond()).isEqualTo(GATHER_ARTICLE_ID);
+    }
+
+    @Test
+    @DisplayName("한 글자라도 바뀐 커서는 거부된다")
+    void rejectTamperedCursor() {
+        String cursor = GatherArticleCursorCodec.encode("soon", START_DATE_TIME, GATHER_ARTICLE_ID);
+
+        // 마지막 글자는 패딩 비트만 바뀌어 같은 바이트로 디코딩될 수 있으므로 제외
+        for (int i = 0; i < cursor.length() - 1; i++) {
+            char replacement = cursor.charAt(i) == 'A' ? 'B' : 'A';
+            String tampered = cursor.substring(0, i) + replacement + cursor.substring(i + 1);
+
+            assertThatThrownBy(() -> GatherArticleCursorCodec.decode(tampered, "soon"))
+                    .isInstanceOf(GatherArticleCursorException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("길이가 다르거나 Base64 가 아닌 커서는 거부된다")
+    void rejectWrongLength() {
+        String cursor = GatherArticleCursorCodec.encode(null, START_DATE_TIME, GATHER_ARTICLE_ID);
+
+        assertThatThrownBy(() -> GatherArticleCursorCodec.decode(cursor.substring(0, cursor.length() - 4), null))
+                .isInstanceOf(GatherArticleCursorException.class);
+        assertThatThrownBy(() -> GatherArticleCursorCodec.decode(cursor + "AAAA", null))
+                .isInstanceOf(GatherArticleCursorException.class);
+        assertThatThrownBy(() -> GatherArticleCursorCodec.decode("not+a/cursor", null))
+                .isInstanceOf(GatherArticleCursorException.class);
+    }
+
+    @Test
+    @DisplayName("다른 정렬로 발급된 커서는 거부된다")
+    void rejectWrongSort() {
+        String soonCursor = GatherArticleCursorCodec.encode("soon", START_DATE_TIME, GATHER_ARTICLE_ID);
+        String latestCursor = GatherArticleCursorCodec.encode(null, START_DATE_TIME, GATHER_ARTICLE_ID);
+
+        assertThatThrownBy(() -> GatherArticleCursorCodec.decode(soonCursor, null))
+                .isInstanceOf(GatherArticleCursorException.class);
+        assertThatThrownBy(() -> GatherArticleCursorCodec.decode(latestCursor, "soon"))
+                .isInstanceOf(GatherArticleCursorException.class);
+    }
+
+    @Test
+    @DisplayName("마감 임박순 정렬이 바뀌기 전의 버전 1 커서는 체크섬이 맞더라도 거부된다")
+    void rejectPreviousVersion() {
+        String cursor = encodeRaw((byte) 1, SORT_SOON, START_DATE_TIME.toEpochSecond(ZoneOffset.UTC), START_DATE_TIME.getNano(), GATHER_ARTICLE_ID);
+
+        assertThatThrownBy(() -> GatherArticleCursorCodec.decode(cursor, "soon"))
+                .isInstanceOf(GatherArticleCursorException.class);
+    }
+
+    @Test
+    @DisplayName("체크섬이 맞더라도 나노초나 모집글 Id가 범위를 벗어나면 거부된다")
+    void rejectOutOfRangeValues() {
+        long epochSecond = START_DATE_TIME.toEpochSecond(ZoneOffset.UTC);
+        String invalidNano = encodeRaw((byte) 2, SORT_LATEST, epochSecond, 1_000_000_000, GATHER_ARTICLE_ID);
+        String invalidId = encodeRaw((byte) 2, SORT_LATEST, epochSecond, 0, 0L);
+        String invalidEpochSecond = encodeRaw((byte) 2, SORT_LATEST, Long.MAX_VALUE, 0, GATHER_ARTICLE_ID);
+
+        assertThatThrownBy(() -> GatherArticleCursorCodec.decode(invalidNano, null))
+                .isInstanceOf(GatherArticleCursorException.class);
+        assertThatThrownBy(() -> GatherArticleCursorCodec.decode(invalidId, null))
+                .isInstanceOf(GatherArticleCursorException.class);
+        assertThatThrownBy(() -> GatherArticleCursorCodec.decode(invalidEpochSecond, null))
+                .isInstanceOf(GatherArticleCursorException.class);
+    }
+
+    /**
+     * 코덱과 같은 배치로 임의의 필드 값을 담고 올바른 체크섬을 붙인 커서를 생성
+     */
+    private static String encodeRaw(byte version, byte sort, long epochSecond, int nano, long gatherArticleId) {
+        ByteBuffer buffer = ByteBuffer.allocate(26);
+        buffer.put(version).put(sort).putLong(epochSecond).putInt(nano).putLong(gatherArticleId);
+
+        CRC32 crc32 = new CRC32();
+        crc32.update(buffer.array(), 0, 22);
+        buffer.putInt((int) crc32.getValue());
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+}